@@ -0,0 +1,48 @@
+package com.customer.management.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Deterministic customer fixtures shared by the benchmarks.
+ */
+final class BenchmarkCustomers {
+
+    private BenchmarkCustomers() {
+    }
+
+    static Customer customer(int n) {
+        Customer customer = new Customer();
+        customer.setId(new UUID(0x4a1d_0000_0000_4000L + n, 0x8000_0000_0000_0000L | n));
+        customer.setFirstName("First" + n);
+        customer.setMiddleName(n % 3 == 0 ? "Middle" + n : null);
+        customer.setLastName("Last" + n);
+        customer.setEmailAddress("customer" + n + "@example.com");
+        customer.setPhoneNumber(String.format("+49151%07d", n % 10_000_000));
+        customer.setVersion(0L);
+        return customer;
+    }
+
+    static List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            customers.add(customer(n));
+        }
+        return customers;
+    }
+
+    /**
+     * A customer without id and version, as a client sends it to be created.
+     */
+    static Customer newCustomer(long n) {
+        Customer customer = new Customer();
+        customer.setFirstName("Bench");
+        customer.setLastName("Mark" + n);
+        customer.setEmailAddress("bench" + n + "@example.com");
+        customer.setPhoneNumber(String.format("+49160%07d", n % 10_000_000));
+        return customer;
+    }
+}
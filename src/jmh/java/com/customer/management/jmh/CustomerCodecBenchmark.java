@@ -0,0 +1,76 @@
+package com.customer.management.jmh;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.customer.management.config.CustomerJacksonModule;
+import com.customer.management.entity.Customer;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * The response formats of the customer API for a list of 1k customers, the body of
+ * {@code GET /v1/customers} with a small cap: JSON with Jackson's generic bean serializers
+ * ({@code json-bean}, the format before {@link CustomerJacksonModule}) and JSON, Smile and CBOR
+ * with the module's hand-written serializers. Each trial prints its payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerCodecBenchmark {
+
+    @Param({"json-bean", "json", "smile", "cbor"})
+    String format;
+
+    private ObjectMapper mapper;
+    private List<Customer> customers;
+    private byte[] payload;
+    private JavaType type;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (format) {
+            case "json-bean" -> { }
+            case "json" -> builder.modulesToInstall(new CustomerJacksonModule());
+            case "smile" -> builder.factory(new SmileFactory()).modulesToInstall(new CustomerJacksonModule());
+            case "cbor" -> builder.factory(new CBORFactory()).modulesToInstall(new CustomerJacksonModule());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        mapper = builder.build();
+        customers = BenchmarkCustomers.customers(1000);
+        payload = mapper.writeValueAsBytes(customers);
+        type = mapper.getTypeFactory().constructCollectionType(List.class, Customer.class);
+        System.out.printf("%n%s: %,d bytes for %,d customers (%.1f per customer)%n", format, payload.length,
+                customers.size(), payload.length / (double) customers.size());
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return mapper.writeValueAsBytes(customers);
+    }
+
+    @Benchmark
+    public List<Customer> deserializeList() throws IOException {
+        return mapper.readValue(payload, type);
+    }
+}
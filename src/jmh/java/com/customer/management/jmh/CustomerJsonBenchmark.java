@@ -0,0 +1,87 @@
+package com.customer.management.jmh;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.customer.management.entity.Customer;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson serialization and deserialization of {@link Customer}, alone and in lists, with an
+ * {@link ObjectMapper} configured the way Spring builds the application's one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerJsonBenchmark {
+
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    @State(Scope.Benchmark)
+    public static class Single {
+
+        Customer customer;
+        byte[] json;
+
+        @Setup
+        public void setUp() throws IOException {
+            customer = BenchmarkCustomers.customer(42);
+            json = MAPPER.writeValueAsBytes(customer);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Lists {
+
+        @Param({"1000", "100000"})
+        int size;
+
+        List<Customer> customers;
+        byte[] json;
+        JavaType type;
+
+        @Setup
+        public void setUp() throws IOException {
+            customers = BenchmarkCustomers.customers(size);
+            json = MAPPER.writeValueAsBytes(customers);
+            type = MAPPER.getTypeFactory().constructCollectionType(List.class, Customer.class);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer(Single state) throws IOException {
+        return MAPPER.writeValueAsBytes(state.customer);
+    }
+
+    @Benchmark
+    public Customer deserializeCustomer(Single state) throws IOException {
+        return MAPPER.readValue(state.json, Customer.class);
+    }
+
+    @Benchmark
+    public byte[] serializeList(Lists state) throws IOException {
+        return MAPPER.writeValueAsBytes(state.customers);
+    }
+
+    @Benchmark
+    public List<Customer> deserializeList(Lists state) throws IOException {
+        return MAPPER.readValue(state.json, state.type);
+    }
+}
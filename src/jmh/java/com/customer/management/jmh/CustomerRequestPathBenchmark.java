@@ -0,0 +1,108 @@
+package com.customer.management.jmh;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.customer.management.CustomermanagementApplication;
+import com.customer.management.entity.Customer;
+import com.customer.management.service.CustomerService;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The service and MVC request path against the full application on in-memory H2:
+ * {@link CustomerService#getCustomerById} and {@link CustomerService#createCustomer} directly, and
+ * a GET of an existing and of an unknown customer through the dispatcher, the latter ending in
+ * the {@code GlobalExceptionHandler} 404 branch.
+ * <p>
+ * Runs with and without the customer cache. Logging is switched off so that writing the
+ * per-request log lines to the console does not dominate the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerRequestPathBenchmark {
+
+    private static final int SEEDED_CUSTOMERS = 1000;
+
+    @Param({"true", "false"})
+    String cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private CustomerService customerService;
+    private MockMvc mockMvc;
+    private UUID[] ids;
+    private final UUID missingId = UUID.randomUUID();
+    private final AtomicLong created = new AtomicLong();
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Command line arguments, so they take precedence over application.properties
+        context = new SpringApplicationBuilder(CustomermanagementApplication.class)
+                .run("--server.port=0",
+                        "--logging.level.root=OFF",
+                        "--logging.level.org.springframework.web=OFF",
+                        "--logging.level.org.hibernate=OFF",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_ON_EXIT=FALSE",
+                        "--customer.cache.enabled=" + cacheEnabled);
+        customerService = context.getBean(CustomerService.class);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        ids = new UUID[SEEDED_CUSTOMERS];
+        for (int i = 0; i < SEEDED_CUSTOMERS; i++) {
+            ids[i] = customerService.createCustomer(BenchmarkCustomers.newCustomer(created.incrementAndGet())).getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private UUID nextId() {
+        next = (next + 1) % SEEDED_CUSTOMERS;
+        return ids[next];
+    }
+
+    @Benchmark
+    public Customer getCustomerById() {
+        return customerService.getCustomerById(nextId());
+    }
+
+    @Benchmark
+    public Customer createCustomer() {
+        return customerService.createCustomer(BenchmarkCustomers.newCustomer(created.incrementAndGet()));
+    }
+
+    @Benchmark
+    public int getCustomerThroughMvc() throws Exception {
+        return mockMvc.perform(get("/v1/customers/{id}", nextId())).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int getMissingCustomerThroughMvc() throws Exception {
+        return mockMvc.perform(get("/v1/customers/{id}", missingId)).andReturn().getResponse().getStatus();
+    }
+}
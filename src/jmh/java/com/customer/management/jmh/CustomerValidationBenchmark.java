@@ -0,0 +1,77 @@
+package com.customer.management.jmh;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.customer.management.entity.Customer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Bean Validation of {@link Customer}: the whole bean as {@code @Valid} checks it on create and
+ * update, and the {@code @Email} and E.164 {@code @Pattern} constraints on their own. Invalid
+ * customers additionally pay for message interpolation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private Customer valid;
+    private Customer invalid;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valid = BenchmarkCustomers.customer(7);
+        invalid = BenchmarkCustomers.customer(8);
+        invalid.setEmailAddress("not-an-email");
+        invalid.setPhoneNumber("0151 234");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validateValidCustomer() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validateInvalidCustomer() {
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validateEmail() {
+        return validator.validateProperty(valid, "emailAddress");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validatePhoneNumber() {
+        return validator.validateProperty(valid, "phoneNumber");
+    }
+}
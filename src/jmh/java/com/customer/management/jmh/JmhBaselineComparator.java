@@ -0,0 +1,111 @@
+package com.customer.management.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and exits with status 1 when any
+ * benchmark got worse by more than the threshold. A change only counts when it also exceeds the
+ * two runs' combined score error, so noise within the confidence intervals is not reported.
+ * <p>
+ * Usage: {@code JmhBaselineComparator <baseline.json> <result.json> [threshold-percent]}. A
+ * missing baseline is not an error; store one by copying a result file to the baseline path.
+ */
+public final class JmhBaselineComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private JmhBaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhBaselineComparator <baseline.json> <result.json> [threshold-percent]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        File resultFile = new File(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        if (!baselineFile.isFile()) {
+            System.out.println("No JMH baseline at " + baselineFile + "; copy " + resultFile + " there to create one.");
+            return;
+        }
+        int regressions = compare(read(baselineFile), read(resultFile), threshold);
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%.%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.printf("No regressions beyond %.1f%%.%n", threshold);
+    }
+
+    private static int compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        int regressions = 0;
+        System.out.printf("%-75s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Current", "Change", "");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-75s %14s %14.3f %9s  new%n", entry.getKey(), "-", now.score(), "");
+                continue;
+            }
+            if (!before.unit().equals(now.unit())) {
+                System.out.printf("%-75s %14s %14s %9s  unit changed (%s -> %s), skipped%n", entry.getKey(), "", "",
+                        "", before.unit(), now.unit());
+                continue;
+            }
+            // Positive when the benchmark got worse, whatever the direction of its unit
+            double change = (now.score() - before.score()) / before.score() * 100;
+            double worse = now.higherIsBetter() ? -change : change;
+            boolean significant = Math.abs(now.score() - before.score()) > before.error() + now.error();
+            String verdict;
+            if (worse > threshold && significant) {
+                verdict = "REGRESSION";
+                regressions++;
+            } else if (worse < -threshold && significant) {
+                verdict = "improved";
+            } else {
+                verdict = "ok";
+            }
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f%%  %s %s%n", entry.getKey(), before.score(), now.score(),
+                    change, now.unit(), verdict);
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-75s missing from this run%n", key);
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            // "Class.method" without the package
+            String benchmark = run.get("benchmark").asText();
+            int method = benchmark.lastIndexOf('.');
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', method - 1) + 1));
+            JsonNode params = run.get("params");
+            if (params != null) {
+                Map<String, String> sorted = new TreeMap<>();
+                params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+                key.append(sorted);
+            }
+            JsonNode metric = run.get("primaryMetric");
+            double error = metric.get("scoreError").asDouble(0);
+            scores.put(key.toString(), new Score(metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.get("scoreUnit").asText(),
+                    "thrpt".equals(run.get("mode").asText())));
+        }
+        return scores;
+    }
+
+    private record Score(double score, double error, String unit, boolean higherIsBetter) {
+    }
+}
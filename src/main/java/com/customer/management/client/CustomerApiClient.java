@@ -0,0 +1,441 @@
+package com.customer.management.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.customer.management.client.dto.Customer;
+import com.customer.management.client.dto.CustomerPage;
+import com.customer.management.client.dto.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Asynchronous Java client for the {@code /v1/customers} API. Every call returns a
+ * {@link CompletableFuture}; a non-2xx answer completes it exceptionally with a
+ * {@link CustomerApiException}.
+ * <p>
+ * The client package depends only on the JDK and Jackson; requests and responses are the plain
+ * models in {@link com.customer.management.client.dto}, not the service's entities.
+ * <p>
+ * All calls share one {@link HttpClient}, which keeps idle connections per host and reuses them
+ * (pool size and keep-alive are tuned with the {@code jdk.httpclient.connectionPoolSize} and
+ * {@code jdk.httpclient.keepalive.timeout} system properties). HTTP/1.1 is the default; with
+ * {@link HttpClient.Version#HTTP_2} requests over TLS are multiplexed on one connection per host.
+ * <p>
+ * The client may be given several base URLs of replicas that share one database. Requests go to
+ * them round robin. Reads are hedged: when a GET has not been answered after the hedge delay, the
+ * same GET is sent to the next replica and whichever answers first wins, the other request is
+ * cancelled. The delay is a percentile (p95 by default) of recent GET latencies, so about one
+ * GET in twenty is sent twice and a single slow replica no longer sets the tail latency. A GET
+ * whose first request fails with a connection error or a 5xx is sent to the next replica at
+ * once. Writes are never sent twice.
+ */
+public class CustomerApiClient implements AutoCloseable {
+
+    private static final String CUSTOMERS = "/v1/customers";
+    private static final String JSON = "application/json";
+
+    private final List<String> baseUrls;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final boolean hedging;
+    private final HedgeDelay hedgeDelay;
+    private final ScheduledThreadPoolExecutor hedgeScheduler;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final LongAdder hedgeableRequests = new LongAdder();
+    private final LongAdder hedgesSent = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+
+    private CustomerApiClient(Builder builder) {
+        this.baseUrls = List.copyOf(builder.baseUrls);
+        this.requestTimeout = builder.requestTimeout;
+        this.hedging = builder.hedging && baseUrls.size() > 1;
+        HttpClient.Builder http = HttpClient.newBuilder()
+                .version(builder.httpVersion)
+                .connectTimeout(builder.connectTimeout);
+        if (builder.executor != null) {
+            http.executor(builder.executor);
+        }
+        this.httpClient = http.build();
+        this.objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.hedgeDelay = new HedgeDelay(builder.hedgePercentile, builder.initialHedgeDelay.toNanos(),
+                builder.minHedgeDelay.toNanos(), builder.hedgeDelayRefresh.toNanos());
+        this.hedgeScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "customer-api-hedge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hedgeScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public CompletableFuture<Customer> getCustomer(UUID id) {
+        return hedgedGet(CUSTOMERS + "/" + id).thenApply(response -> read(response, Customer.class));
+    }
+
+    /**
+     * One page of the keyset-paginated listing; pass the previous page's {@code next} as
+     * {@code after}. Either argument may be {@code null}.
+     */
+    public CompletableFuture<CustomerPage> getCustomerPage(Integer limit, String after) {
+        StringBuilder path = new StringBuilder(CUSTOMERS).append("/page");
+        char separator = '?';
+        if (limit != null) {
+            path.append(separator).append("limit=").append(limit);
+            separator = '&';
+        }
+        if (after != null) {
+            path.append(separator).append("after=").append(URLEncoder.encode(after, StandardCharsets.UTF_8));
+        }
+        return hedgedGet(path.toString()).thenApply(response -> read(response, CustomerPage.class));
+    }
+
+    public CompletableFuture<Customer> createCustomer(Customer customer) {
+        HttpRequest request = request(nextReplica(), CUSTOMERS)
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(write(customer)))
+                .build();
+        return send(request).thenApply(response -> read(response, Customer.class));
+    }
+
+    /**
+     * Replaces the customer. When {@code customer.getVersion()} is set, it is sent as
+     * {@code If-Match} and the update fails with status 412 if someone else changed the customer
+     * since that version was read.
+     */
+    public CompletableFuture<Customer> updateCustomer(UUID id, Customer customer) {
+        HttpRequest.Builder request = request(nextReplica(), CUSTOMERS + "/" + id)
+                .header("Content-Type", JSON)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(write(customer)));
+        if (customer.getVersion() != null) {
+            request.header("If-Match", etag(customer.getVersion()));
+        }
+        return send(request.build()).thenApply(response -> read(response, Customer.class));
+    }
+
+    /**
+     * Deletes the customer; with a non-null {@code expectedVersion} only if it is still at that
+     * version.
+     */
+    public CompletableFuture<Void> deleteCustomer(UUID id, Long expectedVersion) {
+        HttpRequest.Builder request = request(nextReplica(), CUSTOMERS + "/" + id).DELETE();
+        if (expectedVersion != null) {
+            request.header("If-Match", etag(expectedVersion));
+        }
+        return send(request.build()).thenApply(response -> {
+            checkStatus(response);
+            return null;
+        });
+    }
+
+    public HedgingStats hedgingStats() {
+        return new HedgingStats(hedgeableRequests.sum(), hedgesSent.sum(), hedgesWon.sum(),
+                hedgeDelay.delayNanos() / 1_000_000.0);
+    }
+
+    @Override
+    public void close() {
+        hedgeScheduler.shutdownNow();
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> hedgedGet(String path) {
+        hedgeableRequests.increment();
+        HedgedGet get = new HedgedGet(path, nextReplica());
+        get.start();
+        return get.result;
+    }
+
+    private int nextReplica() {
+        return Math.floorMod(nextReplica.getAndIncrement(), baseUrls.size());
+    }
+
+    private HttpRequest.Builder request(int replica, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrls.get(replica) + path))
+                .timeout(requestTimeout)
+                .header("Accept", JSON);
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, Class<T> type) {
+        checkStatus(response);
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable " + type.getSimpleName() + " from " + response.uri(), e);
+        }
+    }
+
+    private void checkStatus(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return;
+        }
+        ErrorResponse errorResponse = null;
+        Map<String, String> fieldErrors = Map.of();
+        try {
+            JsonNode body = response.body().length == 0 ? null : objectMapper.readTree(response.body());
+            if (body != null && body.has("error") && body.has("timestamp")) {
+                errorResponse = objectMapper.treeToValue(body, ErrorResponse.class);
+            } else if (body != null && body.isObject()) {
+                Map<String, String> errors = new LinkedHashMap<>();
+                body.fields().forEachRemaining(field -> errors.put(field.getKey(), field.getValue().asText()));
+                fieldErrors = errors;
+            }
+        } catch (IOException e) {
+            // Not a JSON error body, e.g. from a proxy; the status alone has to do
+        }
+        throw new CustomerApiException(status, errorResponse, fieldErrors);
+    }
+
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * One hedged GET: the first request and at most one more to the next replica, sent after the
+     * hedge delay or as soon as the first fails. {@link #result} completes with the first
+     * response that is not a 5xx; if both fail, with the last failure.
+     */
+    private final class HedgedGet {
+
+        private final String path;
+        private final int primary;
+        private final CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+        private final List<CompletableFuture<HttpResponse<byte[]>>> attempts = new ArrayList<>(2);
+        private int pending;
+        private boolean hedged;
+        private HttpResponse<byte[]> failedResponse;
+        private Throwable failure;
+        private ScheduledFuture<?> hedgeTimer;
+
+        HedgedGet(String path, int primary) {
+            this.path = path;
+            this.primary = primary;
+        }
+
+        void start() {
+            attempt(primary, false);
+            if (hedging) {
+                ScheduledFuture<?> timer = hedgeScheduler.schedule(this::hedge, hedgeDelay.delayNanos(), TimeUnit.NANOSECONDS);
+                synchronized (this) {
+                    hedgeTimer = timer;
+                }
+                if (result.isDone()) {
+                    timer.cancel(false);
+                }
+            }
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (result.isDone() || hedged) {
+                    return;
+                }
+                hedged = true;
+            }
+            hedgesSent.increment();
+            attempt((primary + 1) % baseUrls.size(), true);
+        }
+
+        private void attempt(int replica, boolean hedge) {
+            long start = System.nanoTime();
+            synchronized (this) {
+                pending++;
+            }
+            CompletableFuture<HttpResponse<byte[]>> attempt = send(request(replica, path).GET().build());
+            synchronized (this) {
+                attempts.add(attempt);
+            }
+            attempt.whenComplete((response, error) -> completed(response, error, start, hedge));
+        }
+
+        private void completed(HttpResponse<byte[]> response, Throwable error, long start, boolean hedge) {
+            boolean answered = error == null && response.statusCode() < 500;
+            boolean failOver = false;
+            List<CompletableFuture<HttpResponse<byte[]>>> losers = List.of();
+            ScheduledFuture<?> timer;
+            synchronized (this) {
+                pending--;
+                if (result.isDone()) {
+                    return;
+                }
+                if (answered) {
+                    losers = new ArrayList<>(attempts);
+                } else {
+                    failedResponse = response;
+                    failure = error;
+                    failOver = hedging && !hedged;
+                    if (!failOver && pending == 0) {
+                        if (failedResponse != null) {
+                            result.complete(failedResponse);
+                        } else {
+                            result.completeExceptionally(failure);
+                        }
+                    }
+                }
+                timer = hedgeTimer;
+            }
+            if (answered) {
+                hedgeDelay.record(System.nanoTime() - start);
+                if (hedge) {
+                    hedgesWon.increment();
+                }
+                result.complete(response);
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+                losers.stream().filter(Objects::nonNull).forEach(loser -> loser.cancel(true));
+            } else if (failOver) {
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+                hedge();
+            }
+        }
+    }
+
+    /**
+     * Settings of a {@link CustomerApiClient}. Only the base URLs are required.
+     */
+    public static final class Builder {
+
+        private final List<String> baseUrls = new ArrayList<>();
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_1_1;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private Executor executor;
+        private boolean hedging = true;
+        private double hedgePercentile = 95.0;
+        private Duration initialHedgeDelay = Duration.ofMillis(50);
+        private Duration minHedgeDelay = Duration.ofMillis(2);
+        private Duration hedgeDelayRefresh = Duration.ofSeconds(1);
+
+        private Builder() {
+        }
+
+        /**
+         * Base URLs of the replicas, e.g. {@code http://host:8080}, tried round robin.
+         */
+        public Builder baseUrls(String... baseUrls) {
+            for (String baseUrl : baseUrls) {
+                this.baseUrls.add(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl);
+            }
+            return this;
+        }
+
+        public Builder httpVersion(HttpClient.Version httpVersion) {
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Executor for response handling and dependent stages; the HTTP client's own cached
+         * thread pool by default.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder hedging(boolean hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * Percentile of recent GET latencies after which a GET is hedged, 95 by default.
+         */
+        public Builder hedgePercentile(double hedgePercentile) {
+            this.hedgePercentile = hedgePercentile;
+            return this;
+        }
+
+        /**
+         * Hedge delay until enough GET latencies have been recorded.
+         */
+        public Builder initialHedgeDelay(Duration initialHedgeDelay) {
+            this.initialHedgeDelay = initialHedgeDelay;
+            return this;
+        }
+
+        /**
+         * Lower bound of the hedge delay, so a very fast service is not hit twice per GET.
+         */
+        public Builder minHedgeDelay(Duration minHedgeDelay) {
+            this.minHedgeDelay = minHedgeDelay;
+            return this;
+        }
+
+        /**
+         * How often the hedge delay is recomputed from the latencies; the window spans ten of
+         * these intervals.
+         */
+        public Builder hedgeDelayRefresh(Duration hedgeDelayRefresh) {
+            this.hedgeDelayRefresh = hedgeDelayRefresh;
+            return this;
+        }
+
+        public CustomerApiClient build() {
+            if (baseUrls.isEmpty()) {
+                throw new IllegalArgumentException("At least one base URL is required");
+            }
+            if (hedgePercentile <= 0 || hedgePercentile >= 100) {
+                throw new IllegalArgumentException("Hedge percentile must be between 0 and 100: " + hedgePercentile);
+            }
+            return new CustomerApiClient(this);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.customer.management.client;
+
+import java.util.Map;
+
+import com.customer.management.client.dto.ErrorResponse;
+
+/**
+ * Non-2xx answer of the customer API. Depending on the error the body is either an
+ * {@link ErrorResponse} or, for validation failures, a map from field to message.
+ */
+public class CustomerApiException extends RuntimeException {
+
+    private final int status;
+    private final transient ErrorResponse errorResponse;
+    private final Map<String, String> fieldErrors;
+
+    public CustomerApiException(int status, ErrorResponse errorResponse, Map<String, String> fieldErrors) {
+        super(message(status, errorResponse, fieldErrors));
+        this.status = status;
+        this.errorResponse = errorResponse;
+        this.fieldErrors = fieldErrors == null ? Map.of() : Map.copyOf(fieldErrors);
+    }
+
+    private static String message(int status, ErrorResponse errorResponse, Map<String, String> fieldErrors) {
+        if (errorResponse != null) {
+            return "HTTP " + status + " " + errorResponse.getError() + ": " + errorResponse.getMessage();
+        }
+        if (fieldErrors != null && !fieldErrors.isEmpty()) {
+            return "HTTP " + status + " invalid fields: " + fieldErrors;
+        }
+        return "HTTP " + status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * The error body, or {@code null} when the server answered with field errors or no body.
+     */
+    public ErrorResponse getErrorResponse() {
+        return errorResponse;
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Scanner;
 import java.util.UUID;
 
@@ -12,7 +13,15 @@ public class CustomerClient {
 
     private static final String BASE_URL = "http://localhost:8080/v1/customers";
 
-    public static void main(String[] args) {
+    /**
+     * Interactive menu; {@code CustomerClient load [--name=value ...]} runs the headless
+     * {@link CustomerLoadGenerator} instead.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "load".equals(args[0])) {
+            CustomerLoadGenerator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Scanner scanner = new Scanner(System.in);
 
         while (true) {
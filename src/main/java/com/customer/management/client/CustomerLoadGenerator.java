@@ -0,0 +1,392 @@
+package com.customer.management.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.customer.management.client.dto.Customer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Headless load generator for the customer API, used to size instances. Run it with
+ * {@code CustomerClient load [--name=value ...]}; see {@link LoadGeneratorOptions} for the
+ * options.
+ * <p>
+ * Requests are scheduled open loop: request {@code i} is due at {@code start + i / rate} however
+ * long earlier requests took, and its latency is measured from that intended start. A client
+ * that waits for each response before sending the next stops sending while the service stalls,
+ * so it never records the requests that would have queued up behind the stall (coordinated
+ * omission). Up to {@code workers} requests are in flight; when all workers are busy, further
+ * requests start late and the delay counts towards their latency.
+ * <p>
+ * Latencies go into one HdrHistogram per operation, both from the intended start (response time)
+ * and from the actual send (service time). The report lists throughput, status counts and
+ * percentiles and ends with the full response time distribution.
+ */
+public class CustomerLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final String JSON = "application/json";
+
+    private final LoadGeneratorOptions options;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KnownCustomers known = new KnownCustomers();
+    private final Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+    private final LoadOperation[] operationByTicket;
+    // Distinguishes the email addresses of concurrent or repeated runs
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong customersCreated = new AtomicLong();
+    private final AtomicLong maxStartLagNanos = new AtomicLong();
+    private final AtomicLong lastCompletionNanos = new AtomicLong();
+
+    public CustomerLoadGenerator(LoadGeneratorOptions options) {
+        this.options = options;
+        // One client for all workers; it keeps connections alive and reuses them
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(options.timeoutSeconds()))
+                .build();
+        List<LoadOperation> tickets = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            stats.put(operation, new OperationStats());
+            for (int i = 0; i < options.mix().get(operation); i++) {
+                tickets.add(operation);
+            }
+        }
+        this.operationByTicket = tickets.toArray(new LoadOperation[0]);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadGeneratorOptions options;
+        try {
+            options = LoadGeneratorOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.exit(2);
+            return;
+        }
+        System.out.println(new CustomerLoadGenerator(options).run());
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+    }
+
+    /**
+     * Seeds customers, runs the warmup and the measured load, and writes the report.
+     *
+     * @return the report text
+     */
+    public String run() throws IOException, InterruptedException {
+        seed();
+        long requests = (long) options.rate() * (options.warmupSeconds() + options.durationSeconds());
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        AtomicLong sequence = new AtomicLong();
+        List<Thread> workers = new ArrayList<>(options.workers());
+        for (int i = 0; i < options.workers(); i++) {
+            Thread worker = new Thread(() -> work(sequence, requests, start, measureFrom), "load-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        String report = report(lastCompletionNanos.get() - measureFrom);
+        Files.writeString(options.report(), report);
+        return report;
+    }
+
+    private void seed() throws InterruptedException {
+        if (options.seedCustomers() <= 0) {
+            return;
+        }
+        System.out.printf("Creating %d customers before the run...%n", options.seedCustomers());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.workers(), 16));
+        for (int i = 0; i < options.seedCustomers(); i++) {
+            executor.execute(() -> execute(LoadOperation.CREATE));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+    }
+
+    private void work(AtomicLong sequence, long requests, long start, long measureFrom) {
+        long i;
+        while ((i = sequence.getAndIncrement()) < requests) {
+            long intended = start + (long) (i * 1_000_000_000d / options.rate());
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            LoadOperation operation = pickOperation();
+            int status = execute(operation);
+            long done = System.nanoTime();
+            if (intended >= measureFrom) {
+                stats.get(operation).record(done - intended, done - now, status);
+                maxStartLagNanos.accumulateAndGet(now - intended, Math::max);
+                lastCompletionNanos.accumulateAndGet(done, Math::max);
+            }
+        }
+    }
+
+    private LoadOperation pickOperation() {
+        LoadOperation operation = operationByTicket[ThreadLocalRandom.current().nextInt(operationByTicket.length)];
+        // Reads, updates and deletes need an existing customer
+        if (operation != LoadOperation.CREATE && operation != LoadOperation.LIST && known.isEmpty()) {
+            return LoadOperation.CREATE;
+        }
+        return operation;
+    }
+
+    /**
+     * Sends one request and returns its HTTP status, or -1 if it failed without a response.
+     */
+    private int execute(LoadOperation operation) {
+        try {
+            return switch (operation) {
+                case GET -> get();
+                case CREATE -> create();
+                case UPDATE -> update();
+                case DELETE -> delete();
+                case LIST -> list();
+            };
+        } catch (IOException | RuntimeException ex) {
+            return -1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private int get() throws IOException, InterruptedException {
+        Customer customer = known.random();
+        if (customer == null) {
+            return create();
+        }
+        return send(request("/v1/customers/" + customer.getId()).GET().build()).statusCode();
+    }
+
+    private int create() throws IOException, InterruptedException {
+        long n = customersCreated.incrementAndGet();
+        Customer customer = new Customer();
+        customer.setFirstName("Load");
+        customer.setLastName("Customer" + n);
+        customer.setEmailAddress("load-" + runId + "-" + n + "@example.com");
+        customer.setPhoneNumber(String.format("+4915%09d", n % 1_000_000_000L));
+        HttpResponse<byte[]> response = send(request("/v1/customers")
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(customer)))
+                .build());
+        if (response.statusCode() == 201) {
+            customer.setId(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+            known.add(customer);
+        }
+        return response.statusCode();
+    }
+
+    private int update() throws IOException, InterruptedException {
+        Customer current = known.random();
+        if (current == null) {
+            return create();
+        }
+        Customer updated = new Customer();
+        updated.setFirstName(current.getFirstName());
+        updated.setLastName("Updated" + ThreadLocalRandom.current().nextInt(1_000_000));
+        updated.setEmailAddress(current.getEmailAddress());
+        updated.setPhoneNumber(current.getPhoneNumber());
+        return send(request("/v1/customers/" + current.getId())
+                .header("Content-Type", JSON)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(updated)))
+                .build()).statusCode();
+    }
+
+    private int delete() throws IOException, InterruptedException {
+        Customer customer = known.removeRandom();
+        if (customer == null) {
+            return create();
+        }
+        return send(request("/v1/customers/" + customer.getId()).DELETE().build()).statusCode();
+    }
+
+    private int list() throws IOException, InterruptedException {
+        return send(request("/v1/customers/page?limit=" + options.listLimit()).GET().build()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(Duration.ofSeconds(options.timeoutSeconds()))
+                .header("Accept", JSON);
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private String report(long measuredNanos) {
+        StringBuilder text = new StringBuilder();
+        Formatter out = new Formatter(text, Locale.ROOT);
+        long requests = stats.values().stream().mapToLong(s -> s.responseTime.getTotalCount()).sum();
+        double seconds = Math.max(measuredNanos, 1) / 1e9;
+        out.format("Customer API load test, %s%n", Instant.now());
+        out.format("target          %s%n", options.baseUrl());
+        out.format("schedule        open loop, %d req/s, up to %d in flight, %d s warmup, %d s measured%n",
+                options.rate(), options.workers(), options.warmupSeconds(), options.durationSeconds());
+        out.format("mix             %s%n", mix());
+        out.format("throughput      %.1f req/s (%d requests in %.1f s)%n", requests / seconds, requests, seconds);
+        // Requests waited for a free worker; with low service times the generator was the limit
+        out.format("max start lag   %.1f ms%n", maxStartLagNanos.get() / 1e6);
+
+        out.format("%nResponse time from intended start, ms%n");
+        table(out, s -> s.responseTime, true);
+        out.format("%nService time from send, ms%n");
+        table(out, s -> s.serviceTime, false);
+
+        out.format("%nResponse time distribution, all operations, ms%n");
+        ByteArrayOutputStream distribution = new ByteArrayOutputStream();
+        try (PrintStream stream = new PrintStream(distribution, true, StandardCharsets.UTF_8)) {
+            merged(s -> s.responseTime).outputPercentileDistribution(stream, 5, 1000.0);
+        }
+        text.append(distribution.toString(StandardCharsets.UTF_8));
+        return text.toString();
+    }
+
+    private String mix() {
+        List<String> weights = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            if (options.mix().get(operation) > 0) {
+                weights.add(operation.name().toLowerCase(Locale.ROOT) + ":" + options.mix().get(operation));
+            }
+        }
+        return String.join(",", weights);
+    }
+
+    private void table(Formatter out, Function<OperationStats, Histogram> histogram, boolean withStatus) {
+        out.format("%-10s %9s", "operation", "count");
+        if (withStatus) {
+            out.format(" %9s %7s %7s %7s", "2xx", "4xx", "5xx", "errors");
+        }
+        out.format(" %9s %9s %9s %9s %9s%n", "p50", "p90", "p99", "p99.9", "max");
+        for (LoadOperation operation : LoadOperation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            if (operationStats.responseTime.getTotalCount() > 0) {
+                row(out, operation.name().toLowerCase(Locale.ROOT), histogram.apply(operationStats),
+                        withStatus ? operationStats : null);
+            }
+        }
+        OperationStats total = new OperationStats();
+        stats.values().forEach(total::add);
+        row(out, "all", merged(histogram), withStatus ? total : null);
+    }
+
+    private static void row(Formatter out, String name, Histogram histogram, OperationStats status) {
+        out.format("%-10s %9d", name, histogram.getTotalCount());
+        if (status != null) {
+            out.format(" %9d %7d %7d %7d", status.success.sum(), status.clientError.sum(), status.serverError.sum(),
+                    status.failed.sum());
+        }
+        out.format(" %9.2f %9.2f %9.2f %9.2f %9.2f%n", millis(histogram, 50), millis(histogram, 90),
+                millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+    }
+
+    private Histogram merged(Function<OperationStats, Histogram> histogram) {
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        stats.values().forEach(s -> all.add(histogram.apply(s)));
+        return all;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Latencies in microseconds and status counts of one operation.
+     */
+    private static final class OperationStats {
+
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder clientError = new LongAdder();
+        private final LongAdder serverError = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(long responseNanos, long serviceNanos, int status) {
+            responseTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(responseNanos), HIGHEST_TRACKABLE_MICROS));
+            serviceTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(serviceNanos), HIGHEST_TRACKABLE_MICROS));
+            if (status < 0) {
+                failed.increment();
+            } else if (status >= 500) {
+                serverError.increment();
+            } else if (status >= 400) {
+                clientError.increment();
+            } else {
+                success.increment();
+            }
+        }
+
+        void add(OperationStats other) {
+            success.add(other.success.sum());
+            clientError.add(other.clientError.sum());
+            serverError.add(other.serverError.sum());
+            failed.add(other.failed.sum());
+        }
+    }
+
+    /**
+     * Customers known to exist, to pick targets for reads, updates and deletes.
+     */
+    private static final class KnownCustomers {
+
+        private final List<Customer> customers = new ArrayList<>();
+
+        synchronized boolean isEmpty() {
+            return customers.isEmpty();
+        }
+
+        synchronized void add(Customer customer) {
+            customers.add(customer);
+        }
+
+        synchronized Customer random() {
+            return customers.isEmpty() ? null : customers.get(ThreadLocalRandom.current().nextInt(customers.size()));
+        }
+
+        synchronized Customer removeRandom() {
+            if (customers.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(customers.size());
+            // Swap-remove; the order carries no meaning
+            Customer removed = customers.get(index);
+            customers.set(index, customers.get(customers.size() - 1));
+            customers.remove(customers.size() - 1);
+            return removed;
+        }
+    }
+}
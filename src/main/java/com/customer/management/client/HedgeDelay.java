@@ -0,0 +1,68 @@
+package com.customer.management.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Delay after which {@link CustomerApiClient} hedges a GET: a percentile of recent GET latencies,
+ * never less than a minimum. Latencies are recorded into an HdrHistogram {@link Recorder}; once
+ * per refresh interval the interval's histogram is added to a sliding window of the last
+ * {@value #WINDOW_INTERVALS} intervals and the percentile is recomputed, so the per-request cost
+ * is a single histogram increment. Until the window holds {@value #MIN_SAMPLES} samples the
+ * initial delay applies.
+ */
+final class HedgeDelay {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int WINDOW_INTERVALS = 10;
+    private static final long MIN_SAMPLES = 20;
+
+    private final double percentile;
+    private final long minimumNanos;
+    private final long refreshIntervalNanos;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 2);
+    private final Deque<Histogram> window = new ArrayDeque<>();
+
+    private volatile long delayNanos;
+    private volatile long nextRefreshNanos;
+
+    HedgeDelay(double percentile, long initialNanos, long minimumNanos, long refreshIntervalNanos) {
+        this.percentile = percentile;
+        this.minimumNanos = minimumNanos;
+        this.refreshIntervalNanos = refreshIntervalNanos;
+        this.delayNanos = Math.max(initialNanos, minimumNanos);
+        this.nextRefreshNanos = System.nanoTime() + refreshIntervalNanos;
+    }
+
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    void record(long latencyNanos) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        long now = System.nanoTime();
+        if (now - nextRefreshNanos >= 0) {
+            refresh(now);
+        }
+    }
+
+    private synchronized void refresh(long now) {
+        if (now - nextRefreshNanos < 0) {
+            return;
+        }
+        nextRefreshNanos = now + refreshIntervalNanos;
+        window.addLast(recorder.getIntervalHistogram());
+        if (window.size() > WINDOW_INTERVALS) {
+            window.removeFirst();
+        }
+        Histogram merged = new Histogram(HIGHEST_TRACKABLE_MICROS, 2);
+        window.forEach(merged::add);
+        if (merged.getTotalCount() >= MIN_SAMPLES) {
+            delayNanos = Math.max(minimumNanos, TimeUnit.MICROSECONDS.toNanos(merged.getValueAtPercentile(percentile)));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.customer.management.client;
+
+/**
+ * Counters of a {@link CustomerApiClient}'s hedged GETs.
+ *
+ * @param requests         hedgeable GETs issued
+ * @param hedgesSent       second requests sent, after the hedge delay or because the first failed
+ * @param hedgesWon        GETs answered by the second request
+ * @param hedgeDelayMillis current hedge delay
+ */
+public record HedgingStats(long requests, long hedgesSent, long hedgesWon, double hedgeDelayMillis) {
+}
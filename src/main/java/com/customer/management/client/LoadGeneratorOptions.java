@@ -0,0 +1,105 @@
+package com.customer.management.client;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a {@link CustomerLoadGenerator} run, parsed from {@code --name=value} arguments.
+ *
+ * @param baseUrl        service root, e.g. {@code http://localhost:8080}
+ * @param rate           requests per second, scheduled at fixed intervals regardless of responses
+ * @param warmupSeconds  seconds of load before measuring starts
+ * @param durationSeconds seconds measured after the warmup
+ * @param workers        maximum number of requests in flight
+ * @param mix            relative weight of each operation
+ * @param seedCustomers  customers created before the run so reads have something to find
+ * @param listLimit      page size of list requests
+ * @param timeoutSeconds per-request timeout
+ * @param report         file the report is written to
+ */
+public record LoadGeneratorOptions(String baseUrl, int rate, int warmupSeconds, int durationSeconds, int workers,
+                                   Map<LoadOperation, Integer> mix, int seedCustomers, int listLimit,
+                                   int timeoutSeconds, Path report) {
+
+    static final String USAGE = """
+            Usage: CustomerLoadGenerator [--name=value ...]
+              --base-url=http://localhost:8080   service root
+              --rate=200                         requests per second (open loop)
+              --warmup=10                        seconds before measuring
+              --duration=60                      measured seconds
+              --workers=64                       maximum requests in flight
+              --mix=get:70,create:10,update:10,delete:5,list:5
+              --seed=1000                        customers created before the run
+              --list-limit=50                    page size of list requests
+              --timeout=10                       request timeout in seconds
+              --report=load-report.txt           report file""";
+
+    public LoadGeneratorOptions {
+        if (rate <= 0 || durationSeconds <= 0 || warmupSeconds < 0 || workers <= 0 || timeoutSeconds <= 0) {
+            throw new IllegalArgumentException("rate, duration, workers and timeout must be positive.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The operation mix needs at least one positive weight.");
+        }
+        mix = Map.copyOf(mix);
+    }
+
+    public static LoadGeneratorOptions defaults() {
+        return parse(new String[0]);
+    }
+
+    public static LoadGeneratorOptions parse(String[] args) {
+        String baseUrl = "http://localhost:8080";
+        int rate = 200;
+        int warmup = 10;
+        int duration = 60;
+        int workers = 64;
+        String mix = "get:70,create:10,update:10,delete:5,list:5";
+        int seed = 1000;
+        int listLimit = 50;
+        int timeout = 10;
+        String report = "load-report.txt";
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'.\n" + USAGE);
+            }
+            String value = arg.substring(equals + 1);
+            switch (arg.substring(2, equals)) {
+                case "base-url" -> baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "rate" -> rate = Integer.parseInt(value);
+                case "warmup" -> warmup = Integer.parseInt(value);
+                case "duration" -> duration = Integer.parseInt(value);
+                case "workers" -> workers = Integer.parseInt(value);
+                case "mix" -> mix = value;
+                case "seed" -> seed = Integer.parseInt(value);
+                case "list-limit" -> listLimit = Integer.parseInt(value);
+                case "timeout" -> timeout = Integer.parseInt(value);
+                case "report" -> report = value;
+                default -> throw new IllegalArgumentException("Unknown option '" + arg + "'.\n" + USAGE);
+            }
+        }
+        return new LoadGeneratorOptions(baseUrl, rate, warmup, duration, workers, parseMix(mix), seed, listLimit,
+                timeout, Path.of(report));
+    }
+
+    /**
+     * Parses {@code get:70,create:10,...}; operations that are not listed get weight 0.
+     */
+    static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            weights.put(operation, 0);
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in the mix but got '" + entry + "'.");
+            }
+            weights.put(LoadOperation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,17 @@
+package com.customer.management.client;
+
+/**
+ * Requests issued by {@link CustomerLoadGenerator}.
+ */
+public enum LoadOperation {
+    /** GET /v1/customers/{id} of a known customer. */
+    GET,
+    /** POST /v1/customers with a new, unique customer. */
+    CREATE,
+    /** PUT /v1/customers/{id} of a known customer with a changed last name. */
+    UPDATE,
+    /** DELETE /v1/customers/{id} of a known customer. */
+    DELETE,
+    /** GET /v1/customers/page, the first page. */
+    LIST
+}
@@ -0,0 +1,75 @@
+package com.customer.management.client.dto;
+
+import java.util.UUID;
+
+/**
+ * A customer as the API sends and accepts it. {@code version} is assigned by the service and
+ * ignored on writes; {@link com.customer.management.client.CustomerApiClient#updateCustomer}
+ * sends it as {@code If-Match} instead.
+ */
+public class Customer {
+
+    private UUID id;
+    private String firstName;
+    private String middleName;
+    private String lastName;
+    private String emailAddress;
+    private String phoneNumber;
+    private Long version;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getMiddleName() {
+        return middleName;
+    }
+
+    public void setMiddleName(String middleName) {
+        this.middleName = middleName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public void setEmailAddress(String emailAddress) {
+        this.emailAddress = emailAddress;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,29 @@
+package com.customer.management.client.dto;
+
+import java.util.List;
+
+/**
+ * One page of the keyset-paginated listing. {@code next} is an opaque cursor to pass back as
+ * {@code after}; it is {@code null} on the last page.
+ */
+public class CustomerPage {
+
+    private List<Customer> items;
+    private String next;
+
+    public List<Customer> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Customer> items) {
+        this.items = items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+}
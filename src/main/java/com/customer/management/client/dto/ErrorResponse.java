@@ -0,0 +1,47 @@
+package com.customer.management.client.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Error body of a non-2xx answer other than a validation failure.
+ */
+public class ErrorResponse {
+
+    private LocalDateTime timestamp;
+    private String error;
+    private String message;
+    private List<String> details;
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public List<String> getDetails() {
+        return details;
+    }
+
+    public void setDetails(List<String> details) {
+        this.details = details;
+    }
+}
@@ -0,0 +1,37 @@
+package com.customer.management.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Request and response bodies in Smile ({@code application/x-jackson-smile}) and CBOR
+ * ({@code application/cbor}) next to JSON, chosen per request by the {@code Accept} and
+ * {@code Content-Type} headers; JSON stays the default. The binary mappers come from Spring
+ * Boot's {@link Jackson2ObjectMapperBuilder}, so they are configured like the JSON one and
+ * share the {@link CustomerJacksonModule} serializers. Each bean replaces the converter Spring
+ * MVC would otherwise add, with a plain mapper, for the same format.
+ */
+@Configuration
+public class CustomerCodecConfig {
+
+    @Bean
+    public CustomerJacksonModule customerJacksonModule() {
+        return new CustomerJacksonModule();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
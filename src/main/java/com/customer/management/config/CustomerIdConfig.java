@@ -0,0 +1,27 @@
+package com.customer.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.customer.management.entity.CustomerIdGenerator;
+import com.customer.management.entity.CustomerIdVersion;
+
+/**
+ * Hands {@code customer.id.version} to Hibernate, which creates {@link CustomerIdGenerator}
+ * itself and only sees its own settings.
+ */
+@Configuration
+public class CustomerIdConfig {
+
+    @Value("${customer.id.version:v7}")
+    private String idVersion = "v7";
+
+    @Bean
+    public HibernatePropertiesCustomizer customerIdVersionCustomizer() {
+        // Parsed here so that a typo fails at startup rather than on the first insert
+        CustomerIdVersion version = CustomerIdVersion.fromProperty(idVersion);
+        return properties -> properties.put(CustomerIdGenerator.VERSION_SETTING, version.name());
+    }
+}
@@ -0,0 +1,250 @@
+package com.customer.management.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Hand-written serializers and deserializers for {@link Customer} and {@link ErrorResponse},
+ * the bodies of nearly every API response. They write and read the fields in order through the
+ * streaming {@link JsonGenerator} and {@link JsonParser}, without the bean introspection and
+ * per-property accessors of Jackson's generic bean (de)serializers, and work unchanged for
+ * JSON, Smile and CBOR. The output is the same as the generic one: all properties, nulls
+ * included, in declaration order; UUIDs as strings in JSON and as 16 bytes in the binary
+ * formats. Values of an unexpected type are handed to the standard deserializers, so they are
+ * coerced or rejected as before.
+ */
+public class CustomerJacksonModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString MIDDLE_NAME = new SerializedString("middleName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL_ADDRESS = new SerializedString("emailAddress");
+    private static final SerializedString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DETAILS = new SerializedString("details");
+
+    public CustomerJacksonModule() {
+        super("CustomerJacksonModule");
+        addSerializer(Customer.class, new CustomerSerializer());
+        addDeserializer(Customer.class, new CustomerDeserializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+        addDeserializer(ErrorResponse.class, new ErrorResponseDeserializer());
+    }
+
+    static final class CustomerSerializer extends StdSerializer<Customer> {
+
+        CustomerSerializer() {
+            super(Customer.class);
+        }
+
+        @Override
+        public void serialize(Customer customer, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(customer);
+            gen.writeFieldName(ID);
+            writeUuid(gen, customer.getId());
+            writeString(gen, FIRST_NAME, customer.getFirstName());
+            writeString(gen, MIDDLE_NAME, customer.getMiddleName());
+            writeString(gen, LAST_NAME, customer.getLastName());
+            writeString(gen, EMAIL_ADDRESS, customer.getEmailAddress());
+            writeString(gen, PHONE_NUMBER, customer.getPhoneNumber());
+            gen.writeFieldName(VERSION);
+            if (customer.getVersion() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(customer.getVersion());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CustomerDeserializer extends StdDeserializer<Customer> {
+
+        CustomerDeserializer() {
+            super(Customer.class);
+        }
+
+        @Override
+        public Customer deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = startObject(p, ctxt, Customer.class);
+            Customer customer = new Customer();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "id" -> customer.setId(readUuid(p, ctxt));
+                    case "firstName" -> customer.setFirstName(readString(p, ctxt));
+                    case "middleName" -> customer.setMiddleName(readString(p, ctxt));
+                    case "lastName" -> customer.setLastName(readString(p, ctxt));
+                    case "emailAddress" -> customer.setEmailAddress(readString(p, ctxt));
+                    case "phoneNumber" -> customer.setPhoneNumber(readString(p, ctxt));
+                    // Read-only, as declared on the entity: the version comes from If-Match
+                    case "version" -> p.skipChildren();
+                    default -> ctxt.handleUnknownProperty(p, this, Customer.class, name);
+                }
+            }
+            return customer;
+        }
+    }
+
+    static final class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+        ErrorResponseSerializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public void serialize(ErrorResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(response);
+            gen.writeFieldName(TIMESTAMP);
+            LocalDateTime timestamp = response.getTimestamp();
+            if (timestamp == null) {
+                gen.writeNull();
+            } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                provider.defaultSerializeValue(timestamp, gen);
+            } else {
+                // The format of Jackson's LocalDateTimeSerializer, which always includes seconds
+                gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp));
+            }
+            writeString(gen, ERROR, response.getError());
+            writeString(gen, MESSAGE, response.getMessage());
+            gen.writeFieldName(DETAILS);
+            List<String> details = response.getDetails();
+            if (details == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(details, details.size());
+                for (String detail : details) {
+                    gen.writeString(detail);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ErrorResponseDeserializer extends StdDeserializer<ErrorResponse> {
+
+        ErrorResponseDeserializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public ErrorResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = startObject(p, ctxt, ErrorResponse.class);
+            ErrorResponse response = new ErrorResponse();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "timestamp" -> response.setTimestamp(p.currentToken() == JsonToken.VALUE_NULL
+                            ? null : ctxt.readValue(p, LocalDateTime.class));
+                    case "error" -> response.setError(readString(p, ctxt));
+                    case "message" -> response.setMessage(readString(p, ctxt));
+                    case "details" -> response.setDetails(readStrings(p, ctxt));
+                    default -> ctxt.handleUnknownProperty(p, this, ErrorResponse.class, name);
+                }
+            }
+            return response;
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeUuid(JsonGenerator gen, UUID id) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else if (gen.canWriteBinaryNatively()) {
+            // As Jackson's UUIDSerializer does for Smile and CBOR
+            byte[] bytes = ByteBuffer.allocate(16)
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .array();
+            gen.writeBinary(bytes);
+        } else {
+            gen.writeString(id.toString());
+        }
+    }
+
+    /** Returns the first token inside the object, rejecting anything but an object. */
+    private static JsonToken startObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            ctxt.handleUnexpectedToken(type, p);
+        }
+        return token;
+    }
+
+    private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);
+    }
+
+    private static UUID readUuid(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING && p.getTextLength() == 36) {
+            String text = p.getText();
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException ex) {
+                return (UUID) ctxt.handleWeirdStringValue(UUID.class, text, "not a valid UUID");
+            }
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT && p.getEmbeddedObject() instanceof byte[] bytes
+                && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, UUID.class);
+    }
+
+    private static List<String> readStrings(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+        List<String> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(p, ctxt));
+        }
+        return values;
+    }
+}
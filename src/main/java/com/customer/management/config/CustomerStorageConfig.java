@@ -0,0 +1,82 @@
+package com.customer.management.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.repository.CustomerLogStore;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.repository.LogStructuredCustomerRepository;
+
+/**
+ * Stores customers in {@link CustomerLogStore} when {@code customer.storage.engine=log};
+ * the default, {@code jpa}, keeps them in the database. The log-backed repository replaces
+ * the Spring Data one everywhere it is injected.
+ * <p>
+ * The store lives in a directory owned by one instance, and write-behind, the change log
+ * poller and the reactive API all go to the database directly, so they must be disabled;
+ * the {@code log-storage} profile does that.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.storage.engine", havingValue = "log")
+public class CustomerStorageConfig {
+
+    @Value("${customer.storage.log.directory:data/customers}")
+    private String directory = "data/customers";
+
+    @Value("${customer.storage.log.fsync:true}")
+    private boolean fsync = true;
+
+    @Value("${customer.storage.log.snapshot-threshold:64MB}")
+    private DataSize snapshotThreshold = DataSize.ofMegabytes(64);
+
+    @Value("${customer.storage.log.snapshot-interval:10m}")
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+
+    @Value("${customer.id.version:v7}")
+    private String idVersion = "v7";
+
+    @Value("${customer.write-behind.enabled:true}")
+    private boolean writeBehindEnabled = true;
+
+    @Value("${customer.coherence.enabled:true}")
+    private boolean coherenceEnabled = true;
+
+    @Value("${customer.reactive.enabled:false}")
+    private boolean reactiveEnabled;
+
+    @Bean(destroyMethod = "close")
+    public CustomerLogStore customerLogStore() throws IOException {
+        List<String> conflicts = new ArrayList<>();
+        if (writeBehindEnabled) {
+            conflicts.add("customer.write-behind.enabled");
+        }
+        if (coherenceEnabled) {
+            conflicts.add("customer.coherence.enabled");
+        }
+        if (reactiveEnabled) {
+            conflicts.add("customer.reactive.enabled");
+        }
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException("customer.storage.engine=log requires " + String.join(", ", conflicts)
+                    + "=false; these features read or write the database directly.");
+        }
+        return new CustomerLogStore(Path.of(directory), fsync, snapshotThreshold.toBytes(), snapshotInterval);
+    }
+
+    @Bean
+    @Primary
+    public CustomerRepository logStructuredCustomerRepository(CustomerLogStore customerLogStore) {
+        return new LogStructuredCustomerRepository(customerLogStore, CustomerIdVersion.fromProperty(idVersion));
+    }
+}
@@ -0,0 +1,59 @@
+package com.customer.management.config;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback {@link AsyncAppender} that counts what it drops. Events go into a bounded queue that
+ * one worker thread drains into the wrapped appender, so request threads never wait for the
+ * console. Once fewer than {@code dropThreshold} slots are free, INFO and lower events are
+ * dropped and counted; WARN and ERROR are always queued, waiting for a slot if the queue is full.
+ * <p>
+ * The base class would drop the same events at the same point, but silently; it is configured
+ * with a discarding threshold of 0 here so the decision is made (and counted) in one place.
+ * Queue depth and drops are exported as {@code logging.async.queue.depth} and
+ * {@code logging.async.dropped} by {@link MetricsConfig}.
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+    private int dropThreshold = -1;
+
+    /**
+     * Free queue slots below which INFO and lower events are dropped; a fifth of the queue size
+     * by default.
+     */
+    public void setDropThreshold(int dropThreshold) {
+        this.dropThreshold = dropThreshold;
+    }
+
+    public int getDropThreshold() {
+        return dropThreshold;
+    }
+
+    @Override
+    public void start() {
+        if (dropThreshold < 0) {
+            dropThreshold = getQueueSize() / 5;
+        }
+        setDiscardingThreshold(0);
+        setNeverBlock(false);
+        super.start();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (getRemainingCapacity() < dropThreshold && event.getLevel().toInt() <= Level.INFO_INT) {
+            dropped.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
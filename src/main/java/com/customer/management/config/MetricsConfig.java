@@ -0,0 +1,160 @@
+package com.customer.management.config;
+
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.customer.management.service.CustomerCache;
+import com.customer.management.service.CustomerChangeLogPoller;
+import com.customer.management.service.CustomerColumnStore;
+import com.customer.management.service.CustomerContactIndex;
+import com.customer.management.service.CustomerExportMetrics;
+import com.customer.management.service.CustomerNameIndex;
+import com.customer.management.service.CustomerWriteBehindService;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer instrumentation beyond what Actuator registers by itself.
+ * <p>
+ * Actuator already times every MVC request ({@code http.server.requests}) and every Spring Data
+ * repository call ({@code spring.data.repository.invocations}), and binds Hibernate statistics
+ * and the HikariCP pool. This adds the {@link TimedAspect} behind {@code @Timed} service classes
+ * and exposes the counters of the service's own components, the same ones served under
+ * {@code /v1/stats}. Those are read from the components' snapshots when the registry is
+ * scraped, so they cost nothing on the request path. The asynchronous log appender's queue
+ * depth and drops are bound as well.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Autowired
+    private CustomerCache customerCache;
+
+    @Autowired
+    private CustomerChangeLogPoller changeLogPoller;
+
+    @Autowired
+    private CustomerContactIndex contactIndex;
+
+    @Autowired
+    private CustomerNameIndex nameIndex;
+
+    @Autowired
+    private CustomerExportMetrics exportMetrics;
+
+    @Autowired
+    private CustomerWriteBehindService writeBehindService;
+
+    @Autowired
+    private CustomerColumnStore columnStore;
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder customerComponentMetrics() {
+        return registry -> {
+            gauge(registry, "customer.cache.size", "Customers held in the near cache", customerCache,
+                    c -> c.stats().getSize());
+            counter(registry, "customer.cache.hits", "Near cache hits", customerCache,
+                    c -> c.stats().getHitCount());
+            counter(registry, "customer.cache.misses", "Near cache misses", customerCache,
+                    c -> c.stats().getMissCount());
+            counter(registry, "customer.cache.evictions", "Near cache size and TTL evictions", customerCache,
+                    c -> c.stats().getEvictionCount());
+            counter(registry, "customer.cache.invalidations", "Near cache invalidations after changes", customerCache,
+                    c -> c.stats().getInvalidationCount());
+
+            gauge(registry, "customer.coherence.lag", "Delay of the last applied remote change, in ms", changeLogPoller,
+                    c -> c.stats().getLastLagMillis());
+            gauge(registry, "customer.coherence.pending.gaps", "Change-log gaps waiting to be filled", changeLogPoller,
+                    c -> c.stats().getPendingGaps());
+            counter(registry, "customer.coherence.remote.changes", "Changes from other replicas applied here",
+                    changeLogPoller, c -> c.stats().getRemoteChangesApplied());
+
+            gauge(registry, "customer.contact.index.emails", "Email addresses in the contact index", contactIndex,
+                    c -> c.stats().getEmailCount());
+            counter(registry, "customer.contact.index.hits", "Contact index lookups answered from memory", contactIndex,
+                    c -> c.stats().getHitCount());
+            counter(registry, "customer.contact.index.misses", "Contact index lookups that found nothing", contactIndex,
+                    c -> c.stats().getMissCount());
+            counter(registry, "customer.contact.index.duplicates", "Writes rejected for a duplicate email",
+                    contactIndex, c -> c.stats().getDuplicatesRejected());
+
+            gauge(registry, "customer.name.index.customers", "Customers in the name search index", nameIndex,
+                    c -> c.stats().getCustomerCount());
+            gauge(registry, "customer.name.index.nodes", "Nodes of the name search trie", nameIndex,
+                    c -> c.stats().getNodeCount());
+
+            gauge(registry, "customer.column.store.customers", "Customers in the columnar replica", columnStore,
+                    c -> c.stats().getCustomerCount());
+            gauge(registry, "customer.column.store.bytes", "Heap bytes held by the columnar replica", columnStore,
+                    c -> c.stats().getHeapBytes());
+
+            gauge(registry, "customer.export.in.flight", "Exports currently streaming", exportMetrics,
+                    c -> c.snapshot().getExportsInFlight());
+            counter(registry, "customer.export.rows", "Rows written by exports", exportMetrics,
+                    c -> c.snapshot().getRowsExported());
+            counter(registry, "customer.export.bytes", "Bytes written by exports", exportMetrics,
+                    c -> c.snapshot().getBytesWritten());
+
+            gauge(registry, "customer.write.behind.queue.depth", "Customers accepted but not yet committed",
+                    writeBehindService, c -> c.stats().getQueueDepth());
+            counter(registry, "customer.write.behind.accepted", "Customers accepted by the write-behind queue",
+                    writeBehindService, c -> c.stats().getAccepted());
+            counter(registry, "customer.write.behind.rejected", "Customers rejected because the queue was full",
+                    writeBehindService, c -> c.stats().getRejectedQueueFull());
+            counter(registry, "customer.write.behind.failed", "Queued customers the database rejected",
+                    writeBehindService, c -> c.stats().getFailed());
+        };
+    }
+
+    /**
+     * Queue depth and drops of the {@link DroppingAsyncAppender}s configured in
+     * {@code logback-spring.xml}, tagged with the appender name.
+     */
+    @Bean
+    public MeterBinder asyncLoggingMetrics() {
+        return registry -> {
+            LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+            loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).iteratorForAppenders().forEachRemaining(appender -> {
+                if (appender instanceof DroppingAsyncAppender async) {
+                    Gauge.builder("logging.async.queue.depth", async, DroppingAsyncAppender::getNumberOfElementsInQueue)
+                            .description("Log events waiting to be written")
+                            .tag("appender", async.getName())
+                            .register(registry);
+                    FunctionCounter.builder("logging.async.dropped", async, DroppingAsyncAppender::getDroppedCount)
+                            .description("INFO and lower log events dropped because the queue was nearly full")
+                            .tag("appender", async.getName())
+                            .register(registry);
+                }
+            });
+        };
+    }
+
+    // Meters hold their source weakly; the components are singletons and outlive the registry
+    private static <T> void gauge(MeterRegistry registry, String name, String description, T source,
+                                  ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value)
+                .description(description)
+                .register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, String description, T source,
+                                    ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value)
+                .description(description)
+                .register(registry);
+    }
+}
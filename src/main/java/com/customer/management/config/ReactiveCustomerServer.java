@@ -0,0 +1,72 @@
+package com.customer.management.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Netty server for the reactive read API, started and stopped with the application context.
+ */
+public class ReactiveCustomerServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCustomerServer.class);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private volatile LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    public ReactiveCustomerServer(HttpHandler httpHandler, int port, int eventLoopThreads) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        loopResources = LoopResources.create("customer-reactive", 1, eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive customer API started on port {} with {} event loop threads.", server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow();
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block();
+            loopResources = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Returns the bound port, which differs from the configured one when that is 0.
+     */
+    public int getPort() {
+        DisposableServer running = server;
+        if (running == null) {
+            throw new IllegalStateException("Reactive customer server is not running.");
+        }
+        return running.port();
+    }
+}
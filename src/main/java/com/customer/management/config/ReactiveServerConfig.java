@@ -0,0 +1,110 @@
+package com.customer.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.customer.management.controller.ReactiveCustomerHandler;
+import com.customer.management.repository.ReactiveCustomerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serves the reactive read API when {@code customer.reactive.enabled=true}.
+ * <p>
+ * The MVC API keeps running on Tomcat. The reactive routes get their own Netty server on
+ * {@code customer.reactive.port} with a fixed number of event loop threads, so slow clients cost
+ * a connection and some buffers rather than a thread each.
+ * <p>
+ * The R2DBC connection pool is deliberately not exposed as a bean: Spring Boot backs off its
+ * JDBC {@code DataSource} auto-configuration when a {@code ConnectionFactory} bean exists, and
+ * the JPA side must keep working unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.reactive.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+    @Value("${customer.reactive.path-prefix:/reactive/v1/customers}")
+    private String pathPrefix = "/reactive/v1/customers";
+
+    @Value("${customer.reactive.port:8081}")
+    private int port = 8081;
+
+    @Value("${customer.reactive.event-loop-threads:4}")
+    private int eventLoopThreads = 4;
+
+    @Value("${customer.reactive.r2dbc.url:r2dbc:h2:mem:///testdb;DB_CLOSE_DELAY=-1}")
+    private String r2dbcUrl = "r2dbc:h2:mem:///testdb;DB_CLOSE_DELAY=-1";
+
+    @Value("${customer.reactive.r2dbc.username:sa}")
+    private String r2dbcUsername = "sa";
+
+    @Value("${customer.reactive.r2dbc.password:}")
+    private String r2dbcPassword = "";
+
+    @Value("${customer.reactive.r2dbc.max-pool-size:10}")
+    private int maxPoolSize = 10;
+
+    private ConnectionPool connectionPool;
+
+    @PostConstruct
+    void createConnectionPool() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbcUsername)
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbcPassword)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    @PreDestroy
+    void disposeConnectionPool() {
+        connectionPool.dispose();
+    }
+
+    @Bean
+    public ReactiveCustomerRepository reactiveCustomerRepository() {
+        return new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionPool))
+                .getRepository(ReactiveCustomerRepository.class);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveCustomerRoutes(ReactiveCustomerHandler handler) {
+        return RouterFunctions.route()
+                .path(pathPrefix, builder -> builder
+                        .GET("/page", handler::getCustomerPage)
+                        .GET("/stream", handler::streamCustomers)
+                        .GET("/{id}", handler::getCustomerById))
+                .build();
+    }
+
+    @Bean
+    public ReactiveCustomerServer reactiveCustomerServer(RouterFunction<ServerResponse> reactiveCustomerRoutes,
+                                                         ObjectMapper objectMapper) {
+        // Same JSON mapping as the MVC API
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveCustomerServer(RouterFunctions.toHttpHandler(reactiveCustomerRoutes, strategies), port,
+                eventLoopThreads);
+    }
+}
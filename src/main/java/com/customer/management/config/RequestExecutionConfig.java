@@ -0,0 +1,53 @@
+package com.customer.management.config;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Runs request handling on virtual threads when {@code customer.execution.mode=virtual}.
+ * <p>
+ * In the default {@code platform} mode every request holds one of Tomcat's pooled platform
+ * threads ({@code server.tomcat.threads.max}) for as long as its JPA call blocks. In
+ * {@code virtual} mode each request, and each async MVC task such as a streaming export, gets
+ * its own virtual thread, so blocked requests no longer exhaust a thread pool. The JDBC
+ * connection pool ({@code spring.datasource.hikari.maximum-pool-size}) then is the only
+ * concurrency limit on database work; requests beyond it wait for a connection.
+ * <p>
+ * Virtual mode needs a Java 21 runtime.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.execution.mode", havingValue = "virtual")
+public class RequestExecutionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestExecutionConfig.class);
+
+    public RequestExecutionConfig() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException(
+                    "customer.execution.mode=virtual requires Java 21 or later, but the runtime is " + Runtime.version());
+        }
+        logger.info("Request execution mode: virtual threads.");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("customer-http-"));
+    }
+
+    /**
+     * Replaces Boot's bounded {@code applicationTaskExecutor}, which Spring MVC uses for
+     * {@code StreamingResponseBody} and other async request processing.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(new VirtualThreadExecutor("customer-async-"));
+    }
+}
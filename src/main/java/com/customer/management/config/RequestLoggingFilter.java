@@ -0,0 +1,156 @@
+package com.customer.management.config;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Logs one structured line per request: method, route pattern, status and duration as key-value
+ * pairs. It replaces the per-step INFO lines controllers and services used to write, which are
+ * DEBUG now.
+ * <p>
+ * Successful requests are sampled: each is logged with the probability configured for its
+ * endpoint in {@code customer.logging.requests.endpoint-sample-rates}, or
+ * {@code customer.logging.requests.sample-rate} otherwise, and the line carries that rate so
+ * counts can be scaled back up. Client errors, server errors and requests slower than
+ * {@code customer.logging.requests.slow-threshold-ms} are always logged. The route pattern is
+ * logged rather than the URI, so query parameters such as an email address never reach the log.
+ */
+@Component
+@ConditionalOnProperty(name = "customer.logging.requests.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    @Value("${customer.logging.requests.sample-rate:1.0}")
+    private double defaultSampleRate = 1.0;
+
+    // Comma-separated "METHOD /route/pattern=rate" entries, e.g. "GET /v1/customers/{id}=0.01"
+    @Value("${customer.logging.requests.endpoint-sample-rates:}")
+    private String endpointSampleRates = "";
+
+    @Value("${customer.logging.requests.slow-threshold-ms:1000}")
+    private long slowThresholdMillis = 1000;
+
+    // Method, then route pattern, so that a lookup needs no key string per request
+    private final Map<String, Map<String, Double>> sampleRates = new HashMap<>();
+
+    @PostConstruct
+    void parseSampleRates() {
+        for (String entry : endpointSampleRates.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            String[] endpoint = entry.substring(0, Math.max(separator, 0)).trim().split("\\s+");
+            if (separator < 0 || endpoint.length != 2) {
+                throw new IllegalArgumentException(
+                        "Expected METHOD /route=rate in customer.logging.requests.endpoint-sample-rates: " + entry);
+            }
+            double rate = Double.parseDouble(entry.substring(separator + 1).trim());
+            sampleRates.computeIfAbsent(endpoint[0].toUpperCase(Locale.ROOT), method -> new HashMap<>())
+                    .put(endpoint[1], rate);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                // Streaming responses finish on another thread; log once they have
+                request.getAsyncContext().addListener(new CompletionListener(start));
+            } else {
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long start) {
+        long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern instanceof String ? (String) pattern : UNMATCHED_ROUTE;
+        double sampleRate = 1.0;
+        if (status < 400 && durationMicros < TimeUnit.MILLISECONDS.toMicros(slowThresholdMillis)) {
+            sampleRate = sampleRate(request.getMethod(), route);
+            if (sampleRate < 1.0 && (sampleRate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+                return;
+            }
+        }
+        (status >= 500 ? logger.atWarn() : logger.atInfo())
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", route)
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", durationMicros / 1000.0)
+                .addKeyValue("sampleRate", sampleRate)
+                .log("Request completed");
+    }
+
+    private double sampleRate(String method, String route) {
+        Map<String, Double> routes = sampleRates.get(method);
+        Double rate = routes == null ? null : routes.get(route);
+        return rate == null ? defaultSampleRate : rate;
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final long start;
+        // The container calls onComplete after onTimeout and onError as well; only the first logs
+        private final AtomicBoolean logged = new AtomicBoolean();
+
+        CompletionListener(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            logOnce(event, ((HttpServletResponse) event.getSuppliedResponse()).getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            logOnce(event, HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            logOnce(event, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void logOnce(AsyncEvent event, int status) {
+            if (logged.compareAndSet(false, true)) {
+                log((HttpServletRequest) event.getSuppliedRequest(), status, start);
+            }
+        }
+    }
+}
@@ -4,22 +4,43 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.customer.management.dto.AsyncCreateStatus;
+import com.customer.management.dto.CustomerBatchRequest;
+import com.customer.management.dto.CustomerBatchResponse;
+import com.customer.management.dto.CustomerField;
+import com.customer.management.dto.CustomerFields;
+import com.customer.management.dto.CustomerFieldsPage;
+import com.customer.management.dto.CustomerPage;
+import com.customer.management.dto.CustomerSortOrder;
 import com.customer.management.entity.Customer;
 import com.customer.management.exception.ErrorResponse;
+import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.service.CustomerBatchService;
 import com.customer.management.service.CustomerService;
+import com.customer.management.service.CustomerWriteBehindService;
 import com.customer.management.validation.ValidUUID;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -29,9 +50,19 @@ public class CustomerController {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
 
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    static final String PREFER = "Prefer";
+    static final String RESPOND_ASYNC = "respond-async";
+
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerBatchService customerBatchService;
+
+    @Autowired
+    private CustomerWriteBehindService writeBehindService;
+
     @Operation(summary = "Create a new customer")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Customer created successfully"),
@@ -42,15 +73,56 @@ public class CustomerController {
     })
     @PostMapping
     public ResponseEntity<Customer> createCustomer(@Valid @RequestBody Customer customer) {
-    	logger.debug("Request received: {}", customer);
-        logger.info("Received request to create a customer: firstName={}, lastName={}", 
-                    customer.getFirstName(), customer.getLastName());
+        logger.debug("Received request to create a customer.");
         Customer createdCustomer = customerService.createCustomer(customer);
-        logger.info("Customer created successfully with ID={}", createdCustomer.getId());
-        return ResponseEntity.status(201).body(createdCustomer);
+        logger.debug("Customer created successfully with ID={}", createdCustomer.getId());
+        return ResponseEntity.status(201).eTag(ETags.of(createdCustomer.getVersion())).body(createdCustomer);
+    }
+
+    @Operation(summary = "Create a new customer asynchronously",
+            description = "With Prefer: respond-async the customer is validated, assigned its id and queued; it is inserted "
+                    + "together with other queued customers shortly afterwards. Poll the Location for durability. "
+                    + "Without the preference, or when asynchronous creation is disabled, the customer is created synchronously.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Customer accepted and queued"),
+        @ApiResponse(responseCode = "201", description = "Customer created synchronously"),
+        @ApiResponse(responseCode = "400", description = "Invalid input",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Email address already used by an existing or queued customer",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Create queue is full",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(headers = PREFER)
+    public ResponseEntity<?> createCustomerWithPreference(@Valid @RequestBody Customer customer,
+                                                          @RequestHeader(PREFER) String prefer) {
+        if (!writeBehindService.isEnabled() || !prefer.toLowerCase(Locale.ROOT).contains(RESPOND_ASYNC)) {
+            return createCustomer(customer);
+        }
+        logger.debug("Received request to create a customer asynchronously.");
+        AsyncCreateStatus status = writeBehindService.enqueue(customer);
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/customers/async-creates/" + status.getCustomerId()))
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(status);
+    }
+
+    @Operation(summary = "Check whether an asynchronously created customer is durable")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "PENDING, DURABLE or FAILED"),
+        @ApiResponse(responseCode = "404", description = "Unknown id, or the outcome is older than the status retention",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/async-creates/{id}")
+    public ResponseEntity<AsyncCreateStatus> getAsyncCreateStatus(@PathVariable @ValidUUID(message = "Invalid UUID format.") UUID id) {
+        return writeBehindService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("No asynchronous create found for ID: " + id));
     }
 
-    @Operation(summary = "Retrieve all customers")
+    @Operation(summary = "Retrieve all customers",
+            description = "Deprecated: returns at most the first customer.listing.max-results customers ordered by id. Use /v1/customers/page instead.",
+            deprecated = true)
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Customers retrieved successfully"),
         @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -58,45 +130,231 @@ public class CustomerController {
     })
     @GetMapping
     public ResponseEntity<List<Customer>> getAllCustomers() {
-        logger.info("Received request to retrieve all customers.");
+        logger.debug("Received request to retrieve all customers.");
         List<Customer> customers = customerService.getAllCustomers();
-        logger.info("Retrieved {} customers.", customers.size());
+        logger.debug("Retrieved {} customers.", customers.size());
+        return ResponseEntity.ok(customers);
+    }
+
+    @Operation(summary = "Retrieve selected fields of all customers",
+            description = "Deprecated like GET /v1/customers, which it answers when fields is given. fields, a comma-separated list such as id,emailAddress, returns only those attributes of each customer.",
+            deprecated = true)
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customer fieldsets retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown or no fields selected",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllCustomerFields(@RequestParam String fields) {
+        logger.debug("Received request to retrieve fields {} of all customers.", fields);
+        return ResponseEntity.ok(customerService.getAllCustomerFields(CustomerField.fromParameter(fields)));
+    }
+
+    @Operation(summary = "Retrieve a page of customers using a keyset cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customer page retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit, sort order or cursor",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CustomerPage> getCustomerPage(@RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String after,
+                                                        @RequestParam(defaultValue = "id") String sort) {
+        logger.debug("Received request to retrieve a customer page: limit={}, sort={}", limit, sort);
+        CustomerPage page = customerService.getCustomerPage(limit, after, CustomerSortOrder.fromParameter(sort));
+        logger.debug("Retrieved {} customers, hasNext={}.", page.getItems().size(), page.getNext() != null);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Retrieve selected fields of a page of customers using a keyset cursor",
+            description = "Answers GET /v1/customers/page when fields is given. fields, a comma-separated list such as id,emailAddress, returns only those attributes of each customer.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customer fieldsets page retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit, sort order, cursor or fields",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/page", params = "fields")
+    public ResponseEntity<CustomerFieldsPage> getCustomerFieldsPage(@RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) String after,
+                                                                    @RequestParam(defaultValue = "id") String sort,
+                                                                    @RequestParam String fields) {
+        logger.debug("Received request to retrieve a customer fields page: limit={}, sort={}", limit, sort);
+        CustomerFieldsPage page = customerService.getCustomerFieldsPage(limit, after,
+                CustomerSortOrder.fromParameter(sort), CustomerField.fromParameter(fields));
+        logger.debug("Retrieved {} customer fieldsets, hasNext={}.", page.getItems().size(), page.getNext() != null);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Search customers by name",
+            description = "Typeahead search: every term must be a prefix of the customer's first or last name. Case and accents are ignored.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching customers, exact and shorter name matches first"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<Customer>> searchCustomers(@RequestParam("q") @NotBlank(message = "Search query is required.") String query,
+                                                          @RequestParam(required = false) Integer limit) {
+        logger.debug("Received name search request: limit={}", limit);
+        List<Customer> customers = customerService.searchCustomersByName(query, limit);
+        logger.debug("Name search returned {} customers.", customers.size());
         return ResponseEntity.ok(customers);
     }
 
-    @Operation(summary = "Retrieve a customer by ID")
+    @Operation(summary = "Retrieve a customer by email address",
+            description = "Case-insensitive; resolved through the in-memory contact index.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Customer retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "No customer with this email address",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/by-email")
+    public ResponseEntity<Customer> getCustomerByEmail(@RequestParam @NotBlank(message = "Email is required.") String email) {
+        logger.debug("Received request to retrieve customer by email address");
+        Customer customer = customerService.getCustomerByEmail(email);
+        return ResponseEntity.ok().eTag(ETags.of(customer.getVersion())).body(customer);
+    }
+
+    @Operation(summary = "Retrieve the customers with a phone number",
+            description = "Spaces, dashes and other separators in the phone number are ignored.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customers retrieved successfully; empty if none match"),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/by-phone")
+    public ResponseEntity<List<Customer>> getCustomersByPhone(@RequestParam @NotBlank(message = "Phone number is required.") String phone) {
+        logger.debug("Received request to retrieve customers by phone number");
+        List<Customer> customers = customerService.getCustomersByPhone(phone);
+        logger.debug("Retrieved {} customers by phone number.", customers.size());
+        return ResponseEntity.ok(customers);
+    }
+
+    @Operation(summary = "Retrieve a customer by ID",
+            description = "The response carries the customer's version as ETag. Send it back in If-None-Match to get 304 Not Modified while it is unchanged.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customer retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Customer unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Customer not found",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 @ApiResponse(responseCode = "500", description = "Internal server error",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Customer> getCustomerById(@PathVariable  @ValidUUID(message = "Invalid UUID format.") UUID id) {
-        logger.info("Received request to retrieve customer with ID={}", id);
+    public ResponseEntity<Customer> getCustomerById(@PathVariable  @ValidUUID(message = "Invalid UUID format.") UUID id,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        logger.debug("Received request to retrieve customer with ID={}", id);
+        // The tags of Smile and CBOR bodies name their format, so a conditional GET needs it
+        CustomerFormat format = CustomerFormat.negotiate(accept);
+        ResponseEntity<Customer> notModified = notModified(id, ifNoneMatch, format);
+        if (notModified != null) {
+            return notModified;
+        }
         Customer customer = customerService.getCustomerById(id);
-        logger.info("Customer with ID={} retrieved successfully.", id);
-        return ResponseEntity.ok(customer);
+        logger.debug("Customer with ID={} retrieved successfully.", id);
+        return ResponseEntity.ok().eTag(ETags.of(customer.getVersion(), format)).body(customer);
     }
 
-    @Operation(summary = "Update a customer by ID")
+    @Operation(summary = "Retrieve selected fields of a customer by ID",
+            description = "Answers GET /v1/customers/{id} when fields is given. fields, a comma-separated list such as id,emailAddress, returns only those attributes. ETag and If-None-Match work as without fields.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customer fieldset retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Customer unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Unknown or no fields selected",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Customer not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getCustomerFieldsById(@PathVariable  @ValidUUID(message = "Invalid UUID format.") UUID id,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                     @RequestParam String fields) {
+        logger.debug("Received request to retrieve fields {} of customer with ID={}", fields, id);
+        Set<CustomerField> selected = CustomerField.fromParameter(fields);
+        CustomerFormat format = CustomerFormat.negotiate(accept);
+        ResponseEntity<Map<String, Object>> notModified = notModified(id, ifNoneMatch, format);
+        if (notModified != null) {
+            return notModified;
+        }
+        CustomerFields customerFields = customerService.getCustomerFields(id, selected);
+        return ResponseEntity.ok().eTag(ETags.of(customerFields.version(), format)).body(customerFields.values());
+    }
+
+    /**
+     * The 304 answer to a conditional GET whose If-None-Match still matches the customer's
+     * version, or {@code null} when the customer has to be sent. Only the version is read.
+     */
+    private <T> ResponseEntity<T> notModified(UUID id, String ifNoneMatch, CustomerFormat format) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        Long version = customerService.getCustomerVersion(id);
+        if (!ETags.noneMatchSatisfied(ifNoneMatch, version, format)) {
+            return null;
+        }
+        logger.debug("Customer with ID={} not modified.", id);
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(ETags.of(version, format))
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    @Operation(summary = "Update a customer by ID",
+            description = "Send the customer's ETag in If-Match to only update it if it has not changed since it was read.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Customer updated successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid customer data provided",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 @ApiResponse(responseCode = "404", description = "Customer not found",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "412", description = "Customer changed since the If-Match ETag",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 @ApiResponse(responseCode = "500", description = "Internal server error",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Customer> updateCustomer(@PathVariable @ValidUUID(message = "Invalid UUID format.") UUID id, @Valid @RequestBody Customer updatedCustomer) {
-        logger.info("Received request to update customer with ID={}. Update details: firstName={}, lastName={}", 
-                    id, updatedCustomer.getFirstName(), updatedCustomer.getLastName());
-        Customer updated = customerService.updateCustomer(id, updatedCustomer);
-        logger.info("Customer with ID={} updated successfully.", id);
-        return ResponseEntity.ok(updated);
+    public ResponseEntity<Customer> updateCustomer(@PathVariable @ValidUUID(message = "Invalid UUID format.") UUID id, @Valid @RequestBody Customer updatedCustomer,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("Received request to update customer with ID={}.", id);
+        Customer updated = customerService.updateCustomer(id, updatedCustomer, ETags.expectedVersion(ifMatch));
+        logger.debug("Customer with ID={} updated successfully.", id);
+        return ResponseEntity.ok().eTag(ETags.of(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Partially update a customer by ID",
+            description = "Accepts a JSON Merge Patch (RFC 7396). Only the supplied attributes are validated and written; null clears an attribute.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Customer patched successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid patch or attribute values",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "404", description = "Customer not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "412", description = "Customer changed since the If-Match ETag",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Customer> patchCustomer(@PathVariable @ValidUUID(message = "Invalid UUID format.") UUID id, @RequestBody JsonNode patch,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("Received request to patch customer with ID={}", id);
+        Customer patched = customerService.patchCustomer(id, patch, ETags.expectedVersion(ifMatch));
+        logger.debug("Customer with ID={} patched successfully.", id);
+        return ResponseEntity.ok().eTag(ETags.of(patched.getVersion())).body(patched);
     }
 
     @Operation(summary = "Delete a customer by ID")
@@ -104,16 +362,35 @@ public class CustomerController {
         @ApiResponse(responseCode = "204", description = "Customer deleted successfully"),
         @ApiResponse(responseCode = "404", description = "Customer not found",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "412", description = "Customer changed since the If-Match ETag",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
 @ApiResponse(responseCode = "500", description = "Internal server error",
         content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCustomer(@PathVariable @ValidUUID(message = "Invalid UUID format.") UUID id) {
-        logger.info("Received request to delete customer with ID={}", id);
-        customerService.deleteCustomer(id);
-        logger.info("Customer with ID={} deleted successfully.", id);
+    public ResponseEntity<Void> deleteCustomer(@PathVariable @ValidUUID(message = "Invalid UUID format.") UUID id,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("Received request to delete customer with ID={}", id);
+        customerService.deleteCustomer(id, ETags.expectedVersion(ifMatch));
+        logger.debug("Customer with ID={} deleted successfully.", id);
         return ResponseEntity.noContent().build();
     }
-}
-
 
+    @Operation(summary = "Apply a batch of create, update and delete operations",
+            description = "Operations are validated individually and applied in one transaction. Each result carries the status the equivalent single call would have returned.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed; inspect per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+@ApiResponse(responseCode = "500", description = "Internal server error",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CustomerBatchResponse> applyBatch(@RequestBody CustomerBatchRequest request) {
+        logger.debug("Received batch request with {} operations.",
+                request.getOperations() == null ? 0 : request.getOperations().size());
+        CustomerBatchResponse response = customerBatchService.applyBatch(request.getOperations());
+        logger.debug("Batch processed: succeeded={}, failed={}", response.getSucceeded(), response.getFailed());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,87 @@
+package com.customer.management.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Min;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.customer.management.dto.DedupJobStatus;
+import com.customer.management.dto.DuplicateCluster;
+import com.customer.management.exception.ErrorResponse;
+import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.service.CustomerDedupJob;
+import com.customer.management.service.CustomerDedupService;
+
+@RestController
+@Validated
+@RequestMapping("/v1/customers/dedup-jobs")
+public class CustomerDedupController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerDedupController.class);
+
+    @Autowired
+    private CustomerDedupService customerDedupService;
+
+    @Operation(summary = "Start a duplicate customer detection run over all customers")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Dedup job accepted")
+    })
+    @PostMapping
+    public ResponseEntity<DedupJobStatus> startDedupJob() {
+        CustomerDedupJob job = customerDedupService.startJob();
+        logger.info("Dedup job {} accepted.", job.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/customers/dedup-jobs/" + job.getId()))
+                .body(job.snapshot());
+    }
+
+    @Operation(summary = "Retrieve progress of a duplicate detection job")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Dedup job status retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Dedup job not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<DedupJobStatus> getDedupJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(findJob(jobId).snapshot());
+    }
+
+    @Operation(summary = "Retrieve the duplicate clusters found by a job, highest score first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Clusters retrieved successfully; empty until the job completes"),
+        @ApiResponse(responseCode = "404", description = "Dedup job not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{jobId}/clusters")
+    public ResponseEntity<List<DuplicateCluster>> getDuplicateClusters(@PathVariable UUID jobId,
+                                                                       @RequestParam(required = false) @Min(1) Integer limit) {
+        List<DuplicateCluster> clusters = findJob(jobId).getClusters();
+        if (limit != null && limit < clusters.size()) {
+            clusters = clusters.subList(0, limit);
+        }
+        return ResponseEntity.ok(clusters);
+    }
+
+    private CustomerDedupJob findJob(UUID jobId) {
+        return customerDedupService.getJob(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dedup job not found with ID: " + jobId));
+    }
+}
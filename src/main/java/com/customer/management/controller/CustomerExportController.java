@@ -0,0 +1,70 @@
+package com.customer.management.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.customer.management.service.CustomerExportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/v1/customers/export")
+public class CustomerExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerExportController.class);
+
+    @Autowired
+    private CustomerExportService customerExportService;
+
+    // Exports stream for as long as the table takes to read; other async requests keep the
+    // spring.mvc.async.request-timeout default
+    @Value("${customer.export.timeout:30m}")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    @Operation(summary = "Export all customers as newline-delimited JSON",
+            description = "Streams the whole customer table. Send 'Accept-Encoding: gzip' to receive a gzip-compressed body.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCustomers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request, HttpServletResponse response) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        logger.info("Received request to export customers (gzip={}).", gzip);
+
+        // The StreamingResponseBody is written under the async request registered here
+        AsyncWebRequest asyncRequest = WebAsyncUtils.createAsyncWebRequest(request, response);
+        asyncRequest.setTimeout(timeout.toMillis());
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncRequest);
+
+        StreamingResponseBody body = outputStream -> customerExportService.exportCustomers(outputStream, gzip);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+}
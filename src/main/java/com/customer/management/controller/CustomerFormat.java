@@ -0,0 +1,92 @@
+package com.customer.management.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * The body formats a customer can be served in. Each one gets its own entity tag (see
+ * {@link ETags}), so that a cache or a client holding one encoding never has it revalidated for
+ * another.
+ */
+enum CustomerFormat {
+
+    JSON(null, MediaType.APPLICATION_JSON, new MediaType("application", "*+json")),
+    SMILE("smile", new MediaType("application", "x-jackson-smile")),
+    CBOR("cbor", new MediaType("application", "cbor"));
+
+    private final String tagSuffix;
+    private final List<MediaType> mediaTypes;
+
+    CustomerFormat(String tagSuffix, MediaType... mediaTypes) {
+        this.tagSuffix = tagSuffix;
+        this.mediaTypes = List.of(mediaTypes);
+    }
+
+    /** The suffix after the version in this format's entity tags; {@code null} for JSON. */
+    String getTagSuffix() {
+        return tagSuffix;
+    }
+
+    /** The format of a body written as {@code contentType}; JSON for anything else. */
+    static CustomerFormat of(MediaType contentType) {
+        if (contentType != null) {
+            for (CustomerFormat format : values()) {
+                for (MediaType mediaType : format.mediaTypes) {
+                    if (mediaType.includes(contentType)) {
+                        return format;
+                    }
+                }
+            }
+        }
+        return JSON;
+    }
+
+    static CustomerFormat fromTagSuffix(String suffix) {
+        for (CustomerFormat format : values()) {
+            if (suffix.equals(format.tagSuffix)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The format Spring MVC will choose for a customer body under {@code accept}, needed before
+     * the body is written to answer a conditional GET. Follows the message converter selection:
+     * every pairing of an accepted and a producible type, most specific first, with ties going
+     * to the converter registered first.
+     */
+    static CustomerFormat negotiate(String accept) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = accept == null || accept.isBlank()
+                    ? new ArrayList<>(List.of(MediaType.ALL)) : new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            // Spring MVC rejects the request itself
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType requested : acceptable) {
+            for (CustomerFormat format : values()) {
+                for (MediaType produced : format.mediaTypes) {
+                    if (requested.isCompatibleWith(produced)) {
+                        MediaType candidate = produced.copyQualityValue(requested);
+                        compatible.add(requested.isLessSpecific(candidate) ? candidate : requested);
+                    }
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        for (MediaType mediaType : compatible) {
+            if (mediaType.isConcrete()) {
+                return of(mediaType);
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,103 @@
+package com.customer.management.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.customer.management.dto.ImportJobStatus;
+import com.customer.management.dto.ImportRejection;
+import com.customer.management.dto.LocalImportRequest;
+import com.customer.management.exception.ErrorResponse;
+import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.service.CustomerImportJob;
+import com.customer.management.service.CustomerImportService;
+
+@RestController
+@RequestMapping("/v1/customers/imports")
+public class CustomerImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerImportController.class);
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @Operation(summary = "Start a bulk import from an uploaded CSV file")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Import job accepted"),
+        @ApiResponse(responseCode = "400", description = "Missing or empty file",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobStatus> importUpload(@RequestParam("file") MultipartFile file) throws IOException {
+        logger.info("Received CSV upload for import: name={}, size={}", file.getOriginalFilename(), file.getSize());
+        return accepted(customerImportService.importUpload(file));
+    }
+
+    @Operation(summary = "Start a bulk import from a CSV file in the server's import directory")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Import job accepted"),
+        @ApiResponse(responseCode = "400", description = "Local imports disabled or file not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(path = "/local", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportJobStatus> importLocalFile(@Valid @RequestBody LocalImportRequest request) {
+        logger.info("Received request to import local file {}", request.getPath());
+        return accepted(customerImportService.importLocalFile(request.getPath()));
+    }
+
+    @Operation(summary = "Retrieve progress and throughput of an import job")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import job status retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Import job not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobStatus> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(findJob(jobId).snapshot());
+    }
+
+    @Operation(summary = "Retrieve the rows rejected by an import job")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Rejected rows retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Import job not found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{jobId}/rejections")
+    public ResponseEntity<List<ImportRejection>> getImportRejections(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(findJob(jobId).getRejections());
+    }
+
+    private CustomerImportJob findJob(UUID jobId) {
+        return customerImportService.getJob(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found with ID: " + jobId));
+    }
+
+    private static ResponseEntity<ImportJobStatus> accepted(CustomerImportJob job) {
+        logger.info("Import job {} accepted.", job.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/customers/imports/" + job.getId()))
+                .body(job.snapshot());
+    }
+}
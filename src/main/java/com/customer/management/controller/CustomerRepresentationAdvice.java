@@ -0,0 +1,44 @@
+package com.customer.management.controller;
+
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks every body written by a Jackson converter, which may be JSON, Smile or CBOR for the same
+ * URI, with {@code Vary: Accept}, and gives its customer ETag the format that was actually
+ * chosen. Applies to error bodies as well, which are negotiated the same way.
+ */
+@ControllerAdvice
+public class CustomerRepresentationAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        List<String> vary = headers.getVary();
+        if (!vary.contains(HttpHeaders.ACCEPT) && !vary.contains("*")) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        String eTag = headers.getETag();
+        Long version = eTag == null ? null : ETags.version(eTag);
+        if (version != null) {
+            headers.setETag(ETags.of(version, CustomerFormat.of(selectedContentType)));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,85 @@
+package com.customer.management.controller;
+
+/**
+ * Conversions between customer versions and HTTP entity tags. A customer's ETag is its version
+ * number as a strong tag, e.g. {@code "3"}, followed by the format for binary bodies, e.g.
+ * {@code "3-cbor"}: the representations differ byte for byte, so they must not share a tag.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return of(version, CustomerFormat.JSON);
+    }
+
+    static String of(Long version, CustomerFormat format) {
+        String suffix = format.getTagSuffix();
+        return "\"" + version + (suffix == null ? "" : "-" + suffix) + "\"";
+    }
+
+    /**
+     * Weak comparison as required for {@code If-None-Match}: {@code W/"3"} matches version 3 in
+     * JSON, but not in another format.
+     */
+    static boolean noneMatchSatisfied(String ifNoneMatch, Long version, CustomerFormat format) {
+        String current = of(version, format);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the expected version. Returns {@code null} when the
+     * header is absent or {@code *}; weak or malformed tags never match a strong tag and are
+     * rejected. The tag of any format names the version it was read at.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match must contain a single entity tag.");
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a strong entity tag such as \"3\".");
+        }
+        Long version = version(tag);
+        if (version == null) {
+            throw new IllegalArgumentException("If-Match does not contain a valid customer entity tag.");
+        }
+        return version;
+    }
+
+    /** The version in a strong customer tag of any format, or {@code null} if it is none. */
+    static Long version(String tag) {
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return null;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int dash = value.indexOf('-');
+        if (dash >= 0) {
+            if (CustomerFormat.fromTagSuffix(value.substring(dash + 1)) == null) {
+                return null;
+            }
+            value = value.substring(0, dash);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.customer.management.controller;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.customer.management.dto.CustomerSortOrder;
+import com.customer.management.entity.Customer;
+import com.customer.management.exception.ErrorResponse;
+import com.customer.management.exception.GlobalExceptionHandler;
+import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.service.ReactiveCustomerService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Handlers of the reactive read API, routed by {@code ReactiveServerConfig}. Responses mirror
+ * the corresponding {@link CustomerController} endpoints, including the ETag and the error
+ * bodies, which come from {@link GlobalExceptionHandler}.
+ */
+@Component
+@ConditionalOnProperty(name = "customer.reactive.enabled", havingValue = "true")
+public class ReactiveCustomerHandler {
+
+    @Autowired
+    private ReactiveCustomerService reactiveCustomerService;
+
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    public Mono<ServerResponse> getCustomerById(ServerRequest request) {
+        return Mono.fromCallable(() -> UUID.fromString(request.pathVariable("id")))
+                .flatMap(reactiveCustomerService::getCustomerById)
+                .flatMap(customer -> ServerResponse.ok()
+                        .eTag(ETags.of(customer.getVersion()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(customer))
+                .onErrorResume(this::error);
+    }
+
+    public Mono<ServerResponse> getCustomerPage(ServerRequest request) {
+        return Mono.defer(() -> reactiveCustomerService.getCustomerPage(
+                        request.queryParam("limit").map(Integer::valueOf).orElse(null),
+                        request.queryParam("after").orElse(null),
+                        CustomerSortOrder.fromParameter(request.queryParam("sort").orElse(null))))
+                .flatMap(page -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(page))
+                .onErrorResume(this::error);
+    }
+
+    /**
+     * Newline-delimited JSON, one customer per line, written as the client consumes it.
+     */
+    public Mono<ServerResponse> streamCustomers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reactiveCustomerService.streamCustomers(), Customer.class);
+    }
+
+    private Mono<ServerResponse> error(Throwable ex) {
+        ResponseEntity<ErrorResponse> response;
+        if (ex instanceof ResourceNotFoundException notFound) {
+            response = exceptionHandler.handleResourceNotFoundException(notFound);
+        } else if (ex instanceof IllegalArgumentException invalid) {
+            // Also covers malformed ids and limits (NumberFormatException)
+            response = exceptionHandler.handleIllegalArgumentException(invalid);
+        } else {
+            response = exceptionHandler.handleGenericException(ex instanceof Exception exception
+                    ? exception : new IllegalStateException(ex));
+        }
+        return ServerResponse.status(response.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(response.getBody());
+    }
+}
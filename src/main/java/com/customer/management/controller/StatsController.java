@@ -0,0 +1,95 @@
+package com.customer.management.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.customer.management.dto.CoherenceStats;
+import com.customer.management.dto.ColumnStoreStats;
+import com.customer.management.dto.ContactIndexStats;
+import com.customer.management.dto.ExportStats;
+import com.customer.management.dto.NameIndexStats;
+import com.customer.management.dto.NearCacheStats;
+import com.customer.management.dto.WriteBehindStats;
+import com.customer.management.service.CustomerCache;
+import com.customer.management.service.CustomerChangeLogPoller;
+import com.customer.management.service.CustomerColumnStore;
+import com.customer.management.service.CustomerContactIndex;
+import com.customer.management.service.CustomerNameIndex;
+import com.customer.management.service.CustomerExportMetrics;
+import com.customer.management.service.CustomerWriteBehindService;
+
+/**
+ * Read-only operational counters for the service's internal components.
+ */
+@RestController
+@RequestMapping("/v1/stats")
+public class StatsController {
+
+    @Autowired
+    private CustomerExportMetrics exportMetrics;
+
+    @Autowired
+    private CustomerCache customerCache;
+
+    @Autowired
+    private CustomerChangeLogPoller changeLogPoller;
+
+    @Autowired
+    private CustomerContactIndex contactIndex;
+
+    @Autowired
+    private CustomerNameIndex nameIndex;
+
+    @Autowired
+    private CustomerWriteBehindService writeBehindService;
+
+    @Autowired
+    private CustomerColumnStore columnStore;
+
+    @Operation(summary = "Export throughput counters")
+    @GetMapping("/export")
+    public ResponseEntity<ExportStats> getExportStats() {
+        return ResponseEntity.ok(exportMetrics.snapshot());
+    }
+
+    @Operation(summary = "Customer cache hit, miss and eviction counters")
+    @GetMapping("/cache")
+    public ResponseEntity<NearCacheStats> getCacheStats() {
+        return ResponseEntity.ok(customerCache.stats());
+    }
+
+    @Operation(summary = "Cross-replica cache coherence state and staleness")
+    @GetMapping("/coherence")
+    public ResponseEntity<CoherenceStats> getCoherenceStats() {
+        return ResponseEntity.ok(changeLogPoller.stats());
+    }
+
+    @Operation(summary = "Email/phone index size and hit rate")
+    @GetMapping("/contact-index")
+    public ResponseEntity<ContactIndexStats> getContactIndexStats() {
+        return ResponseEntity.ok(contactIndex.stats());
+    }
+
+    @Operation(summary = "Name search index size and latency")
+    @GetMapping("/name-index")
+    public ResponseEntity<NameIndexStats> getNameIndexStats() {
+        return ResponseEntity.ok(nameIndex.stats());
+    }
+
+    @Operation(summary = "Columnar in-memory replica size and heap footprint")
+    @GetMapping("/column-store")
+    public ResponseEntity<ColumnStoreStats> getColumnStoreStats() {
+        return ResponseEntity.ok(columnStore.stats());
+    }
+
+    @Operation(summary = "Write-behind create queue depth, batch sizes and commit latency")
+    @GetMapping("/write-behind")
+    public ResponseEntity<WriteBehindStats> getWriteBehindStats() {
+        return ResponseEntity.ok(writeBehindService.stats());
+    }
+}
@@ -0,0 +1,24 @@
+package com.customer.management.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of an asynchronous create. {@code customerId} is assigned when the request is
+ * accepted and becomes the id of the customer once the state is {@link CreateState#DURABLE}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncCreateStatus {
+
+    private UUID customerId;
+    private CreateState state;
+    private Instant acceptedAt;
+    private Instant committedAt;
+    private String error;
+}
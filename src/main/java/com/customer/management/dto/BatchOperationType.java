@@ -0,0 +1,7 @@
+package com.customer.management.dto;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
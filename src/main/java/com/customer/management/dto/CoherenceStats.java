@@ -0,0 +1,29 @@
+package com.customer.management.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the change-log tailer that keeps this replica's caches coherent with other replicas.
+ * Lag is measured from the time a change was recorded to the time it was applied here.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoherenceStats {
+
+    private boolean enabled;
+    private String instanceId;
+    private long highWaterMark;
+    private long polls;
+    private long remoteChangesApplied;
+    private long ownChangesSkipped;
+    private int pendingGaps;
+    private Instant lastPollAt;
+    private long lastLagMillis;
+    private long maxLagMillis;
+    private long pollIntervalMillis;
+}
@@ -0,0 +1,22 @@
+package com.customer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size and read count of the columnar in-memory customer replica.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnStoreStats {
+
+    private boolean enabled;
+    private boolean ready;
+    private long customerCount;
+    private long distinctNameCount;
+    private long heapBytes;
+    private double bytesPerCustomer;
+    private long readCount;
+}
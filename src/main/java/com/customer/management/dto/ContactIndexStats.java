@@ -0,0 +1,23 @@
+package com.customer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of the in-memory email/phone index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactIndexStats {
+
+    private boolean enabled;
+    private boolean ready;
+    private long emailCount;
+    private long phoneCount;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long duplicatesRejected;
+}
@@ -0,0 +1,16 @@
+package com.customer.management.dto;
+
+/**
+ * Durability of a customer accepted by the write-behind create queue.
+ */
+public enum CreateState {
+
+    /** Queued or being written; not yet committed. */
+    PENDING,
+
+    /** Committed to the database. */
+    DURABLE,
+
+    /** Rejected by the database; the customer was not created. */
+    FAILED
+}
@@ -0,0 +1,24 @@
+package com.customer.management.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one batch operation. {@code status} uses the HTTP status the equivalent
+ * single-item call would have returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBatchItemResult {
+
+    private int index;
+    private BatchOperationType op;
+    private UUID id;
+    private int status;
+    private List<String> errors;
+}
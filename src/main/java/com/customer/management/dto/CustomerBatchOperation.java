@@ -0,0 +1,23 @@
+package com.customer.management.dto;
+
+import java.util.UUID;
+
+import com.customer.management.entity.Customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single mutation inside a batch request. {@code id} is required for UPDATE and DELETE,
+ * {@code customer} for CREATE and UPDATE.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBatchOperation {
+
+    private BatchOperationType op;
+    private UUID id;
+    private Customer customer;
+}
@@ -0,0 +1,15 @@
+package com.customer.management.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBatchRequest {
+
+    private List<CustomerBatchOperation> operations;
+}
@@ -0,0 +1,17 @@
+package com.customer.management.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBatchResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<CustomerBatchItemResult> results;
+}
@@ -0,0 +1,9 @@
+package com.customer.management.dto;
+
+import java.util.UUID;
+
+/**
+ * The contact columns of a customer, used to build the in-memory contact index.
+ */
+public record CustomerContact(UUID id, String emailAddress, String phoneNumber) {
+}
@@ -0,0 +1,85 @@
+package com.customer.management.dto;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Customer attributes a client can select with the {@code fields} parameter. Each is both the
+ * JSON property and the entity attribute, so a selection maps directly onto a projection.
+ */
+public enum CustomerField {
+
+    ID("id"),
+    FIRST_NAME("firstName"),
+    MIDDLE_NAME("middleName"),
+    LAST_NAME("lastName"),
+    EMAIL_ADDRESS("emailAddress"),
+    PHONE_NUMBER("phoneNumber"),
+    VERSION("version");
+
+    private final String attribute;
+
+    CustomerField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public Object get(Customer customer) {
+        return switch (this) {
+            case ID -> customer.getId();
+            case FIRST_NAME -> customer.getFirstName();
+            case MIDDLE_NAME -> customer.getMiddleName();
+            case LAST_NAME -> customer.getLastName();
+            case EMAIL_ADDRESS -> customer.getEmailAddress();
+            case PHONE_NUMBER -> customer.getPhoneNumber();
+            case VERSION -> customer.getVersion();
+        };
+    }
+
+    /** The selected attributes of {@code customer}, in declaration order. */
+    public static Map<String, Object> project(Customer customer, Set<CustomerField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (CustomerField field : fields) {
+            values.put(field.attribute, field.get(customer));
+        }
+        return values;
+    }
+
+    /**
+     * Parses a comma-separated list of attribute names, for example {@code id,emailAddress}.
+     * Returns {@code null} when no selection was given, meaning all fields.
+     */
+    public static Set<CustomerField> fromParameter(String value) {
+        if (value == null) {
+            return null;
+        }
+        Set<CustomerField> fields = EnumSet.noneOf(CustomerField.class);
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                fields.add(fromAttribute(trimmed));
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected.");
+        }
+        return fields;
+    }
+
+    private static CustomerField fromAttribute(String attribute) {
+        for (CustomerField field : values()) {
+            if (field.attribute.equals(attribute)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported field: " + attribute
+                + ". Use id, firstName, middleName, lastName, emailAddress, phoneNumber or version.");
+    }
+}
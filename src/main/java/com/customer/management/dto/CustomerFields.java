@@ -0,0 +1,10 @@
+package com.customer.management.dto;
+
+import java.util.Map;
+
+/**
+ * The selected fields of one customer, and its version for the ETag whether or not the
+ * version itself was selected.
+ */
+public record CustomerFields(Long version, Map<String, Object> values) {
+}
@@ -0,0 +1,21 @@
+package com.customer.management.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A {@link CustomerPage} of sparse fieldsets: each item holds only the selected
+ * {@link CustomerField}s. {@code next} is the same opaque cursor.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerFieldsPage {
+
+    private List<Map<String, Object>> items;
+    private String next;
+}
@@ -0,0 +1,9 @@
+package com.customer.management.dto;
+
+import java.util.UUID;
+
+/**
+ * The columns duplicate detection compares, read without materialising entities.
+ */
+public record CustomerMatchFields(UUID id, String firstName, String lastName, String emailAddress, String phoneNumber) {
+}
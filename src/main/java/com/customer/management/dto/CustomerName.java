@@ -0,0 +1,9 @@
+package com.customer.management.dto;
+
+import java.util.UUID;
+
+/**
+ * The name columns of a customer, used to build the in-memory name index.
+ */
+public record CustomerName(UUID id, String firstName, String lastName) {
+}
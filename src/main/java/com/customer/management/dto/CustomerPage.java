@@ -0,0 +1,22 @@
+package com.customer.management.dto;
+
+import java.util.List;
+
+import com.customer.management.entity.Customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a keyset-paginated customer listing. {@code next} is an opaque cursor to pass
+ * back as {@code after}; it is {@code null} on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPage {
+
+    private List<Customer> items;
+    private String next;
+}
@@ -0,0 +1,27 @@
+package com.customer.management.dto;
+
+import java.util.Locale;
+
+/**
+ * Stable sort orders supported by keyset pagination. Both end with the primary key so that
+ * every row has a unique position.
+ */
+public enum CustomerSortOrder {
+
+    /** Ordered by id only. */
+    ID,
+
+    /** Ordered by lastName, firstName, id. */
+    NAME;
+
+    public static CustomerSortOrder fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported sort order: " + value + ". Use 'id' or 'name'.");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.customer.management.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress snapshot of a duplicate detection job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DedupJobStatus {
+
+    private UUID jobId;
+    private JobState state;
+    private long rowsScanned;
+    private long blocks;
+    private long oversizedBlocksSkipped;
+    private long comparisons;
+    private long matchedPairs;
+    private long clusters;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
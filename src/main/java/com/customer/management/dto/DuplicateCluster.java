@@ -0,0 +1,23 @@
+package com.customer.management.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A group of customers that are probably the same person. {@code score} is the highest pairwise
+ * match score inside the cluster (0..1), {@code matchedPairs} the number of pairs that scored
+ * above the threshold.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCluster {
+
+    private List<UUID> customerIds;
+    private double score;
+    private int matchedPairs;
+}
@@ -0,0 +1,24 @@
+package com.customer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cumulative counters for the NDJSON export endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportStats {
+
+    private long exportsStarted;
+    private long exportsCompleted;
+    private long exportsFailed;
+    private long exportsInFlight;
+    private long rowsExported;
+    private long bytesWritten;
+    private long lastExportRows;
+    private long lastExportBytes;
+    private double lastExportRowsPerSecond;
+}
@@ -0,0 +1,31 @@
+package com.customer.management.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress snapshot of a bulk import job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobStatus {
+
+    private UUID jobId;
+    private JobState state;
+    private String source;
+    private long rowsRead;
+    private long rowsValid;
+    private long rowsImported;
+    private long rowsRejected;
+    private long chunksCommitted;
+    private double rowsPerSecond;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.customer.management.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A CSV row that was not imported. {@code lineNumber} is 1-based and counts the header line.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRejection {
+
+    private long lineNumber;
+    private List<String> errors;
+}
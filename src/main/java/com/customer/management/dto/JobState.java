@@ -0,0 +1,11 @@
+package com.customer.management.dto;
+
+/**
+ * Lifecycle of a background job.
+ */
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
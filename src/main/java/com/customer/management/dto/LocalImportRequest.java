@@ -0,0 +1,18 @@
+package com.customer.management.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Import of a CSV file that already sits on the server, relative to customer.import.local-directory.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocalImportRequest {
+
+    @NotBlank(message = "File path is required.")
+    private String path;
+}
@@ -0,0 +1,21 @@
+package com.customer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of the in-memory name search index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NameIndexStats {
+
+    private boolean enabled;
+    private boolean ready;
+    private long customerCount;
+    private long nodeCount;
+    private long searchCount;
+    private double averageSearchMicros;
+}
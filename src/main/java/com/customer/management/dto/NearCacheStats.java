@@ -0,0 +1,23 @@
+package com.customer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of the in-process customer cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearCacheStats {
+
+    private boolean enabled;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long invalidationCount;
+    private double averageLoadMillis;
+}
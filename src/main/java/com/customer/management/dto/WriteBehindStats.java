@@ -0,0 +1,29 @@
+package com.customer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counters of the write-behind create queue. Batch sizes are rows per commit; commit latency
+ * is the time from the start of a group's transaction to its commit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindStats {
+
+    private boolean enabled;
+    private int queueCapacity;
+    private int queueDepth;
+    private long accepted;
+    private long rejectedQueueFull;
+    private long committed;
+    private long failed;
+    private long commits;
+    private int lastBatchSize;
+    private int maxBatchSize;
+    private double averageBatchSize;
+    private double averageCommitMillis;
+    private double maxCommitMillis;
+}
@@ -1,8 +1,6 @@
 package com.customer.management.entity;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -10,6 +8,8 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 
 
 import jakarta.persistence.*;
@@ -20,11 +20,18 @@ import java.util.UUID;
 @Table(name = "Customer", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"phoneNumber", "emailAddress"})
+       },
+       indexes = {
+           @Index(name = "idx_customer_name_keyset", columnList = "lastName, firstName, id"),
+           @Index(name = "idx_customer_phone", columnList = "phoneNumber")
        })
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    // UUIDv7 by default, so new rows are appended to the primary key index in creation order
+    @GeneratedCustomerId
+    // Spring Data R2DBC does not recognize the JPA @Id; see ReactiveCustomerRepository
+    @org.springframework.data.annotation.Id
     private UUID id;
     
     @NotBlank(message = "First name is required.")
@@ -49,5 +56,11 @@ public class Customer {
     @Column(name = "phoneNumber", length = 50)
     private String phoneNumber;
 
+    // Optimistic lock version; exposed to clients as the ETag
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
 }
 
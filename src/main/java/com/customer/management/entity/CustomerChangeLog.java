@@ -0,0 +1,41 @@
+package com.customer.management.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * One row per committed customer write, tailed by every replica to invalidate its local caches.
+ * {@code seq} is assigned by the database at insert time so it grows in insertion order.
+ */
+@Entity
+@Data
+@Table(name = "CustomerChangeLog")
+public class CustomerChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "customerId", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "changeType", nullable = false, length = 16)
+    private String changeType;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "changedAt", nullable = false)
+    private Instant changedAt;
+
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+}
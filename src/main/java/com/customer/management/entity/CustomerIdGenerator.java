@@ -0,0 +1,44 @@
+package com.customer.management.entity;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * Hibernate generator behind {@link GeneratedCustomerId}. The UUID version comes from the
+ * Hibernate setting {@value #VERSION_SETTING}, which {@code CustomerIdConfig} fills in from
+ * {@code customer.id.version}.
+ */
+public class CustomerIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String VERSION_SETTING = "customer.id.version";
+
+    private final CustomerIdVersion version;
+
+    public CustomerIdGenerator(GeneratedCustomerId annotation, Member member, CustomIdGeneratorCreationContext context) {
+        Object setting = context.getServiceRegistry().getService(ConfigurationService.class).getSettings()
+                .get(VERSION_SETTING);
+        this.version = CustomerIdVersion.fromProperty(setting == null ? null : setting.toString());
+    }
+
+    public CustomerIdVersion getVersion() {
+        return version;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return version.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
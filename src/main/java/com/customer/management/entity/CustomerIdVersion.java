@@ -0,0 +1,41 @@
+package com.customer.management.entity;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * UUID version used for new customer ids, chosen per deployment with {@code customer.id.version}.
+ * Existing ids are kept either way, so a deployment can switch at any time; only the order of
+ * rows created before the switch stays random.
+ */
+public enum CustomerIdVersion {
+
+    /** Random ids, as {@link UUID#randomUUID()}. */
+    V4 {
+        @Override
+        public UUID generate() {
+            return UUID.randomUUID();
+        }
+    },
+
+    /** Time-ordered ids from {@link TimeOrderedUuidGenerator#shared()}. */
+    V7 {
+        @Override
+        public UUID generate() {
+            return TimeOrderedUuidGenerator.shared().generate();
+        }
+    };
+
+    public abstract UUID generate();
+
+    public static CustomerIdVersion fromProperty(String value) {
+        if (value == null || value.isBlank()) {
+            return V7;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported customer id version: " + value + ". Use 'v4' or 'v7'.");
+        }
+    }
+}
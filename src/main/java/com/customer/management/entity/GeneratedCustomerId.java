@@ -0,0 +1,18 @@
+package com.customer.management.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates the id on insert with {@link CustomerIdGenerator}: a time-ordered UUIDv7 by
+ * default, or a random UUIDv4 with {@code customer.id.version=v4}.
+ */
+@IdGeneratorType(CustomerIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedCustomerId {
+}
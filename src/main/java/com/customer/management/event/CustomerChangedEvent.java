@@ -0,0 +1,37 @@
+package com.customer.management.event;
+
+import java.util.UUID;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Published by every write path after a customer row has been created, updated or deleted.
+ * Listeners that maintain derived state (caches, indexes) should use
+ * {@code @TransactionalEventListener} so they only react once the change is committed.
+ *
+ * @param customerId id of the affected customer
+ * @param changeType kind of change
+ * @param version    row version after the change; for deletions the deleted version, or
+ *                   {@code null} when the delete was unconditional
+ * @param customer   state after the change, or {@code null} for deletions
+ */
+public record CustomerChangedEvent(UUID customerId, ChangeType changeType, Long version, Customer customer) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static CustomerChangedEvent created(Customer customer) {
+        return new CustomerChangedEvent(customer.getId(), ChangeType.CREATED, customer.getVersion(), customer);
+    }
+
+    public static CustomerChangedEvent updated(Customer customer) {
+        return new CustomerChangedEvent(customer.getId(), ChangeType.UPDATED, customer.getVersion(), customer);
+    }
+
+    public static CustomerChangedEvent deleted(UUID customerId, Long version) {
+        return new CustomerChangedEvent(customerId, ChangeType.DELETED, version, null);
+    }
+}
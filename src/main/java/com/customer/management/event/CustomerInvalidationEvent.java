@@ -0,0 +1,13 @@
+package com.customer.management.event;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Published when another replica changed the given customers. Local derived state for these ids
+ * must be dropped or reloaded from the database.
+ *
+ * @param customerIds ids changed elsewhere; never empty
+ */
+public record CustomerInvalidationEvent(Collection<UUID> customerIds) {
+}
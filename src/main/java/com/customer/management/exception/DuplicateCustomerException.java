@@ -0,0 +1,8 @@
+package com.customer.management.exception;
+
+public class DuplicateCustomerException extends RuntimeException {
+
+	public DuplicateCustomerException(String message) {
+        super(message);
+    }
+}
@@ -10,6 +10,10 @@ public class ErrorResponse {
     private String message;
     private List<String> details;
 
+    // For JSON deserialization
+    public ErrorResponse() {
+    }
+
     public ErrorResponse(LocalDateTime timestamp, String error, String message, List<String> details) {
         this.timestamp = timestamp;
         this.error = error;
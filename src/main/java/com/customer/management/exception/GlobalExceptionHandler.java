@@ -5,18 +5,33 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
 	@ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        countError("resource_not_found", HttpStatus.NOT_FOUND, ex);
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
                 "Resource Not Found",
@@ -26,8 +41,86 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        countError("precondition_failed", HttpStatus.PRECONDITION_FAILED, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Precondition Failed",
+                ex.getMessage(),
+                Collections.singletonList("Fetch the resource again and retry with its current ETag.")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(DuplicateCustomerException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateCustomerException(DuplicateCustomerException ex) {
+        countError("duplicate_customer", HttpStatus.CONFLICT, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Conflict",
+                ex.getMessage(),
+                Collections.singletonList("Email addresses must be unique across customers.")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        countError("data_integrity_violation", HttpStatus.CONFLICT, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Conflict",
+                "The request conflicts with an existing customer.",
+                Collections.singletonList("Email addresses and email/phone combinations must be unique.")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        countError("optimistic_locking_failure", HttpStatus.CONFLICT, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Conflict",
+                "The resource was modified concurrently.",
+                Collections.singletonList("Fetch the resource again and retry.")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // Raised when no pooled connection becomes available within the pool's connection timeout
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(Exception ex) {
+        countError("connection_unavailable", HttpStatus.SERVICE_UNAVAILABLE, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Service Unavailable",
+                "No database connection is available.",
+                Collections.singletonList("The service is at capacity; retry later.")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleWriteQueueFullException(WriteQueueFullException ex) {
+        countError("write_queue_full", HttpStatus.SERVICE_UNAVAILABLE, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                "Service Unavailable",
+                ex.getMessage(),
+                Collections.singletonList("Retry later or create the customer without Prefer: respond-async.")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        countError("illegal_argument", HttpStatus.BAD_REQUEST, ex);
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
                 "Invalid Argument",
@@ -39,6 +132,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        countError("unexpected", HttpStatus.INTERNAL_SERVER_ERROR, ex);
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
                 "Internal Server Error",
@@ -50,11 +144,34 @@ public class GlobalExceptionHandler {
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        countError("invalid_body", HttpStatus.BAD_REQUEST, ex);
         Map<String, String> errors = new HashMap<>();
         for (FieldError error : ex.getBindingResult().getFieldErrors()) {
             errors.put(error.getField(), error.getDefaultMessage());
         }
         return ResponseEntity.badRequest().body(errors);
     }
-}
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolationException(ConstraintViolationException ex) {
+        countError("constraint_violation", HttpStatus.BAD_REQUEST, ex);
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+            String field = null;
+            for (Path.Node node : violation.getPropertyPath()) {
+                field = node.getName();
+            }
+            errors.put(field, violation.getMessage());
+        }
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    /**
+     * Counts handled errors as {@code customer.api.errors}, tagged with the handler branch, the
+     * response status and the exception type.
+     */
+    private void countError(String handler, HttpStatus status, Exception ex) {
+        meterRegistry.counter("customer.api.errors", "handler", handler, "status", String.valueOf(status.value()),
+                "exception", ex.getClass().getSimpleName()).increment();
+    }
+}
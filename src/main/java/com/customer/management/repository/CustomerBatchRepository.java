@@ -0,0 +1,20 @@
+package com.customer.management.repository;
+
+import java.util.List;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Writes the changes of one {@code /batch} request together.
+ */
+public interface CustomerBatchRepository {
+
+    /**
+     * Writes {@code updates}, inserts {@code creates} and deletes {@code deletes}, all or nothing.
+     * Updates and deletes must be customers read in the current transaction; they are written
+     * only if they still have the version read, otherwise nothing is written and an
+     * {@link org.springframework.dao.OptimisticLockingFailureException} is thrown. Ids and new
+     * versions are set on the given instances.
+     */
+    void writeBatch(List<Customer> updates, List<Customer> creates, List<Customer> deletes);
+}
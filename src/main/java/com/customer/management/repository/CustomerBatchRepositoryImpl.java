@@ -0,0 +1,26 @@
+package com.customer.management.repository;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.customer.management.entity.Customer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class CustomerBatchRepositoryImpl implements CustomerBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void writeBatch(List<Customer> updates, List<Customer> creates, List<Customer> deletes) {
+        // Updates are managed entities, written by the flush; the surrounding transaction makes
+        // the batch atomic and a stale version fails the flush
+        creates.forEach(entityManager::persist);
+        deletes.forEach(entityManager::remove);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,29 @@
+package com.customer.management.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.customer.management.entity.CustomerChangeLog;
+
+public interface CustomerChangeLogRepository extends JpaRepository<CustomerChangeLog, Long> {
+
+    List<CustomerChangeLog> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+
+    List<CustomerChangeLog> findBySeqIn(Collection<Long> seqs);
+
+    @Query("select coalesce(max(l.seq), 0) from CustomerChangeLog l")
+    long findMaxSeq();
+
+    @Transactional
+    @Modifying
+    @Query("delete from CustomerChangeLog l where l.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,1001 @@
+package com.customer.management.repository;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Customer storage engine made of an append-only write-ahead log and periodic compacted
+ * snapshots in one directory, with every customer's location held in memory.
+ *
+ * <p>Each record is {@code [length][CRC32C][type][id][version][five strings]}. Writes are
+ * serialized, appended to the active {@code wal-N.log} segment and acknowledged once the
+ * segment has been forced to disk; concurrent writers share one {@code force} (group commit).
+ * The primary index maps each id, in the same unsigned order H2 uses for UUID keys, to the
+ * file and offset of its latest record, and reads are one positional read plus a checksum.
+ * Unique email and phone/name lookups are answered from secondary indexes.
+ *
+ * <p>Once the log segments reach {@code snapshotThreshold} bytes, or every
+ * {@code snapshotInterval} if anything was written, a background thread rolls to a new
+ * segment and copies the live records of every older file into {@code snapshot-N.dat}, which
+ * replaces them. On startup the latest snapshot is loaded and the newer segments are
+ * replayed; a record cut short or failing its checksum at the end of the last segment is the
+ * tail of a write that was never acknowledged and is truncated.
+ */
+public class CustomerLogStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerLogStore.class);
+
+    private static final byte[] WAL_MAGIC = "CUSTWAL1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SNAPSHOT_MAGIC = "CUSTSNP1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final Pattern FILE_NAME = Pattern.compile("(wal|snapshot)-(\\d{16})\\.(log|dat)");
+
+    /** Orders ids as unsigned 128-bit numbers, the order of H2's UUID primary key. */
+    public static final Comparator<UUID> ID_ORDER = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private final Path directory;
+    private final boolean fsync;
+    private final long snapshotThreshold;
+
+    private final ConcurrentSkipListMap<UUID, Entry> primary = new ConcurrentSkipListMap<>(ID_ORDER);
+    // Keyed by emailKey, so addresses that differ only in case collide as in the JPA schema
+    private final ConcurrentHashMap<String, UUID> emails = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<UUID>> phones = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<NameKey> names = new ConcurrentSkipListSet<>();
+
+    // Appends and index updates happen under writeLock; waiting for durability does not
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private boolean syncInProgress;
+
+    private final List<DataFile> files = new ArrayList<>();
+    private volatile DataFile active;
+    private final AtomicLong logBytes = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+    private final AtomicLong snapshots = new AtomicLong();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private long writesAtLastSnapshot;
+    private final ScheduledExecutorService compactor;
+    private volatile boolean closed;
+
+    public CustomerLogStore(Path directory, boolean fsync, long snapshotThreshold, Duration snapshotInterval)
+            throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.snapshotThreshold = snapshotThreshold;
+        Files.createDirectories(directory);
+        recover();
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!snapshotInterval.isZero()) {
+            long millis = snapshotInterval.toMillis();
+            compactor.scheduleWithFixedDelay(() -> compactIfWritten(), millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ---- Reads ----
+
+    public Customer get(UUID id) {
+        try {
+            return readLatest(id);
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not read customer " + id + " from " + directory, ex);
+        }
+    }
+
+    public Long version(UUID id) {
+        Entry entry = primary.get(id);
+        return entry == null ? null : entry.fields().version();
+    }
+
+    public int size() {
+        return primary.size();
+    }
+
+    public UUID findIdByEmail(String emailAddress) {
+        return emailAddress == null ? null : emails.get(emailKey(emailAddress));
+    }
+
+    public List<UUID> findIdsByPhone(String phoneNumber) {
+        Set<UUID> ids = phoneNumber == null ? null : phones.get(phoneNumber);
+        if (ids == null) {
+            return List.of();
+        }
+        List<UUID> sorted = new ArrayList<>(ids);
+        sorted.sort(ID_ORDER);
+        return sorted;
+    }
+
+    /** Live view of every id in {@link #ID_ORDER}. */
+    public NavigableSet<UUID> ids() {
+        return primary.keySet();
+    }
+
+    /** Live view of every customer ordered by last name, first name and id. */
+    public NavigableSet<NameKey> names() {
+        return names;
+    }
+
+    /** Indexed fields of every customer in id order, read without touching the files. */
+    public Stream<IndexedFields> indexedFields() {
+        return primary.values().stream().map(Entry::fields);
+    }
+
+    // ---- Writes ----
+
+    /**
+     * Applies {@code changes} in order and returns once they are durable. The changes are
+     * validated together before anything is written, so a duplicate id or email anywhere in
+     * the list fails all of them with {@link DataIntegrityViolationException}.
+     *
+     * @return per change, the customer as written (for a delete, as it was before) or
+     *         {@code null} when the id or expected version did not match
+     */
+    public List<Customer> apply(List<? extends Change> changes) {
+        return apply(changes, false);
+    }
+
+    /**
+     * Like {@link #apply(List)}, but all or nothing: when an id or expected version does not
+     * match, nothing is written and {@link OptimisticLockingFailureException} is thrown.
+     *
+     * @return per change, the customer as written (for a delete, as it was before)
+     */
+    public List<Customer> applyAll(List<? extends Change> changes) {
+        return apply(changes, true);
+    }
+
+    private List<Customer> apply(List<? extends Change> changes, boolean all) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        DataFile file;
+        long end;
+        List<Customer> results;
+        writeLock.lock();
+        try {
+            ensureOpen();
+            Staged staged = stage(changes);
+            results = staged.results;
+            if (all) {
+                int missed = results.indexOf(null);
+                if (missed >= 0) {
+                    throw new OptimisticLockingFailureException("Customer " + changes.get(missed).id()
+                            + " was changed or deleted concurrently; nothing was written.");
+                }
+            }
+            if (staged.records.isEmpty()) {
+                return results;
+            }
+            file = active;
+            long position = file.appended;
+            List<Entry> entries = new ArrayList<>(staged.records.size());
+            ByteBuffer[] buffers = new ByteBuffer[staged.records.size()];
+            for (int i = 0; i < buffers.length; i++) {
+                Pending record = staged.records.get(i);
+                buffers[i] = encode(record.type, record.id, record.customer);
+                entries.add(record.customer == null ? null
+                        : new Entry(file, position, buffers[i].remaining(), IndexedFields.of(record.customer)));
+                position += buffers[i].remaining();
+            }
+            FileChannel channel = file.channel;
+            try {
+                // Positioned explicitly so that a write that failed halfway is overwritten
+                channel.position(file.appended);
+                writeFully(channel, buffers);
+            } catch (ClosedChannelException ex) {
+                file.reopen(channel);
+                throw ex;
+            }
+            logBytes.addAndGet(position - file.appended);
+            file.appended = position;
+            for (int i = 0; i < entries.size(); i++) {
+                Pending record = staged.records.get(i);
+                index(record.id, entries.get(i));
+            }
+            writes.addAndGet(buffers.length);
+            end = position;
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not append to the customer log in " + directory, ex);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(file, end);
+        if (logBytes.get() >= snapshotThreshold && compacting.compareAndSet(false, true)) {
+            compactor.execute(this::compactQuietly);
+        }
+        return results;
+    }
+
+    private Staged stage(List<? extends Change> changes) throws IOException {
+        Staged staged = new Staged();
+        Map<UUID, Customer> current = new HashMap<>();
+        Map<String, UUID> emailOwners = new HashMap<>();
+        for (Change change : changes) {
+            UUID id = Objects.requireNonNull(change.id(), "id");
+            Customer before = current.containsKey(id) ? current.get(id) : readLatest(id);
+            Customer after;
+            if (change instanceof Insert insert) {
+                if (before != null) {
+                    throw new DataIntegrityViolationException("A customer with id " + id + " already exists.");
+                }
+                after = copy(insert.customer());
+                after.setId(id);
+                after.setVersion(0L);
+            } else if (before == null || (change.expectedVersion() != null
+                    && !change.expectedVersion().equals(before.getVersion()))) {
+                staged.results.add(null);
+                continue;
+            } else if (change instanceof Update update) {
+                after = copy(before);
+                update.changes().accept(after);
+                after.setId(id);
+                after.setVersion(before.getVersion() + 1);
+            } else {
+                after = null;
+            }
+            if (before != null && before.getEmailAddress() != null) {
+                emailOwners.put(emailKey(before.getEmailAddress()), null);
+            }
+            if (after != null && after.getEmailAddress() != null) {
+                String email = emailKey(after.getEmailAddress());
+                UUID owner = emailOwners.containsKey(email) ? emailOwners.get(email) : emails.get(email);
+                if (owner != null && !owner.equals(id)) {
+                    throw new DataIntegrityViolationException(
+                            "Email address " + after.getEmailAddress() + " is already in use.");
+                }
+                emailOwners.put(email, id);
+            }
+            current.put(id, after);
+            staged.records.add(new Pending(after == null ? DELETE : PUT, id, after));
+            staged.results.add(copy(after == null ? before : after));
+        }
+        return staged;
+    }
+
+    private Customer readLatest(UUID id) throws IOException {
+        while (true) {
+            Entry entry = primary.get(id);
+            if (entry == null) {
+                return null;
+            }
+            try {
+                return decode(entry);
+            } catch (ClosedByInterruptException ex) {
+                throw ex;
+            } catch (ClosedChannelException ex) {
+                // Compaction moved the record and retired its file; look it up again
+                ensureOpen();
+            }
+        }
+    }
+
+    private void index(UUID id, Entry entry) {
+        Entry previous = entry == null ? primary.remove(id) : primary.put(id, entry);
+        if (previous != null) {
+            IndexedFields old = previous.fields();
+            if (old.emailAddress() != null) {
+                emails.remove(emailKey(old.emailAddress()), id);
+            }
+            if (old.phoneNumber() != null) {
+                phones.computeIfPresent(old.phoneNumber(), (phone, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+            names.remove(new NameKey(old.lastName(), old.firstName(), id));
+        }
+        if (entry != null) {
+            IndexedFields fields = entry.fields();
+            if (fields.emailAddress() != null) {
+                emails.put(emailKey(fields.emailAddress()), id);
+            }
+            if (fields.phoneNumber() != null) {
+                phones.computeIfAbsent(fields.phoneNumber(), phone -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+            names.add(new NameKey(fields.lastName(), fields.firstName(), id));
+        }
+    }
+
+    /**
+     * Waits until {@code file} is forced up to {@code end}. One waiting writer forces the file
+     * for everyone whose records were appended before the force started.
+     */
+    private void awaitDurable(DataFile file, long end) {
+        if (!fsync) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (file.durable < end) {
+                if (syncInProgress) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncInProgress = true;
+                long target = file.appended;
+                FileChannel channel = file.channel;
+                syncLock.unlock();
+                try {
+                    channel.force(false);
+                } catch (IOException ex) {
+                    reopenQuietly(file, channel);
+                    throw new DataAccessResourceFailureException("Could not sync the customer log in " + directory, ex);
+                } finally {
+                    syncLock.lock();
+                    syncInProgress = false;
+                    synced.signalAll();
+                }
+                file.durable = Math.max(file.durable, target);
+                syncs.incrementAndGet();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // ---- Compaction ----
+
+    /** Writes a snapshot of every live record now and drops the files it replaces. */
+    public void compact() throws IOException {
+        while (!compacting.compareAndSet(false, true)) {
+            Thread.onSpinWait();
+        }
+        try {
+            doCompact();
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void compactIfWritten() {
+        if (writes.get() != writesAtLastSnapshot && compacting.compareAndSet(false, true)) {
+            compactQuietly();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            doCompact();
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Customer log compaction failed; the log keeps growing until it succeeds.", ex);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void doCompact() throws IOException {
+        List<DataFile> retired;
+        long snapshotNumber;
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            // Everything before the new segment goes into the snapshot
+            DataFile previous = active;
+            snapshotNumber = previous.number;
+            forceQuietly(previous);
+            active = openSegment(previous.number + 1);
+            synchronized (files) {
+                retired = new ArrayList<>(files);
+                files.add(active);
+            }
+            writesAtLastSnapshot = writes.get();
+            logBytes.set(0);
+        } finally {
+            writeLock.unlock();
+        }
+
+        long started = System.nanoTime();
+        Path target = directory.resolve(fileName(true, snapshotNumber));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        DataFile snapshot = new DataFile(target, FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE),
+                snapshotNumber, true);
+        Set<DataFile> retiredSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        retiredSet.addAll(retired);
+        Map<UUID, Entry[]> moved = new HashMap<>();
+        try {
+            snapshot.channel.write(ByteBuffer.wrap(SNAPSHOT_MAGIC));
+            snapshot.appended = HEADER_BYTES;
+            ByteBuffer batch = ByteBuffer.allocate(1 << 20);
+            for (Map.Entry<UUID, Entry> indexed : primary.entrySet()) {
+                Entry entry = indexed.getValue();
+                if (!retiredSet.contains(entry.file())) {
+                    continue;
+                }
+                ByteBuffer record = readAt(entry.file(), entry.offset(), entry.length());
+                if (batch.remaining() < record.remaining()) {
+                    batch.flip();
+                    writeFully(snapshot.channel, new ByteBuffer[] {batch});
+                    batch.clear();
+                }
+                moved.put(indexed.getKey(), new Entry[] {
+                    entry, new Entry(snapshot, snapshot.appended, entry.length(), entry.fields())
+                });
+                snapshot.appended += record.remaining();
+                batch.put(record);
+            }
+            batch.flip();
+            writeFully(snapshot.channel, new ByteBuffer[] {batch});
+            snapshot.channel.force(true);
+            snapshot.durable = snapshot.appended;
+            moveAtomically(temporary, target);
+            forceDirectory();
+        } catch (IOException | RuntimeException ex) {
+            snapshot.channel.close();
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+
+        // Point the index at the snapshot, unless a writer replaced the record meanwhile
+        for (Map.Entry<UUID, Entry[]> entry : moved.entrySet()) {
+            primary.replace(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        }
+        synchronized (files) {
+            files.removeAll(retired);
+            files.add(0, snapshot);
+        }
+        for (DataFile file : retired) {
+            file.retire();
+            Files.deleteIfExists(file.path);
+        }
+        snapshots.incrementAndGet();
+        logger.info("Compacted the customer log into {}: {} records, {} bytes in {} ms.", target.getFileName(),
+                moved.size(), snapshot.appended, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * Reads {@code length} bytes at {@code offset}. Interrupting a thread in the middle of
+     * channel I/O closes the channel for every thread, so a file that is still live is reopened.
+     */
+    private static String emailKey(String emailAddress) {
+        return emailAddress.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static ByteBuffer readAt(DataFile file, long offset, int length) throws IOException {
+        while (true) {
+            FileChannel channel = file.channel;
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            try {
+                readFully(channel, buffer, offset);
+                return buffer.flip();
+            } catch (ClosedByInterruptException ex) {
+                file.reopen(channel);
+                throw ex;
+            } catch (ClosedChannelException ex) {
+                if (!file.reopen(channel)) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    // ---- Recovery ----
+
+    private void recover() throws IOException {
+        long latestSnapshot = -1;
+        List<Long> segments = new ArrayList<>();
+        try (var listing = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) listing::iterator) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    // A snapshot that was never completed; the files it would replace are still there
+                    Files.delete(path);
+                    continue;
+                }
+                Matcher matcher = FILE_NAME.matcher(name);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                long number = Long.parseLong(matcher.group(2));
+                if (matcher.group(1).equals("snapshot")) {
+                    latestSnapshot = Math.max(latestSnapshot, number);
+                } else {
+                    segments.add(number);
+                }
+            }
+        }
+        Collections.sort(segments);
+
+        long recovered = 0;
+        if (latestSnapshot >= 0) {
+            Path path = directory.resolve(fileName(true, latestSnapshot));
+            DataFile snapshot = new DataFile(path, FileChannel.open(path, StandardOpenOption.READ), latestSnapshot, true);
+            long end = replay(snapshot, false);
+            snapshot.appended = end;
+            snapshot.durable = end;
+            files.add(snapshot);
+            recovered += primary.size();
+        }
+        long lastNumber = latestSnapshot;
+        for (int i = 0; i < segments.size(); i++) {
+            long number = segments.get(i);
+            Path path = directory.resolve(fileName(false, number));
+            if (number <= latestSnapshot) {
+                // Already part of the snapshot; left behind by a compaction that stopped early
+                Files.delete(path);
+                continue;
+            }
+            boolean last = i == segments.size() - 1;
+            DataFile segment = new DataFile(path, FileChannel.open(path, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE), number, false);
+            long end = replay(segment, last);
+            segment.appended = end;
+            segment.durable = end;
+            logBytes.addAndGet(end - HEADER_BYTES);
+            files.add(segment);
+            lastNumber = number;
+        }
+        try (var listing = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) listing::iterator) {
+                Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches() && matcher.group(1).equals("snapshot")
+                        && Long.parseLong(matcher.group(2)) < latestSnapshot) {
+                    Files.delete(path);
+                }
+            }
+        }
+        active = openSegment(lastNumber + 1);
+        files.add(active);
+        if (latestSnapshot >= 0 || !segments.isEmpty()) {
+            logger.info("Recovered {} customers from {}: {} from the snapshot, the rest by replaying the log.",
+                    primary.size(), directory, recovered);
+        }
+    }
+
+    /**
+     * Indexes every record of {@code file} and returns the offset after the last valid one.
+     * A torn or corrupt record ends the last log segment, which is truncated there; anywhere
+     * else it means data loss and recovery stops.
+     */
+    private long replay(DataFile file, boolean truncateTornTail) throws IOException {
+        byte[] magic = file.snapshot ? SNAPSHOT_MAGIC : WAL_MAGIC;
+        long size = file.channel.size();
+        try (InputStream stream = Channels.newInputStream(file.channel.position(0));
+             DataInputStream input = new DataInputStream(new BufferedInputStream(stream, 1 << 16))) {
+            byte[] header = new byte[HEADER_BYTES];
+            if (size < HEADER_BYTES) {
+                if (truncateTornTail) {
+                    return rewriteHeader(file);
+                }
+                throw corrupt(file, 0, "missing header");
+            }
+            input.readFully(header);
+            if (!Arrays.equals(header, magic)) {
+                throw corrupt(file, 0, "not a customer " + (file.snapshot ? "snapshot" : "log segment"));
+            }
+            long offset = HEADER_BYTES;
+            CRC32C crc = new CRC32C();
+            while (offset < size) {
+                String problem = null;
+                int length = 0;
+                byte[] body = null;
+                int checksum = 0;
+                try {
+                    length = input.readInt();
+                    checksum = input.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        problem = "invalid record length " + length;
+                    } else {
+                        body = new byte[length];
+                        input.readFully(body);
+                    }
+                } catch (EOFException ex) {
+                    problem = "record cut short";
+                }
+                if (problem == null) {
+                    crc.reset();
+                    crc.update(body);
+                    if ((int) crc.getValue() != checksum) {
+                        problem = "checksum mismatch";
+                    }
+                }
+                if (problem != null) {
+                    if (!truncateTornTail) {
+                        throw corrupt(file, offset, problem);
+                    }
+                    logger.warn("Truncating {} at offset {} ({}); {} bytes of an unacknowledged write are dropped.",
+                            file.path.getFileName(), offset, problem, size - offset);
+                    file.channel.truncate(offset);
+                    file.channel.force(true);
+                    return offset;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(body);
+                byte type = buffer.get();
+                UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                Entry entry = null;
+                if (type == PUT) {
+                    entry = new Entry(file, offset, RECORD_HEADER_BYTES + length, IndexedFields.of(decodeCustomer(id, buffer)));
+                }
+                index(id, entry);
+                offset += RECORD_HEADER_BYTES + length;
+            }
+            return offset;
+        }
+    }
+
+    private long rewriteHeader(DataFile file) throws IOException {
+        file.channel.truncate(0);
+        file.channel.write(ByteBuffer.wrap(WAL_MAGIC), 0);
+        file.channel.force(true);
+        return HEADER_BYTES;
+    }
+
+    private IOException corrupt(DataFile file, long offset, String problem) {
+        return new IOException("Customer storage file " + file.path + " is corrupt at offset " + offset + ": " + problem);
+    }
+
+    private DataFile openSegment(long number) throws IOException {
+        Path path = directory.resolve(fileName(false, number));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        channel.write(ByteBuffer.wrap(WAL_MAGIC));
+        channel.force(true);
+        forceDirectory();
+        DataFile segment = new DataFile(path, channel, number, false);
+        segment.appended = HEADER_BYTES;
+        segment.durable = HEADER_BYTES;
+        return segment;
+    }
+
+    private static String fileName(boolean snapshot, long number) {
+        return String.format(snapshot ? "snapshot-%016d.dat" : "wal-%016d.log", number);
+    }
+
+    // ---- Encoding ----
+
+    private static ByteBuffer encode(byte type, UUID id, Customer customer) {
+        byte[][] strings = customer == null ? new byte[0][] : new byte[][] {
+            utf8(customer.getFirstName()), utf8(customer.getMiddleName()), utf8(customer.getLastName()),
+            utf8(customer.getEmailAddress()), utf8(customer.getPhoneNumber())
+        };
+        int length = 1 + 16 + (customer == null ? 0 : 8);
+        for (byte[] string : strings) {
+            length += 4 + (string == null ? 0 : string.length);
+        }
+        if (length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Customer record of " + length + " bytes is too large.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + length);
+        buffer.putInt(length).putInt(0).put(type).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        if (customer != null) {
+            buffer.putLong(customer.getVersion());
+            for (byte[] string : strings) {
+                if (string == null) {
+                    buffer.putInt(-1);
+                } else {
+                    buffer.putInt(string.length).put(string);
+                }
+            }
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), RECORD_HEADER_BYTES, length);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    private Customer decode(Entry entry) throws IOException {
+        ByteBuffer buffer = readAt(entry.file(), entry.offset(), entry.length());
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), RECORD_HEADER_BYTES, length);
+        if ((int) crc.getValue() != checksum || buffer.get() != PUT) {
+            throw corrupt(entry.file(), entry.offset(), "record does not match the index");
+        }
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        return decodeCustomer(id, buffer);
+    }
+
+    private static Customer decodeCustomer(UUID id, ByteBuffer buffer) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setVersion(buffer.getLong());
+        customer.setFirstName(string(buffer));
+        customer.setMiddleName(string(buffer));
+        customer.setLastName(string(buffer));
+        customer.setEmailAddress(string(buffer));
+        customer.setPhoneNumber(string(buffer));
+        return customer;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static Customer copy(Customer source) {
+        Customer customer = new Customer();
+        customer.setId(source.getId());
+        customer.setFirstName(source.getFirstName());
+        customer.setMiddleName(source.getMiddleName());
+        customer.setLastName(source.getLastName());
+        customer.setEmailAddress(source.getEmailAddress());
+        customer.setPhoneNumber(source.getPhoneNumber());
+        customer.setVersion(source.getVersion());
+        return customer;
+    }
+
+    // ---- Files ----
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Record extends past the end of the file at " + position);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer[] buffers) throws IOException {
+        long remaining = totalBytes(buffers);
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+
+    private static long totalBytes(ByteBuffer[] buffers) {
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        return total;
+    }
+
+    private void reopenQuietly(DataFile file, FileChannel channel) {
+        try {
+            if (!channel.isOpen()) {
+                file.reopen(channel);
+            }
+        } catch (IOException ex) {
+            logger.warn("Could not reopen {}.", file.path, ex);
+        }
+    }
+
+    private void forceQuietly(DataFile file) {
+        try {
+            file.channel.force(false);
+            file.durable = file.appended;
+        } catch (IOException ex) {
+            logger.warn("Could not sync {} before rolling to a new segment.", file.path, ex);
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void forceDirectory() {
+        // Makes created and renamed files durable; not supported on every platform
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            logger.trace("Could not sync directory {}", directory, ex);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new DataAccessResourceFailureException("The customer log store in " + directory + " is closed.");
+        }
+    }
+
+    /** Records appended since startup. */
+    public long getWriteCount() {
+        return writes.get();
+    }
+
+    /** Forces of the log since startup; fewer than writes when commits were grouped. */
+    public long getSyncCount() {
+        return syncs.get();
+    }
+
+    public long getSnapshotCount() {
+        return snapshots.get();
+    }
+
+    /** Bytes in the log segments written since the last snapshot. */
+    public long getLogBytes() {
+        return logBytes.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactor.shutdownNow();
+        try {
+            compactor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.channel.force(false);
+            synchronized (files) {
+                for (DataFile file : files) {
+                    file.retire();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ---- Types ----
+
+    /** A write for {@link #apply(List)}. */
+    public sealed interface Change permits Insert, Update, Delete {
+        UUID id();
+
+        Long expectedVersion();
+    }
+
+    /** Creates {@code customer} with its id and version 0; fails if the id exists. */
+    public record Insert(Customer customer) implements Change {
+        @Override
+        public UUID id() {
+            return customer.getId();
+        }
+
+        @Override
+        public Long expectedVersion() {
+            return null;
+        }
+    }
+
+    /** Applies {@code changes} to a copy of the stored customer and increments the version. */
+    public record Update(UUID id, Long expectedVersion, Consumer<Customer> changes) implements Change {
+    }
+
+    public record Delete(UUID id, Long expectedVersion) implements Change {
+    }
+
+    /** The fields kept in memory for every customer. */
+    public record IndexedFields(UUID id, long version, String firstName, String lastName, String emailAddress,
+                                String phoneNumber) {
+        static IndexedFields of(Customer customer) {
+            return new IndexedFields(customer.getId(), customer.getVersion(), customer.getFirstName(),
+                    customer.getLastName(), customer.getEmailAddress(), customer.getPhoneNumber());
+        }
+    }
+
+    /** Position in the name order; {@code null} names sort first. */
+    public record NameKey(String lastName, String firstName, UUID id) implements Comparable<NameKey> {
+        private static final Comparator<NameKey> ORDER = Comparator
+                .comparing(NameKey::lastName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(NameKey::firstName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(NameKey::id, ID_ORDER);
+
+        @Override
+        public int compareTo(NameKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Entry(DataFile file, long offset, int length, IndexedFields fields) {
+    }
+
+    private record Pending(byte type, UUID id, Customer customer) {
+    }
+
+    private static final class Staged {
+        final List<Pending> records = new ArrayList<>();
+        final List<Customer> results = new ArrayList<>();
+    }
+
+    private static final class DataFile {
+        final Path path;
+        final long number;
+        final boolean snapshot;
+        volatile FileChannel channel;
+        volatile long appended;
+        volatile long durable;
+        private boolean retired;
+
+        DataFile(Path path, FileChannel channel, long number, boolean snapshot) {
+            this.path = path;
+            this.channel = channel;
+            this.number = number;
+            this.snapshot = snapshot;
+        }
+
+        /** Replaces {@code broken} with a new channel; {@code false} once the file is retired. */
+        synchronized boolean reopen(FileChannel broken) throws IOException {
+            if (retired) {
+                return false;
+            }
+            if (channel == broken) {
+                channel = snapshot ? FileChannel.open(path, StandardOpenOption.READ)
+                        : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            return true;
+        }
+
+        synchronized void retire() throws IOException {
+            retired = true;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.customer.management.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Partial updates that only touch the columns being changed, and unconditional replacements.
+ */
+public interface CustomerPatchRepository {
+
+    /**
+     * Sets the given {@code Customer} attributes and increments the version with one
+     * {@code UPDATE} statement. When {@code expectedVersion} is not {@code null} the row must
+     * also still have that version.
+     *
+     * @param changes attribute name to new value; must not be empty
+     * @return the number of rows updated, 0 or 1
+     */
+    int patchById(UUID id, Long expectedVersion, Map<String, Object> changes);
+
+    /**
+     * Replaces the attributes of the customer with {@code id} by those of {@code customer} and
+     * increments its version with one statement, whatever the stored version is (last writer
+     * wins). The statement also returns the new version, which the response and the change event
+     * need: a JPQL {@code @Modifying} query can only return the row count.
+     *
+     * @return the new version, or empty when no customer has the id
+     */
+    Optional<Long> updateById(UUID id, Customer customer);
+}
@@ -0,0 +1,74 @@
+package com.customer.management.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.customer.management.entity.Customer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+class CustomerPatchRepositoryImpl implements CustomerPatchRepository {
+
+    // H2's data change delta table: the UPDATE and the read of the version it wrote are one
+    // statement, one round trip
+    private static final String UPDATE_BY_ID_SQL = "select version from final table (update customer set"
+            + " first_name = ?1, middle_name = ?2, last_name = ?3, email_address = ?4, phone_number = ?5,"
+            + " version = version + 1 where id = ?6)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patchById(UUID id, Long expectedVersion, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("A patch must change at least one attribute.");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Customer> update = cb.createCriteriaUpdate(Customer.class);
+        Root<Customer> customer = update.from(Customer.class);
+
+        changes.forEach(update::set);
+        Path<Long> version = customer.get("version");
+        update.set(version, cb.sum(version, 1L));
+
+        Predicate matches = cb.equal(customer.get("id"), id);
+        if (expectedVersion != null) {
+            matches = cb.and(matches, cb.equal(version, expectedVersion));
+        }
+        update.where(matches);
+
+        // Same contract as the @Modifying queries on CustomerRepository
+        entityManager.flush();
+        int rows = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> updateById(UUID id, Customer customer) {
+        // Same contract as the @Modifying queries on CustomerRepository
+        entityManager.flush();
+        List<?> versions = entityManager.createNativeQuery(UPDATE_BY_ID_SQL)
+                .setParameter(1, customer.getFirstName())
+                .setParameter(2, customer.getMiddleName())
+                .setParameter(3, customer.getLastName())
+                .setParameter(4, customer.getEmailAddress())
+                .setParameter(5, customer.getPhoneNumber())
+                .setParameter(6, id)
+                .getResultList();
+        entityManager.clear();
+        return versions.isEmpty() ? Optional.empty() : Optional.of(((Number) versions.get(0)).longValue());
+    }
+}
@@ -0,0 +1,25 @@
+package com.customer.management.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.customer.management.dto.CustomerField;
+
+/**
+ * Reads that select only some columns. Rows come back as attribute name to value maps in
+ * {@link CustomerField} order, not as entities, so nothing is added to the persistence context.
+ * The keyset variants follow the paging queries on {@link CustomerRepository}; a {@code null}
+ * cursor id asks for the first page.
+ */
+public interface CustomerProjectionRepository {
+
+    Optional<Map<String, Object>> findFieldsById(UUID id, Set<CustomerField> fields);
+
+    List<Map<String, Object>> findFieldsOrderById(Set<CustomerField> fields, UUID afterId, int limit);
+
+    List<Map<String, Object>> findFieldsOrderByName(Set<CustomerField> fields, String afterLastName,
+                                                    String afterFirstName, UUID afterId, int limit);
+}
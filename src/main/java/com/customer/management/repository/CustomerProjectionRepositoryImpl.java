@@ -0,0 +1,90 @@
+package com.customer.management.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.customer.management.dto.CustomerField;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+class CustomerProjectionRepositoryImpl implements CustomerProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // JPQL rather than the Criteria API: Hibernate caches the plan of a query string, so each
+    // combination of fields is translated to SQL once instead of on every request
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> findFieldsById(UUID id, Set<CustomerField> fields) {
+        TypedQuery<Tuple> query = entityManager.createQuery(select(fields) + " where c.id = :id", Tuple.class)
+                .setParameter("id", id);
+        List<Map<String, Object>> rows = execute(query, fields, 1);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsOrderById(Set<CustomerField> fields, UUID afterId, int limit) {
+        if (afterId == null) {
+            return execute(entityManager.createQuery(select(fields) + " order by c.id", Tuple.class), fields, limit);
+        }
+        TypedQuery<Tuple> query = entityManager
+                .createQuery(select(fields) + " where c.id > :afterId order by c.id", Tuple.class)
+                .setParameter("afterId", afterId);
+        return execute(query, fields, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsOrderByName(Set<CustomerField> fields, String afterLastName,
+                                                           String afterFirstName, UUID afterId, int limit) {
+        String orderBy = " order by c.lastName, c.firstName, c.id";
+        if (afterId == null) {
+            return execute(entityManager.createQuery(select(fields) + orderBy, Tuple.class), fields, limit);
+        }
+        // Same seek predicate as CustomerRepository.findNextPageOrderByName
+        TypedQuery<Tuple> query = entityManager.createQuery(select(fields)
+                        + " where c.lastName > :lastName or (c.lastName = :lastName and (c.firstName > :firstName"
+                        + " or (c.firstName = :firstName and c.id > :afterId)))" + orderBy, Tuple.class)
+                .setParameter("lastName", afterLastName)
+                .setParameter("firstName", afterFirstName)
+                .setParameter("afterId", afterId);
+        return execute(query, fields, limit);
+    }
+
+    private static String select(Set<CustomerField> fields) {
+        StringBuilder jpql = new StringBuilder("select ");
+        for (CustomerField field : fields) {
+            if (jpql.length() > 7) {
+                jpql.append(", ");
+            }
+            jpql.append("c.").append(field.getAttribute()).append(" as ").append(field.getAttribute());
+        }
+        return jpql.append(" from Customer c").toString();
+    }
+
+    private static List<Map<String, Object>> execute(TypedQuery<Tuple> query, Set<CustomerField> fields, int limit) {
+        List<Tuple> tuples = query.setMaxResults(limit).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (CustomerField field : fields) {
+                row.put(field.getAttribute(), tuple.get(field.getAttribute()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
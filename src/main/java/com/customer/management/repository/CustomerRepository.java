@@ -1,12 +1,131 @@
 package com.customer.management.repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import com.customer.management.dto.CustomerContact;
+import com.customer.management.dto.CustomerMatchFields;
+import com.customer.management.dto.CustomerName;
 import com.customer.management.entity.Customer;
 
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+import jakarta.persistence.QueryHint;
 
-}
+/**
+ * Customer storage as the services use it. It extends {@link ListCrudRepository} rather than
+ * {@code JpaRepository} and adds only the JPA methods the services call, so that
+ * {@link LogStructuredCustomerRepository} implements no query-by-example or paging stubs.
+ */
+public interface CustomerRepository extends ListCrudRepository<Customer, UUID>, CustomerPatchRepository,
+        CustomerProjectionRepository, CustomerBatchRepository {
+
+    // From JpaRepository; Spring Data JPA dispatches them to SimpleJpaRepository
+
+    void flush();
+
+    <S extends Customer> S saveAndFlush(S customer);
+
+    // email_key is lower(trim(email_address)) under a unique index (import.sql), so addresses that
+    // differ only in case are one customer here, as in CustomerContactIndex
+    @Query(value = "select * from customer where email_key = lower(trim(:email))", nativeQuery = true)
+    Optional<Customer> findByEmailAddressIgnoreCase(@Param("email") String emailAddress);
+
+    List<Customer> findByPhoneNumber(String phoneNumber);
+
+    @Query("select c.version from Customer c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Single-statement writes: no entity is loaded, the affected-row count tells the caller
+    // whether the id (and version) matched.
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Customer c set c.firstName = :#{#customer.firstName},"
+            + " c.middleName = :#{#customer.middleName},"
+            + " c.lastName = :#{#customer.lastName},"
+            + " c.emailAddress = :#{#customer.emailAddress},"
+            + " c.phoneNumber = :#{#customer.phoneNumber},"
+            + " c.version = c.version + 1"
+            + " where c.id = :id and c.version = :version")
+    int updateByIdAndVersion(@Param("id") UUID id, @Param("version") long version, @Param("customer") Customer customer);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Customer c where c.id = :id and c.version = :version")
+    int deleteByIdAndVersion(@Param("id") UUID id, @Param("version") long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Customer c where c.id = :id")
+    int deleteCustomerById(@Param("id") UUID id);
 
+    // Keyset (seek) queries: the page size comes from the Pageable, which must always
+    // request page 0 so that no OFFSET is generated.
+
+    List<Customer> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Customer> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @Query("select c from Customer c order by c.lastName, c.firstName, c.id")
+    List<Customer> findFirstPageOrderByName(Pageable pageable);
+
+    @Query("select c from Customer c where c.lastName > :lastName"
+            + " or (c.lastName = :lastName and (c.firstName > :firstName"
+            + " or (c.firstName = :firstName and c.id > :id)))"
+            + " order by c.lastName, c.firstName, c.id")
+    List<Customer> findNextPageOrderByName(@Param("lastName") String lastName,
+                                           @Param("firstName") String firstName,
+                                           @Param("id") UUID id,
+                                           Pageable pageable);
+
+    /**
+     * Matches {@code pattern} (a lower-case SQL LIKE pattern) against first and last names.
+     * Used as the fallback while the in-memory name index is loading.
+     */
+    @Query("select c from Customer c where lower(c.firstName) like :pattern or lower(c.lastName) like :pattern"
+            + " order by c.lastName, c.firstName, c.id")
+    List<Customer> findByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Streams every customer through a forward-only cursor. Must be consumed inside a
+     * transaction and closed; callers should detach rows as they go to keep memory flat.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select c from Customer c")
+    Stream<Customer> streamAll();
+
+    /**
+     * Streams the id, email and phone of every customer without materialising entities.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.customer.management.dto.CustomerContact(c.id, c.emailAddress, c.phoneNumber) from Customer c")
+    Stream<CustomerContact> streamContacts();
+
+    /**
+     * Streams the id and names of every customer without materialising entities.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.customer.management.dto.CustomerName(c.id, c.firstName, c.lastName) from Customer c")
+    Stream<CustomerName> streamNames();
+
+    /**
+     * Streams the columns compared by duplicate detection for every customer.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.customer.management.dto.CustomerMatchFields(c.id, c.firstName, c.lastName,"
+            + " c.emailAddress, c.phoneNumber) from Customer c")
+    Stream<CustomerMatchFields> streamMatchFields();
+}
@@ -0,0 +1,398 @@
+package com.customer.management.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.customer.management.dto.CustomerContact;
+import com.customer.management.dto.CustomerField;
+import com.customer.management.dto.CustomerMatchFields;
+import com.customer.management.dto.CustomerName;
+import com.customer.management.entity.Customer;
+import com.customer.management.entity.CustomerIdVersion;
+
+/**
+ * {@link CustomerRepository} backed by {@link CustomerLogStore} instead of the database,
+ * selected with {@code customer.storage.engine=log}. Every write is durable when the method
+ * returns; there are no transactions, so {@link #saveAll} and the other bulk writes are
+ * validated together but the service-level transaction around them cannot roll them back.
+ *
+ * <p>Entities are plain copies: changing a returned {@link Customer} has no effect until it
+ * is saved.
+ */
+public class LogStructuredCustomerRepository implements CustomerRepository {
+
+    private static final Set<String> PATCHABLE_ATTRIBUTES =
+            Set.of("firstName", "middleName", "lastName", "emailAddress", "phoneNumber");
+
+    private final CustomerLogStore store;
+    private final CustomerIdVersion idVersion;
+
+    public LogStructuredCustomerRepository(CustomerLogStore store, CustomerIdVersion idVersion) {
+        this.store = store;
+        this.idVersion = idVersion;
+    }
+
+    // ---- CustomerRepository ----
+
+    @Override
+    public Optional<Customer> findByEmailAddressIgnoreCase(String emailAddress) {
+        UUID id = store.findIdByEmail(emailAddress);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public List<Customer> findByPhoneNumber(String phoneNumber) {
+        return load(store.findIdsByPhone(phoneNumber), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return Optional.ofNullable(store.version(id));
+    }
+
+    @Override
+    public int updateByIdAndVersion(UUID id, long version, Customer customer) {
+        return count(store.apply(List.of(new CustomerLogStore.Update(id, version, copyFieldsFrom(customer)))));
+    }
+
+    @Override
+    public int deleteByIdAndVersion(UUID id, long version) {
+        return count(store.apply(List.of(new CustomerLogStore.Delete(id, version))));
+    }
+
+    @Override
+    public int deleteCustomerById(UUID id) {
+        return count(store.apply(List.of(new CustomerLogStore.Delete(id, null))));
+    }
+
+    @Override
+    public List<Customer> findAllByOrderByIdAsc(Pageable pageable) {
+        return load(store.ids(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Customer> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable) {
+        return load(store.ids().tailSet(id, false), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Customer> findFirstPageOrderByName(Pageable pageable) {
+        return loadNames(store.names(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Customer> findNextPageOrderByName(String lastName, String firstName, UUID id, Pageable pageable) {
+        return loadNames(store.names().tailSet(new CustomerLogStore.NameKey(lastName, firstName, id), false),
+                pageable.getPageSize());
+    }
+
+    @Override
+    public List<Customer> findByNameLike(String pattern, Pageable pageable) {
+        Pattern like = likePattern(pattern);
+        List<Customer> customers = new ArrayList<>();
+        for (CustomerLogStore.NameKey name : store.names()) {
+            if (customers.size() >= pageable.getPageSize()) {
+                break;
+            }
+            if (matches(like, name.firstName()) || matches(like, name.lastName())) {
+                Customer customer = store.get(name.id());
+                if (customer != null) {
+                    customers.add(customer);
+                }
+            }
+        }
+        return customers;
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        return store.ids().stream().map(store::get).filter(customer -> customer != null);
+    }
+
+    @Override
+    public Stream<CustomerContact> streamContacts() {
+        return store.indexedFields().map(fields -> new CustomerContact(fields.id(), fields.emailAddress(),
+                fields.phoneNumber()));
+    }
+
+    @Override
+    public Stream<CustomerName> streamNames() {
+        return store.indexedFields().map(fields -> new CustomerName(fields.id(), fields.firstName(),
+                fields.lastName()));
+    }
+
+    @Override
+    public Stream<CustomerMatchFields> streamMatchFields() {
+        return store.indexedFields().map(fields -> new CustomerMatchFields(fields.id(), fields.firstName(),
+                fields.lastName(), fields.emailAddress(), fields.phoneNumber()));
+    }
+
+    @Override
+    public int patchById(UUID id, Long expectedVersion, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("A patch must change at least one attribute.");
+        }
+        for (String attribute : changes.keySet()) {
+            if (!PATCHABLE_ATTRIBUTES.contains(attribute)) {
+                throw new IllegalArgumentException("Customer attribute " + attribute + " cannot be patched.");
+            }
+        }
+        Consumer<Customer> patch = customer -> {
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(customer);
+            changes.forEach(wrapper::setPropertyValue);
+        };
+        return count(store.apply(List.of(new CustomerLogStore.Update(id, expectedVersion, patch))));
+    }
+
+    @Override
+    public Optional<Long> updateById(UUID id, Customer customer) {
+        if (count(store.apply(List.of(new CustomerLogStore.Update(id, null, copyFieldsFrom(customer))))) == 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(store.version(id));
+    }
+
+    // ---- CustomerProjectionRepository: projections of the stored copies ----
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(UUID id, Set<CustomerField> fields) {
+        return findById(id).map(customer -> CustomerField.project(customer, fields));
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsOrderById(Set<CustomerField> fields, UUID afterId, int limit) {
+        return project(load(afterId == null ? store.ids() : store.ids().tailSet(afterId, false), limit), fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsOrderByName(Set<CustomerField> fields, String afterLastName,
+                                                           String afterFirstName, UUID afterId, int limit) {
+        Iterable<CustomerLogStore.NameKey> names = afterId == null ? store.names()
+                : store.names().tailSet(new CustomerLogStore.NameKey(afterLastName, afterFirstName, afterId), false);
+        return project(loadNames(names, limit), fields);
+    }
+
+    // ---- ListCrudRepository and the JpaRepository methods of CustomerRepository ----
+
+    @Override
+    public <S extends Customer> S save(S customer) {
+        saveAll(List.of(customer));
+        return customer;
+    }
+
+    /**
+     * Inserts customers without an id (or with one that does not exist yet) and overwrites the
+     * others, checking their version when it is set. Ids and versions are written back to the
+     * given instances, as Hibernate does.
+     */
+    @Override
+    public <S extends Customer> List<S> saveAll(Iterable<S> customers) {
+        List<S> saved = new ArrayList<>();
+        List<CustomerLogStore.Change> changes = new ArrayList<>();
+        for (S customer : customers) {
+            if (customer.getId() == null) {
+                customer.setId(idVersion.generate());
+                changes.add(new CustomerLogStore.Insert(customer));
+            } else if (store.version(customer.getId()) == null) {
+                changes.add(new CustomerLogStore.Insert(customer));
+            } else {
+                changes.add(new CustomerLogStore.Update(customer.getId(), customer.getVersion(),
+                        copyFieldsFrom(customer)));
+            }
+            saved.add(customer);
+        }
+        List<Customer> written = store.apply(changes);
+        for (int i = 0; i < saved.size(); i++) {
+            Customer result = written.get(i);
+            if (result == null) {
+                throw new ObjectOptimisticLockingFailureException(Customer.class, saved.get(i).getId());
+            }
+            saved.get(i).setVersion(result.getVersion());
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends Customer> S saveAndFlush(S customer) {
+        return save(customer);
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        return Optional.ofNullable(store.get(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return store.version(id) != null;
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return load(store.ids(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Customer> findAllById(Iterable<UUID> ids) {
+        return load(ids, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        deleteCustomerById(id);
+    }
+
+    @Override
+    public void delete(Customer customer) {
+        deleteAll(List.of(customer));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        List<CustomerLogStore.Change> changes = new ArrayList<>();
+        ids.forEach(id -> changes.add(new CustomerLogStore.Delete(id, null)));
+        store.apply(changes);
+    }
+
+    /** Deletes the given customers, failing if one of them has been changed since it was read. */
+    @Override
+    public void deleteAll(Iterable<? extends Customer> customers) {
+        List<Customer> targets = new ArrayList<>();
+        List<CustomerLogStore.Change> changes = new ArrayList<>();
+        for (Customer customer : customers) {
+            targets.add(customer);
+            changes.add(new CustomerLogStore.Delete(customer.getId(), customer.getVersion()));
+        }
+        List<Customer> results = store.apply(changes);
+        for (int i = 0; i < targets.size(); i++) {
+            UUID id = targets.get(i).getId();
+            if (results.get(i) == null && store.version(id) != null) {
+                throw new ObjectOptimisticLockingFailureException(Customer.class, id);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllById(new ArrayList<>(store.ids()));
+    }
+
+    @Override
+    public void flush() {
+        // Every write is already durable
+    }
+
+    // ---- CustomerBatchRepository ----
+
+    /** One {@link CustomerLogStore#applyAll} call, so the batch is written all or nothing. */
+    @Override
+    public void writeBatch(List<Customer> updates, List<Customer> creates, List<Customer> deletes) {
+        List<CustomerLogStore.Change> changes = new ArrayList<>();
+        for (Customer customer : updates) {
+            changes.add(new CustomerLogStore.Update(customer.getId(), customer.getVersion(), copyFieldsFrom(customer)));
+        }
+        for (Customer customer : creates) {
+            customer.setId(idVersion.generate());
+            changes.add(new CustomerLogStore.Insert(customer));
+        }
+        for (Customer customer : deletes) {
+            changes.add(new CustomerLogStore.Delete(customer.getId(), customer.getVersion()));
+        }
+        List<Customer> written = store.applyAll(changes);
+        for (int i = 0; i < updates.size() + creates.size(); i++) {
+            Customer customer = i < updates.size() ? updates.get(i) : creates.get(i - updates.size());
+            customer.setVersion(written.get(i).getVersion());
+        }
+    }
+
+    // ---- Helpers ----
+
+    private List<Customer> load(Iterable<UUID> ids, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        for (UUID id : ids) {
+            if (customers.size() >= limit) {
+                break;
+            }
+            // Skips ids deleted since they were listed
+            Customer customer = store.get(id);
+            if (customer != null) {
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    private List<Customer> loadNames(Iterable<CustomerLogStore.NameKey> names, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        for (CustomerLogStore.NameKey name : names) {
+            if (customers.size() >= limit) {
+                break;
+            }
+            Customer customer = store.get(name.id());
+            if (customer != null) {
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    private static List<Map<String, Object>> project(List<Customer> customers, Set<CustomerField> fields) {
+        return customers.stream().map(customer -> CustomerField.project(customer, fields)).toList();
+    }
+
+    private static Consumer<Customer> copyFieldsFrom(Customer source) {
+        return target -> {
+            target.setFirstName(source.getFirstName());
+            target.setMiddleName(source.getMiddleName());
+            target.setLastName(source.getLastName());
+            target.setEmailAddress(source.getEmailAddress());
+            target.setPhoneNumber(source.getPhoneNumber());
+        };
+    }
+
+    private static int count(List<Customer> results) {
+        return results.get(0) == null ? 0 : 1;
+    }
+
+    /** Translates a SQL LIKE pattern ({@code %} and {@code _}, no escape character) to a regex. */
+    static Pattern likePattern(String like) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : like.toCharArray()) {
+            if (c == '%' || c == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static boolean matches(Pattern like, String name) {
+        return name != null && like.matcher(name.toLowerCase()).matches();
+    }
+}
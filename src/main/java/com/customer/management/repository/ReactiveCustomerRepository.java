@@ -0,0 +1,40 @@
+package com.customer.management.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import com.customer.management.entity.Customer;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking, read-only access to the {@code customer} table for the reactive read API. It
+ * maps the same {@link Customer} class as {@link CustomerRepository}; writes always go through
+ * the JPA repository so that versioning, indexes and change events stay consistent.
+ * <p>
+ * Excluded from repository scanning, which would otherwise hand it to Spring Data JPA;
+ * {@code ReactiveServerConfig} creates it from its own R2DBC connection pool.
+ */
+@NoRepositoryBean
+public interface ReactiveCustomerRepository extends R2dbcRepository<Customer, UUID> {
+
+    Flux<Customer> findAllByOrderByIdAsc(Pageable pageable);
+
+    Flux<Customer> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @Query("select * from customer order by last_name, first_name, id limit :limit")
+    Flux<Customer> findFirstPageOrderByName(int limit);
+
+    @Query("select * from customer where last_name > :lastName"
+            + " or (last_name = :lastName and (first_name > :firstName"
+            + " or (first_name = :firstName and id > :id)))"
+            + " order by last_name, first_name, id limit :limit")
+    Flux<Customer> findNextPageOrderByName(String lastName, String firstName, UUID id, int limit);
+
+    @Query("select * from customer order by id")
+    Flux<Customer> streamAllOrderById();
+}
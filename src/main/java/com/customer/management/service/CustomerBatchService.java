@@ -0,0 +1,224 @@
+package com.customer.management.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.customer.management.dto.BatchOperationType;
+import com.customer.management.dto.CustomerBatchItemResult;
+import com.customer.management.dto.CustomerBatchOperation;
+import com.customer.management.dto.CustomerBatchResponse;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.exception.DuplicateCustomerException;
+import com.customer.management.repository.CustomerRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class CustomerBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerBatchService.class);
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CustomerContactIndex contactIndex;
+
+    @Value("${customer.batch.max-operations:1000}")
+    private int maxOperations = 1000;
+
+    /**
+     * Applies a mixed list of create/update/delete operations in one transaction.
+     * <p>
+     * Every operation is validated up front (Bean Validation, required ids, existence, email
+     * addresses already in use or claimed by an earlier operation); invalid operations are
+     * reported with a 4xx status and skipped, the rest are applied together so Hibernate can send
+     * them as a handful of JDBC batches. A database-level failure (for example a unique
+     * constraint violation) rolls back the whole batch. The log storage engine writes the batch
+     * with one all-or-nothing append instead.
+     */
+    @Transactional
+    public CustomerBatchResponse applyBatch(List<CustomerBatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("A batch must contain at least one operation.");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxOperations + " operations.");
+        }
+        logger.info("Applying customer batch with {} operations.", operations.size());
+
+        CustomerBatchItemResult[] results = new CustomerBatchItemResult[operations.size()];
+        Set<UUID> targetedIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            List<String> errors = validate(operations.get(i), targetedIds);
+            if (!errors.isEmpty()) {
+                CustomerBatchOperation operation = operations.get(i);
+                results[i] = new CustomerBatchItemResult(i, operation == null ? null : operation.getOp(),
+                        operation == null ? null : operation.getId(), 400, errors);
+            }
+        }
+
+        // One SELECT ... WHERE id IN (...) for every update and delete target
+        Map<UUID, Customer> existing = new HashMap<>();
+        if (!targetedIds.isEmpty()) {
+            for (Customer customer : customerRepository.findAllById(targetedIds)) {
+                existing.put(customer.getId(), customer);
+            }
+        }
+
+        List<Customer> updates = new ArrayList<>();
+        List<Customer> creates = new ArrayList<>();
+        List<Integer> createIndexes = new ArrayList<>();
+        List<Customer> deletes = new ArrayList<>();
+        // Normalized email addresses taken by earlier operations of this batch. Email addresses
+        // are unique on their own, so this also covers the (phoneNumber, emailAddress) constraint.
+        Map<String, Integer> claimedEmails = new HashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CustomerBatchOperation operation = operations.get(i);
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    results[i] = claimEmail(i, operation, claimedEmails);
+                    if (results[i] != null) {
+                        continue;
+                    }
+                    Customer customer = new Customer();
+                    copyFields(operation.getCustomer(), customer);
+                    creates.add(customer);
+                    createIndexes.add(i);
+                }
+                case UPDATE -> {
+                    Customer customer = existing.get(operation.getId());
+                    if (customer == null) {
+                        results[i] = notFound(i, operation);
+                        continue;
+                    }
+                    results[i] = claimEmail(i, operation, claimedEmails);
+                    if (results[i] == null) {
+                        copyFields(operation.getCustomer(), customer);
+                        updates.add(customer);
+                        results[i] = new CustomerBatchItemResult(i, operation.getOp(), customer.getId(), 200, Collections.emptyList());
+                    }
+                }
+                case DELETE -> {
+                    Customer customer = existing.get(operation.getId());
+                    if (customer == null) {
+                        results[i] = notFound(i, operation);
+                    } else {
+                        deletes.add(customer);
+                        results[i] = new CustomerBatchItemResult(i, operation.getOp(), customer.getId(), 204, Collections.emptyList());
+                    }
+                }
+            }
+        }
+
+        // All or nothing, with the log storage engine as well as in the database transaction
+        customerRepository.writeBatch(updates, creates, deletes);
+        for (int i = 0; i < creates.size(); i++) {
+            int index = createIndexes.get(i);
+            results[index] = new CustomerBatchItemResult(index, BatchOperationType.CREATE, creates.get(i).getId(), 201, Collections.emptyList());
+        }
+
+        creates.forEach(customer -> eventPublisher.publishEvent(CustomerChangedEvent.created(customer)));
+        updates.forEach(customer -> eventPublisher.publishEvent(CustomerChangedEvent.updated(customer)));
+        deletes.forEach(customer -> eventPublisher.publishEvent(CustomerChangedEvent.deleted(customer.getId(), customer.getVersion())));
+
+        int failed = 0;
+        for (CustomerBatchItemResult result : results) {
+            if (result.getStatus() >= 400) {
+                failed++;
+            }
+        }
+        logger.info("Customer batch applied: succeeded={}, failed={}", results.length - failed, failed);
+        return new CustomerBatchResponse(results.length - failed, failed, List.of(results));
+    }
+
+    private List<String> validate(CustomerBatchOperation operation, Set<UUID> targetedIds) {
+        List<String> errors = new ArrayList<>();
+        if (operation == null || operation.getOp() == null) {
+            errors.add("op: Operation type is required (CREATE, UPDATE or DELETE).");
+            return errors;
+        }
+        if (operation.getOp() != BatchOperationType.CREATE) {
+            if (operation.getId() == null) {
+                errors.add("id: Customer id is required for " + operation.getOp() + ".");
+            } else if (targetedIds.contains(operation.getId())) {
+                errors.add("id: Customer " + operation.getId() + " is already targeted by another operation in this batch.");
+            }
+        }
+        if (operation.getOp() != BatchOperationType.DELETE) {
+            if (operation.getCustomer() == null) {
+                errors.add("customer: Customer payload is required for " + operation.getOp() + ".");
+            } else {
+                for (ConstraintViolation<Customer> violation : validator.validate(operation.getCustomer())) {
+                    errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+            }
+        }
+        if (errors.isEmpty() && operation.getOp() != BatchOperationType.CREATE) {
+            targetedIds.add(operation.getId());
+        }
+        return errors;
+    }
+
+    /**
+     * Reserves the email address of a create or update for operation {@code index}, or returns
+     * its 409 result when the address belongs to another customer or to an earlier operation of
+     * the batch. Rejecting these up front keeps the unique constraint from failing the flush and
+     * rolling back every other operation.
+     */
+    private CustomerBatchItemResult claimEmail(int index, CustomerBatchOperation operation,
+                                               Map<String, Integer> claimedEmails) {
+        String email = operation.getCustomer().getEmailAddress();
+        try {
+            contactIndex.checkEmailAvailable(email, operation.getId());
+        } catch (DuplicateCustomerException ex) {
+            return new CustomerBatchItemResult(index, operation.getOp(), operation.getId(), 409,
+                    Collections.singletonList(ex.getMessage()));
+        }
+        Integer claimant = claimedEmails.putIfAbsent(CustomerContactIndex.normalizeEmail(email), index);
+        if (claimant == null) {
+            return null;
+        }
+        return new CustomerBatchItemResult(index, operation.getOp(), operation.getId(), 409,
+                Collections.singletonList("Email address " + email + " is already used by operation " + claimant
+                        + " in this batch."));
+    }
+
+    private static CustomerBatchItemResult notFound(int index, CustomerBatchOperation operation) {
+        return new CustomerBatchItemResult(index, operation.getOp(), operation.getId(), 404,
+                Collections.singletonList("Customer not found with ID: " + operation.getId()));
+    }
+
+    private static void copyFields(Customer source, Customer target) {
+        target.setFirstName(source.getFirstName());
+        target.setMiddleName(source.getMiddleName());
+        target.setLastName(source.getLastName());
+        target.setEmailAddress(source.getEmailAddress());
+        target.setPhoneNumber(source.getPhoneNumber());
+    }
+}
@@ -0,0 +1,101 @@
+package com.customer.management.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.customer.management.dto.NearCacheStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.event.CustomerInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bounded read-through cache of customers by id. Caffeine's W-TinyLFU eviction keeps the hot
+ * part of a skewed key distribution resident; entries also expire after a TTL as a backstop.
+ * <p>
+ * Entries are invalidated only after the transaction that changed the row has committed, so a
+ * concurrent reader can never re-populate the cache with uncommitted data. Cached instances are
+ * shared between callers and must be treated as read-only.
+ */
+@Component
+public class CustomerCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerCache.class);
+
+    @Value("${customer.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${customer.cache.maximum-size:100000}")
+    private long maximumSize = 100_000;
+
+    @Value("${customer.cache.ttl:10m}")
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private Cache<UUID, Customer> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        logger.info("Customer cache initialised: enabled={}, maximumSize={}, ttl={}", enabled, maximumSize, ttl);
+    }
+
+    /**
+     * Returns the cached customer or loads it with {@code loader}. A {@code null} result from
+     * the loader is returned as-is and not cached.
+     */
+    public Customer get(UUID id, Function<UUID, Customer> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    public Customer getIfPresent(UUID id) {
+        return enabled ? cache.getIfPresent(id) : null;
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+        invalidations.incrementAndGet();
+    }
+
+    public void invalidateAll(Collection<UUID> ids) {
+        cache.invalidateAll(ids);
+        invalidations.addAndGet(ids.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        invalidate(event.customerId());
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CustomerInvalidationEvent event) {
+        invalidateAll(event.customerIds());
+    }
+
+    public NearCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new NearCacheStats(enabled, cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), invalidations.get(), stats.averageLoadPenalty() / 1_000_000d);
+    }
+}
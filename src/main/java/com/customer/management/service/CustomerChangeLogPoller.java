@@ -0,0 +1,175 @@
+package com.customer.management.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.customer.management.dto.CoherenceStats;
+import com.customer.management.entity.CustomerChangeLog;
+import com.customer.management.event.CustomerInvalidationEvent;
+import com.customer.management.repository.CustomerChangeLogRepository;
+
+/**
+ * Tails the customer change log written by all replicas and invalidates local caches for rows
+ * changed elsewhere. Each poll is a single index range scan above a high-water mark.
+ * <p>
+ * Sequence numbers are assigned at insert time but become visible at commit time, so a slow
+ * transaction can commit a lower number after a higher one has been seen. Skipped numbers are
+ * therefore remembered as gaps and re-checked until {@code gap-timeout} passes (after which they
+ * are assumed to belong to rolled-back transactions).
+ */
+@Component
+public class CustomerChangeLogPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerChangeLogPoller.class);
+
+    private static final int MAX_TRACKED_GAPS = 10_000;
+
+    @Autowired
+    private CustomerChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private CustomerChangeLogWriter changeLogWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${customer.coherence.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${customer.coherence.poll-interval-ms:500}")
+    private long pollIntervalMillis = 500;
+
+    @Value("${customer.coherence.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${customer.coherence.gap-timeout:10s}")
+    private Duration gapTimeout = Duration.ofSeconds(10);
+
+    @Value("${customer.coherence.retention:1h}")
+    private Duration retention = Duration.ofHours(1);
+
+    private final Map<Long, Instant> gaps = new LinkedHashMap<>();
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong remoteChangesApplied = new AtomicLong();
+    private final AtomicLong ownChangesSkipped = new AtomicLong();
+
+    private volatile boolean started;
+    private volatile boolean failing;
+    private volatile long highWaterMark;
+    private volatile Instant lastPollAt;
+    private volatile long lastLagMillis;
+    private volatile long maxLagMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Anything committed before startup is already reflected in our (empty) caches
+        highWaterMark = changeLogRepository.findMaxSeq();
+        started = true;
+        logger.info("Change-log tailing started for instance {} at seq {}", changeLogWriter.getInstanceId(), highWaterMark);
+    }
+
+    @Scheduled(fixedDelayString = "${customer.coherence.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (!started) {
+            return;
+        }
+        polls.incrementAndGet();
+        Instant now = Instant.now();
+        lastPollAt = now;
+        try {
+            pollChanges(now);
+        } catch (DataAccessException ex) {
+            // Report an outage once, not with a stack trace on every poll until it is over
+            if (!failing) {
+                failing = true;
+                logger.warn("Change-log polling failed, retrying every {} ms: {}", pollIntervalMillis,
+                        ex.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+        if (failing) {
+            failing = false;
+            logger.info("Change-log polling recovered at seq {}.", highWaterMark);
+        }
+    }
+
+    private void pollChanges(Instant now) {
+        List<CustomerChangeLog> changes = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            changes.addAll(changeLogRepository.findBySeqIn(new ArrayList<>(gaps.keySet())));
+            changes.forEach(change -> gaps.remove(change.getSeq()));
+            gaps.values().removeIf(firstSeen -> firstSeen.plus(gapTimeout).isBefore(now));
+        }
+
+        List<CustomerChangeLog> newChanges = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(highWaterMark, PageRequest.of(0, batchSize));
+        for (CustomerChangeLog change : newChanges) {
+            for (long missing = highWaterMark + 1; missing < change.getSeq() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                gaps.put(missing, now);
+            }
+            highWaterMark = change.getSeq();
+        }
+        changes.addAll(newChanges);
+        apply(changes, now);
+    }
+
+    private void apply(List<CustomerChangeLog> changes, Instant now) {
+        Set<UUID> invalidated = new HashSet<>();
+        String self = changeLogWriter.getInstanceId();
+        for (CustomerChangeLog change : changes) {
+            if (self.equals(change.getOrigin())) {
+                // Our own writes were already invalidated after commit
+                ownChangesSkipped.incrementAndGet();
+                continue;
+            }
+            invalidated.add(change.getCustomerId());
+            long lag = Math.max(0, Duration.between(change.getChangedAt(), now).toMillis());
+            lastLagMillis = lag;
+            maxLagMillis = Math.max(maxLagMillis, lag);
+        }
+        if (!invalidated.isEmpty()) {
+            remoteChangesApplied.addAndGet(invalidated.size());
+            eventPublisher.publishEvent(new CustomerInvalidationEvent(invalidated));
+            logger.debug("Invalidated {} customers changed by other replicas.", invalidated.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${customer.coherence.prune-interval-ms:300000}")
+    public void prune() {
+        if (!started) {
+            return;
+        }
+        int deleted = changeLogRepository.deleteOlderThan(Instant.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Pruned {} change-log rows older than {}.", deleted, retention);
+        }
+    }
+
+    public synchronized CoherenceStats stats() {
+        return new CoherenceStats(enabled, changeLogWriter.getInstanceId(), highWaterMark, polls.get(),
+                remoteChangesApplied.get(), ownChangesSkipped.get(), gaps.size(), lastPollAt, lastLagMillis,
+                maxLagMillis, pollIntervalMillis);
+    }
+}
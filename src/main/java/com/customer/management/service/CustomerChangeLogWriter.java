@@ -0,0 +1,82 @@
+package com.customer.management.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.customer.management.event.CustomerChangedEvent;
+
+/**
+ * Appends a change-log row for every customer write. Rows are buffered per transaction and
+ * inserted as one JDBC batch just before the transaction commits, so they become visible to
+ * other replicas atomically with the change they describe.
+ */
+@Component
+public class CustomerChangeLogWriter {
+
+    private static final String INSERT_SQL = "insert into customer_change_log"
+            + " (customer_id, change_type, version, changed_at, origin) values (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${customer.coherence.enabled:true}")
+    private boolean enabled = true;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Object[] row = toRow(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_SQL, row);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> pending = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Object[]> rows = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, rows);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CustomerChangeLogWriter.this);
+                }
+            });
+            pending = rows;
+        }
+        pending.add(row);
+    }
+
+    private Object[] toRow(CustomerChangedEvent event) {
+        return new Object[] {
+            event.customerId(),
+            event.changeType().name(),
+            event.version(),
+            Timestamp.from(Instant.now()),
+            instanceId
+        };
+    }
+}
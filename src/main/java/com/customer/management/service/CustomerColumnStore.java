@@ -0,0 +1,535 @@
+package com.customer.management.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.customer.management.dto.ColumnStoreStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.event.CustomerInvalidationEvent;
+import com.customer.management.repository.CustomerRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Read-optimized in-memory replica of the customer table, stored column by column in
+ * primitive arrays instead of as entities. A customer occupies a slot: its id is a pair of
+ * {@code long}s, its version a {@code long}, and each text column an {@code int} id into a
+ * {@link Utf8StringPool}, so repeated first and last names are stored once. An open-addressing
+ * table maps ids to slots, and two sorted {@code int[]} arrays of slots give the id order
+ * (unsigned, as H2 orders UUIDs) and the name order used by the paged listings.
+ * <p>
+ * Loaded and maintained like {@link CustomerNameIndex}: a streaming scan once the application
+ * is ready, then committed {@link CustomerChangedEvent}s and {@link CustomerInvalidationEvent}s.
+ * Reads build a new {@link Customer} per call under a shared read lock. Inserting into the
+ * sorted arrays moves the slots after the insertion point, which is cheap for time-ordered ids
+ * and costs one array copy per write for the name order; the replica is meant for read-heavy use.
+ */
+@Component
+public class CustomerColumnStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerColumnStore.class);
+
+    private static final long FREE = Long.MIN_VALUE;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${customer.column-store.enabled:true}")
+    private boolean enabled = true;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns, indexed by slot; versions[slot] == FREE marks an unused slot
+    private long[] idHigh = new long[0];
+    private long[] idLow = new long[0];
+    private long[] versions = new long[0];
+    private int[] firstNames = new int[0];
+    private int[] middleNames = new int[0];
+    private int[] lastNames = new int[0];
+    private int[] emails = new int[0];
+    private int[] phones = new int[0];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int size;
+
+    private final Utf8StringPool names = new Utf8StringPool();
+    private final Utf8StringPool emailPool = new Utf8StringPool();
+    private final Utf8StringPool phonePool = new Utf8StringPool();
+
+    // Open addressing with linear probing over slots; holds slot + 1, 0 marks an empty bucket
+    private int[] idTable = new int[16];
+
+    // Slots in id order and in (lastName, firstName, id) order; the first `size` entries are used
+    private int[] byId = new int[16];
+    private int[] byName = new int[16];
+    private boolean ordered;
+    private final Set<UUID> removedWhileLoading = new HashSet<>();
+
+    private final AtomicLong reads = new AtomicLong();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long count = new TransactionTemplate(transactionManager).execute(status -> {
+            long rows = 0;
+            try (Stream<Customer> customers = customerRepository.streamAll()) {
+                Iterator<Customer> iterator = customers.iterator();
+                while (iterator.hasNext()) {
+                    Customer customer = iterator.next();
+                    lock.writeLock().lock();
+                    try {
+                        // Changes applied while loading are newer than the streamed row
+                        if (findSlot(customer.getId()) < 0 && !removedWhileLoading.contains(customer.getId())) {
+                            put(customer);
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    entityManager.detach(customer);
+                    rows++;
+                }
+            }
+            return rows;
+        });
+        lock.writeLock().lock();
+        try {
+            rebuildOrders();
+            removedWhileLoading.clear();
+            ordered = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        ColumnStoreStats stats = stats();
+        logger.info("Customer column store loaded {} customers in {} ms: {} bytes, {} per customer.", count,
+                (System.nanoTime() - startNanos) / 1_000_000, stats.getHeapBytes(),
+                Math.round(stats.getBytesPerCustomer()));
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /** Returns a new {@code Customer} with the replicated state of {@code id}, or {@code null}. */
+    public Customer get(UUID id) {
+        reads.incrementAndGet();
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(id);
+            return slot < 0 ? null : materialize(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The first {@code limit} customers in id order. */
+    public List<Customer> firstById(int limit) {
+        lock.readLock().lock();
+        try {
+            return page(byId, 0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} customers with an id greater than {@code after}, in id order. */
+    public List<Customer> afterId(UUID after, int limit) {
+        lock.readLock().lock();
+        try {
+            long high = after.getMostSignificantBits();
+            long low = after.getLeastSignificantBits();
+            return page(byId, upperBound(byId, size, slot -> compareId(slot, high, low)), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The first {@code limit} customers ordered by last name, first name and id. */
+    public List<Customer> firstByName(int limit) {
+        lock.readLock().lock();
+        try {
+            return page(byName, 0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} customers after the given name key, in name order. */
+    public List<Customer> afterName(String lastName, String firstName, UUID id, int limit) {
+        byte[] last = lastName == null ? null : lastName.getBytes(StandardCharsets.UTF_8);
+        byte[] first = firstName == null ? null : firstName.getBytes(StandardCharsets.UTF_8);
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        lock.readLock().lock();
+        try {
+            return page(byName, upperBound(byName, size, slot -> {
+                int compared = names.compare(lastNames[slot], last);
+                if (compared == 0) {
+                    compared = names.compare(firstNames[slot], first);
+                }
+                return compared != 0 ? compared : compareId(slot, high, low);
+            }), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Materializes up to {@code limit} slots of {@code order}; the caller holds the read lock. */
+    private List<Customer> page(int[] order, int from, int limit) {
+        reads.incrementAndGet();
+        int to = (int) Math.min((long) from + limit, size);
+        List<Customer> customers = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            customers.add(materialize(order[i]));
+        }
+        return customers;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.customer() == null) {
+                remove(event.customerId());
+            } else {
+                put(event.customer());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CustomerInvalidationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> missing = new HashSet<>(event.customerIds());
+        List<Customer> customers = customerRepository.findAllById(event.customerIds());
+        lock.writeLock().lock();
+        try {
+            for (Customer customer : customers) {
+                missing.remove(customer.getId());
+                put(customer);
+            }
+            missing.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---- Writes, under the write lock ----
+
+    private void put(Customer customer) {
+        UUID id = customer.getId();
+        long version = customer.getVersion() == null ? 0 : customer.getVersion();
+        int slot = findSlot(id);
+        if (slot >= 0) {
+            if (versions[slot] > version) {
+                // An older change delivered after a newer one
+                return;
+            }
+            if (ordered) {
+                removeFromOrder(byName, slot, this::compareName);
+            }
+        } else {
+            slot = allocateSlot();
+            idHigh[slot] = id.getMostSignificantBits();
+            idLow[slot] = id.getLeastSignificantBits();
+            firstNames[slot] = middleNames[slot] = lastNames[slot] = Utf8StringPool.NULL;
+            emails[slot] = phones[slot] = Utf8StringPool.NULL;
+            insertIntoTable(slot);
+            size++;
+            if (ordered) {
+                byId = insertIntoOrder(byId, slot, this::compareId);
+            }
+        }
+        versions[slot] = version;
+        // Intern before releasing, so an unchanged value keeps its single copy
+        firstNames[slot] = replace(names, firstNames[slot], customer.getFirstName());
+        middleNames[slot] = replace(names, middleNames[slot], customer.getMiddleName());
+        lastNames[slot] = replace(names, lastNames[slot], customer.getLastName());
+        emails[slot] = replace(emailPool, emails[slot], customer.getEmailAddress());
+        phones[slot] = replace(phonePool, phones[slot], customer.getPhoneNumber());
+        if (ordered) {
+            byName = insertIntoOrder(byName, slot, this::compareName);
+        }
+    }
+
+    private void remove(UUID id) {
+        if (!ordered) {
+            removedWhileLoading.add(id);
+        }
+        int slot = findSlot(id);
+        if (slot < 0) {
+            return;
+        }
+        if (ordered) {
+            removeFromOrder(byId, slot, this::compareId);
+            removeFromOrder(byName, slot, this::compareName);
+        }
+        removeFromTable(slot);
+        names.release(firstNames[slot]);
+        names.release(middleNames[slot]);
+        names.release(lastNames[slot]);
+        emailPool.release(emails[slot]);
+        phonePool.release(phones[slot]);
+        versions[slot] = FREE;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        size--;
+        for (Utf8StringPool pool : new Utf8StringPool[] {names, emailPool, phonePool}) {
+            if (pool.needsCompaction()) {
+                pool.compact();
+            }
+        }
+    }
+
+    private static int replace(Utf8StringPool pool, int previous, String value) {
+        int id = pool.intern(value);
+        pool.release(previous);
+        return id;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == versions.length) {
+            int capacity = Math.max(16, slotCount + (slotCount >> 1));
+            idHigh = Arrays.copyOf(idHigh, capacity);
+            idLow = Arrays.copyOf(idLow, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            firstNames = Arrays.copyOf(firstNames, capacity);
+            middleNames = Arrays.copyOf(middleNames, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            phones = Arrays.copyOf(phones, capacity);
+        }
+        return slotCount++;
+    }
+
+    private Customer materialize(int slot) {
+        Customer customer = new Customer();
+        customer.setId(new UUID(idHigh[slot], idLow[slot]));
+        customer.setVersion(versions[slot]);
+        customer.setFirstName(names.get(firstNames[slot]));
+        customer.setMiddleName(names.get(middleNames[slot]));
+        customer.setLastName(names.get(lastNames[slot]));
+        customer.setEmailAddress(emailPool.get(emails[slot]));
+        customer.setPhoneNumber(phonePool.get(phones[slot]));
+        return customer;
+    }
+
+    // ---- Id hash table ----
+
+    private int findSlot(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        int mask = idTable.length - 1;
+        for (int bucket = hash(high, low) & mask; ; bucket = (bucket + 1) & mask) {
+            int entry = idTable[bucket];
+            if (entry == 0) {
+                return -1;
+            }
+            int slot = entry - 1;
+            if (idLow[slot] == low && idHigh[slot] == high) {
+                return slot;
+            }
+        }
+    }
+
+    private void insertIntoTable(int slot) {
+        if ((size + 1) * 2 > idTable.length) {
+            int[] old = idTable;
+            idTable = new int[old.length * 2];
+            for (int entry : old) {
+                if (entry != 0) {
+                    placeInTable(entry - 1);
+                }
+            }
+        }
+        placeInTable(slot);
+    }
+
+    private void placeInTable(int slot) {
+        int mask = idTable.length - 1;
+        int bucket = hash(idHigh[slot], idLow[slot]) & mask;
+        while (idTable[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        idTable[bucket] = slot + 1;
+    }
+
+    private void removeFromTable(int slot) {
+        int mask = idTable.length - 1;
+        int bucket = hash(idHigh[slot], idLow[slot]) & mask;
+        while (idTable[bucket] != slot + 1) {
+            bucket = (bucket + 1) & mask;
+        }
+        // Backward-shift deletion, as in Utf8StringPool
+        int hole = bucket;
+        for (int next = (hole + 1) & mask; idTable[next] != 0; next = (next + 1) & mask) {
+            int moved = idTable[next] - 1;
+            int home = hash(idHigh[moved], idLow[moved]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                idTable[hole] = idTable[next];
+                hole = next;
+            }
+        }
+        idTable[hole] = 0;
+    }
+
+    private static int hash(long high, long low) {
+        long mixed = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32);
+    }
+
+    // ---- Sorted orders ----
+
+    private int compareId(int a, int b) {
+        return compareId(a, idHigh[b], idLow[b]);
+    }
+
+    private int compareId(int slot, long high, long low) {
+        int compared = Long.compareUnsigned(idHigh[slot], high);
+        return compared != 0 ? compared : Long.compareUnsigned(idLow[slot], low);
+    }
+
+    private int compareName(int a, int b) {
+        int compared = names.compare(lastNames[a], lastNames[b]);
+        if (compared == 0) {
+            compared = names.compare(firstNames[a], firstNames[b]);
+        }
+        return compared != 0 ? compared : compareId(a, b);
+    }
+
+    /**
+     * Index of the first of the {@code used} slots in {@code order} that {@code comparator},
+     * comparing a slot with the key, ranks after the key.
+     */
+    private static int upperBound(int[] order, int used, IntUnaryOperator comparator) {
+        int low = 0;
+        int high = used;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.applyAsInt(order[middle]) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** Inserts {@code slot} into an order that holds every other live slot, size - 1 of them. */
+    private int[] insertIntoOrder(int[] order, int slot, IntBinaryOperator comparator) {
+        int used = size - 1;
+        int position = upperBound(order, used, other -> comparator.applyAsInt(other, slot));
+        if (used == order.length) {
+            order = Arrays.copyOf(order, Math.max(16, used + (used >> 1)));
+        }
+        System.arraycopy(order, position, order, position + 1, used - position);
+        order[position] = slot;
+        return order;
+    }
+
+    /** Removes {@code slot}, which must still hold the values it was ordered by, from a full order. */
+    private void removeFromOrder(int[] order, int slot, IntBinaryOperator comparator) {
+        int position = upperBound(order, size, other -> comparator.applyAsInt(other, slot)) - 1;
+        System.arraycopy(order, position + 1, order, position, size - position - 1);
+    }
+
+    private void rebuildOrders() {
+        int[] slots = new int[Math.max(size, 16)];
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (versions[slot] != FREE) {
+                slots[count++] = slot;
+            }
+        }
+        byId = slots.clone();
+        sort(byId, count, this::compareId);
+        byName = slots;
+        sort(byName, count, this::compareName);
+    }
+
+    /** Merge sort of the first {@code count} slots without boxing them. */
+    private static void sort(int[] slots, int count, IntBinaryOperator comparator) {
+        int[] buffer = new int[count];
+        for (int width = 1; width < count; width *= 2) {
+            for (int from = 0; from < count - width; from += 2 * width) {
+                int middle = from + width;
+                int to = Math.min(from + 2 * width, count);
+                int left = from;
+                int right = middle;
+                int out = from;
+                while (left < middle && right < to) {
+                    buffer[out++] = comparator.applyAsInt(slots[left], slots[right]) <= 0 ? slots[left++] : slots[right++];
+                }
+                while (left < middle) {
+                    buffer[out++] = slots[left++];
+                }
+                while (right < to) {
+                    buffer[out++] = slots[right++];
+                }
+                System.arraycopy(buffer, from, slots, from, to - from);
+            }
+        }
+    }
+
+    public ColumnStoreStats stats() {
+        lock.readLock().lock();
+        try {
+            long columnBytes = 8L * (idHigh.length + idLow.length + versions.length)
+                    + 4L * (firstNames.length + middleNames.length + lastNames.length + emails.length + phones.length);
+            long indexBytes = 4L * (idTable.length + byId.length + byName.length + freeSlots.length);
+            long heapBytes = columnBytes + indexBytes + names.heapBytes() + emailPool.heapBytes() + phonePool.heapBytes();
+            return new ColumnStoreStats(enabled, ready, size, names.size(), heapBytes,
+                    size == 0 ? 0 : heapBytes / (double) size, reads.get());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
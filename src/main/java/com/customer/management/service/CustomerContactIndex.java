@@ -0,0 +1,252 @@
+package com.customer.management.service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.customer.management.dto.ContactIndexStats;
+import com.customer.management.dto.CustomerContact;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.event.CustomerInvalidationEvent;
+import com.customer.management.exception.DuplicateCustomerException;
+import com.customer.management.repository.CustomerRepository;
+
+/**
+ * In-memory index from normalized email address and phone number to customer id. It answers
+ * lookups without touching the database and lets writes reject duplicate email addresses before
+ * an INSERT is attempted.
+ * <p>
+ * The index is loaded once the application is ready and then maintained from committed
+ * {@link CustomerChangedEvent}s and from {@link CustomerInvalidationEvent}s for rows changed by
+ * other replicas. It is advisory: every hit is confirmed against the customer itself, and the
+ * unique constraint in the database remains the final authority.
+ */
+@Component
+public class CustomerContactIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerContactIndex.class);
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${customer.contact-index.enabled:true}")
+    private boolean enabled = true;
+
+    private final Map<String, UUID> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> byPhone = new ConcurrentHashMap<>();
+    private final Map<UUID, CustomerContact> byId = new ConcurrentHashMap<>();
+    private final Set<UUID> removedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong duplicatesRejected = new AtomicLong();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long count = new TransactionTemplate(transactionManager).execute(status -> {
+            long rows = 0;
+            try (Stream<CustomerContact> contacts = customerRepository.streamContacts()) {
+                for (CustomerContact contact : (Iterable<CustomerContact>) contacts::iterator) {
+                    // Changes applied while loading are newer than the streamed row; both run
+                    // under the same key lock of byId, so a concurrent delete is never undone
+                    byId.computeIfAbsent(contact.id(), id -> {
+                        if (removedWhileLoading.contains(id)) {
+                            return null;
+                        }
+                        link(contact);
+                        return contact;
+                    });
+                    rows++;
+                }
+            }
+            return rows;
+        });
+        ready = true;
+        removedWhileLoading.clear();
+        logger.info("Customer contact index loaded {} customers in {} ms.", count, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (Character.isDigit(c) || (c == '+' && normalized.length() == 0)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the id indexed for {@code email}, or {@code null} when the index has no entry or
+     * is not ready.
+     */
+    public UUID findByEmail(String email) {
+        if (!isReady()) {
+            return null;
+        }
+        return record(byEmail.get(normalizeEmail(email)));
+    }
+
+    /**
+     * Returns the ids indexed for {@code phone}; empty when the index has no entry or is not
+     * ready.
+     */
+    public Set<UUID> findByPhone(String phone) {
+        if (!isReady()) {
+            return Collections.emptySet();
+        }
+        Set<UUID> ids = byPhone.get(normalizePhone(phone));
+        record(ids == null || ids.isEmpty() ? null : ids);
+        return ids == null ? Collections.emptySet() : Set.copyOf(ids);
+    }
+
+    private <T> T record(T result) {
+        (result == null ? misses : hits).incrementAndGet();
+        return result;
+    }
+
+    /**
+     * Rejects {@code email} when it already belongs to a customer other than {@code customerId}
+     * ({@code null} for new customers). A hit is confirmed against the customer before failing,
+     * so a stale entry never blocks a legitimate write.
+     */
+    public void checkEmailAvailable(String email, UUID customerId) {
+        if (!isReady() || email == null) {
+            return;
+        }
+        String normalized = normalizeEmail(email);
+        UUID owner = byEmail.get(normalized);
+        if (owner == null || owner.equals(customerId)) {
+            return;
+        }
+        // Confirm against the database rather than the cache: this is the rare path and a false
+        // conflict would reject a legitimate write
+        Customer existing = customerRepository.findById(owner).orElse(null);
+        if (existing != null && normalized.equals(normalizeEmail(existing.getEmailAddress()))) {
+            duplicatesRejected.incrementAndGet();
+            logger.warn("Rejected duplicate email address for customer {}; already used by {}.", customerId, owner);
+            throw new DuplicateCustomerException("A customer with email address " + email + " already exists.");
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.customer() == null) {
+            remove(event.customerId());
+        } else {
+            Customer customer = event.customer();
+            put(new CustomerContact(customer.getId(), customer.getEmailAddress(), customer.getPhoneNumber()));
+        }
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CustomerInvalidationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> missing = new HashSet<>(event.customerIds());
+        for (Customer customer : customerRepository.findAllById(event.customerIds())) {
+            missing.remove(customer.getId());
+            put(new CustomerContact(customer.getId(), customer.getEmailAddress(), customer.getPhoneNumber()));
+        }
+        missing.forEach(this::remove);
+    }
+
+    void put(CustomerContact contact) {
+        byId.compute(contact.id(), (id, previous) -> {
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(contact);
+            return contact;
+        });
+    }
+
+    void remove(UUID customerId) {
+        byId.compute(customerId, (id, previous) -> {
+            if (!ready) {
+                // The startup scan may still return this row
+                removedWhileLoading.add(id);
+            }
+            if (previous != null) {
+                unlink(previous);
+            }
+            return null;
+        });
+    }
+
+    private void link(CustomerContact contact) {
+        if (contact.emailAddress() != null) {
+            byEmail.put(normalizeEmail(contact.emailAddress()), contact.id());
+        }
+        if (contact.phoneNumber() != null) {
+            byPhone.compute(normalizePhone(contact.phoneNumber()), (phone, ids) -> {
+                Set<UUID> linked = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                linked.add(contact.id());
+                return linked;
+            });
+        }
+    }
+
+    private void unlink(CustomerContact contact) {
+        if (contact.emailAddress() != null) {
+            byEmail.remove(normalizeEmail(contact.emailAddress()), contact.id());
+        }
+        if (contact.phoneNumber() != null) {
+            byPhone.computeIfPresent(normalizePhone(contact.phoneNumber()), (phone, ids) -> {
+                ids.remove(contact.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public ContactIndexStats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+        return new ContactIndexStats(enabled, ready, byEmail.size(), byPhone.size(), hitCount, missCount,
+                lookups == 0 ? 0 : (double) hitCount / lookups, duplicatesRejected.get());
+    }
+}
@@ -0,0 +1,97 @@
+package com.customer.management.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.customer.management.entity.Customer;
+
+/**
+ * Minimal RFC 4180 style parser for customer CSV files: comma separated, optional double-quoted
+ * fields with {@code ""} as an escaped quote. Quoted fields may not span lines. The header row
+ * names the columns (firstName, middleName, lastName, emailAddress, phoneNumber; any order,
+ * case-insensitive).
+ */
+final class CustomerCsvParser {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final String[] COLUMNS = {"firstname", "middlename", "lastname", "emailaddress", "phonenumber"};
+
+    private final int[] columnIndexes = new int[COLUMNS.length];
+
+    CustomerCsvParser(String headerLine) {
+        if (headerLine == null) {
+            throw new IllegalArgumentException("CSV file is empty.");
+        }
+        if (!headerLine.isEmpty() && headerLine.charAt(0) == BYTE_ORDER_MARK) {
+            headerLine = headerLine.substring(1);
+        }
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = split(headerLine);
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            columnIndexes[i] = header.getOrDefault(COLUMNS[i], -1);
+        }
+        if (columnIndexes[0] < 0 || columnIndexes[2] < 0 || columnIndexes[3] < 0) {
+            throw new IllegalArgumentException("CSV header must contain firstName, lastName and emailAddress columns.");
+        }
+    }
+
+    Customer parse(String line) {
+        List<String> values = split(line);
+        Customer customer = new Customer();
+        customer.setFirstName(value(values, 0));
+        customer.setMiddleName(value(values, 1));
+        customer.setLastName(value(values, 2));
+        customer.setEmailAddress(value(values, 3));
+        customer.setPhoneNumber(value(values, 4));
+        return customer;
+    }
+
+    private String value(List<String> values, int column) {
+        int index = columnIndexes[column];
+        if (index < 0 || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
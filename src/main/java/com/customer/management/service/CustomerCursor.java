@@ -0,0 +1,103 @@
+package com.customer.management.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.customer.management.dto.CustomerSortOrder;
+import com.customer.management.entity.Customer;
+
+/**
+ * Opaque keyset pagination cursor. It carries the sort key of the last row of a page, encoded
+ * as URL-safe Base64 so clients treat it as a token rather than something to construct.
+ */
+public final class CustomerCursor {
+
+    private static final String INVALID_CURSOR = "Invalid pagination cursor.";
+
+    private final CustomerSortOrder sortOrder;
+    private final UUID id;
+    private final String lastName;
+    private final String firstName;
+
+    private CustomerCursor(CustomerSortOrder sortOrder, UUID id, String lastName, String firstName) {
+        this.sortOrder = sortOrder;
+        this.id = id;
+        this.lastName = lastName;
+        this.firstName = firstName;
+    }
+
+    public static CustomerCursor after(Customer customer, CustomerSortOrder sortOrder) {
+        return new CustomerCursor(sortOrder, customer.getId(), customer.getLastName(), customer.getFirstName());
+    }
+
+    public static CustomerCursor after(UUID id, String lastName, String firstName, CustomerSortOrder sortOrder) {
+        return new CustomerCursor(sortOrder, id, lastName, firstName);
+    }
+
+    public static CustomerCursor decode(String token, CustomerSortOrder expectedSortOrder) {
+        CustomerCursor cursor;
+        try {
+            cursor = read(Base64.getUrlDecoder().decode(token));
+        } catch (IOException | RuntimeException ex) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+        if (cursor.sortOrder != expectedSortOrder) {
+            throw new IllegalArgumentException("Pagination cursor was issued for a different sort order.");
+        }
+        return cursor;
+    }
+
+    private static CustomerCursor read(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            CustomerSortOrder sortOrder = CustomerSortOrder.values()[in.readUnsignedByte()];
+            UUID id = new UUID(in.readLong(), in.readLong());
+            String lastName = null;
+            String firstName = null;
+            if (sortOrder == CustomerSortOrder.NAME) {
+                lastName = in.readUTF();
+                firstName = in.readUTF();
+            }
+            if (in.available() > 0) {
+                throw new IOException("Trailing bytes in cursor");
+            }
+            return new CustomerCursor(sortOrder, id, lastName, firstName);
+        }
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(sortOrder.ordinal());
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+            if (sortOrder == CustomerSortOrder.NAME) {
+                out.writeUTF(lastName);
+                out.writeUTF(firstName);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to encode pagination cursor.", ex);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public CustomerSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+}
@@ -0,0 +1,97 @@
+package com.customer.management.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.customer.management.dto.DedupJobStatus;
+import com.customer.management.dto.DuplicateCluster;
+import com.customer.management.dto.JobState;
+
+/**
+ * Mutable, thread-safe progress of one duplicate detection run. Counters are updated
+ * concurrently by the fork/join workers and read through {@link #snapshot()}.
+ */
+public class CustomerDedupJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicLong rowsScanned = new AtomicLong();
+    private final AtomicLong blocks = new AtomicLong();
+    private final AtomicLong oversizedBlocksSkipped = new AtomicLong();
+    private final LongAdder comparisons = new LongAdder();
+    private final AtomicLong matchedPairs = new AtomicLong();
+
+    private volatile JobState state = JobState.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile long clusterCount;
+    private volatile List<DuplicateCluster> clusters = List.of();
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isFinished() {
+        return state == JobState.COMPLETED || state == JobState.FAILED;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        state = JobState.RUNNING;
+    }
+
+    /**
+     * @param clusters    the reported clusters, highest score first
+     * @param clusterCount total number of clusters found, which may exceed the reported ones
+     */
+    void completed(List<DuplicateCluster> clusters, long clusterCount) {
+        this.clusters = List.copyOf(clusters);
+        this.clusterCount = clusterCount;
+        finishedAt = Instant.now();
+        state = JobState.COMPLETED;
+    }
+
+    void failed(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        state = JobState.FAILED;
+    }
+
+    void rowScanned() {
+        rowsScanned.incrementAndGet();
+    }
+
+    void blocksFormed(long usable, long oversized) {
+        blocks.set(usable);
+        oversizedBlocksSkipped.set(oversized);
+    }
+
+    void compared(long count) {
+        comparisons.add(count);
+    }
+
+    void matched(long count) {
+        matchedPairs.addAndGet(count);
+    }
+
+    /**
+     * Clusters of a completed job, highest score first; empty while the job is running.
+     */
+    public List<DuplicateCluster> getClusters() {
+        return clusters;
+    }
+
+    public DedupJobStatus snapshot() {
+        return new DedupJobStatus(id, state, rowsScanned.get(), blocks.get(), oversizedBlocksSkipped.get(),
+                comparisons.sum(), matchedPairs.get(), clusterCount, createdAt, startedAt, finishedAt, error);
+    }
+}
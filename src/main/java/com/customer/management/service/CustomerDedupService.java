@@ -0,0 +1,352 @@
+package com.customer.management.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.customer.management.dto.CustomerMatchFields;
+import com.customer.management.dto.DuplicateCluster;
+import com.customer.management.repository.CustomerRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Finds probable duplicate customers without comparing every pair. Each job
+ * <ol>
+ * <li>streams the compared columns of all customers and groups them into blocks by
+ * {@link CustomerMatcher#blockingKeys blocking keys} (email local part, phone suffix, phonetic
+ * last name),</li>
+ * <li>scores the pairs inside each block on a fork/join pool, skipping blocks larger than
+ * {@code max-block-size} because such keys do not discriminate,</li>
+ * <li>joins pairs scoring at least {@code match-threshold} into clusters with union-find.</li>
+ * </ol>
+ * The work is proportional to the sum of squared block sizes instead of the square of the row
+ * count.
+ * <p>
+ * The compared columns of every customer and the blocks stay on the heap for the whole run,
+ * roughly 1 KB per customer at the end of the scan. A run over more than {@code max-rows}
+ * customers fails instead of exhausting the heap; raise it together with the heap.
+ */
+@Service
+public class CustomerDedupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerDedupService.class);
+
+    // Blocks per fork/join leaf task; work stealing evens out the uneven block sizes
+    private static final int BLOCKS_PER_TASK = 64;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${customer.dedup.parallelism:0}")
+    private int parallelism = 0;
+
+    @Value("${customer.dedup.max-rows:1000000}")
+    private int maxRows = 1_000_000;
+
+    @Value("${customer.dedup.max-block-size:1000}")
+    private int maxBlockSize = 1000;
+
+    @Value("${customer.dedup.match-threshold:0.6}")
+    private double matchThreshold = 0.6;
+
+    @Value("${customer.dedup.max-clusters-reported:10000}")
+    private int maxClustersReported = 10000;
+
+    @Value("${customer.dedup.max-retained-jobs:20}")
+    private int maxRetainedJobs = 20;
+
+    private final Map<UUID, CustomerDedupJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("customer-dedup-"));
+    private ForkJoinPool comparisonPool;
+
+    @PostConstruct
+    void init() {
+        comparisonPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        comparisonPool.shutdownNow();
+    }
+
+    /**
+     * Queues a duplicate detection run over all customers. Jobs run one at a time.
+     */
+    public CustomerDedupJob startJob() {
+        evictFinishedJobs();
+        CustomerDedupJob job = new CustomerDedupJob();
+        jobs.put(job.getId(), job);
+        logger.info("Queued customer dedup job {}", job.getId());
+        executor.submit(() -> run(job));
+        return job;
+    }
+
+    public Optional<CustomerDedupJob> getJob(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < maxRetainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(CustomerDedupJob::isFinished)
+                .sorted(Comparator.comparing(CustomerDedupJob::getCreatedAt))
+                .limit(jobs.size() - maxRetainedJobs + 1L)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    private void run(CustomerDedupJob job) {
+        job.started();
+        logger.info("Customer dedup job {} started.", job.getId());
+        try {
+            List<CustomerMatchFields> rows = new ArrayList<>();
+            Map<String, IntList> blocksByKey = new HashMap<>();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                try (Stream<CustomerMatchFields> customers = customerRepository.streamMatchFields()) {
+                    customers.forEach(customer -> {
+                        int row = rows.size();
+                        if (row == maxRows) {
+                            throw new IllegalStateException("More than " + maxRows
+                                    + " customers to compare; raise customer.dedup.max-rows and the heap.");
+                        }
+                        rows.add(customer);
+                        for (String key : CustomerMatcher.blockingKeys(customer)) {
+                            if (key != null) {
+                                blocksByKey.computeIfAbsent(key, k -> new IntList()).add(row);
+                            }
+                        }
+                        job.rowScanned();
+                    });
+                }
+            });
+
+            // Per row and key type, the number of its compared block plus one, otherwise 0. A row
+            // has one key per type, so equal numbers mean the rows share that block.
+            int[] blockOf = new int[rows.size() * CustomerMatcher.KEY_TYPES];
+            List<Block> blocks = new ArrayList<>();
+            long oversized = 0;
+            for (Map.Entry<String, IntList> entry : blocksByKey.entrySet()) {
+                IntList members = entry.getValue();
+                if (members.size < 2) {
+                    continue;
+                }
+                if (members.size > maxBlockSize) {
+                    oversized++;
+                    continue;
+                }
+                int type = keyType(entry.getKey());
+                int blockNumber = blocks.size() + 1;
+                for (int i = 0; i < members.size; i++) {
+                    blockOf[members.values[i] * CustomerMatcher.KEY_TYPES + type] = blockNumber;
+                }
+                blocks.add(new Block(type, members.toArray()));
+            }
+            blocksByKey.clear();
+            job.blocksFormed(blocks.size(), oversized);
+            logger.info("Customer dedup job {}: {} rows in {} blocks ({} oversized blocks skipped).",
+                    job.getId(), rows.size(), blocks.size(), oversized);
+
+            List<Match> matches = new ArrayList<>();
+            comparisonPool.invoke(new CompareBlocks(job, rows, blockOf, blocks, 0, blocks.size(), matches));
+
+            List<DuplicateCluster> clusters = cluster(rows, matches);
+            job.completed(clusters.subList(0, Math.min(clusters.size(), maxClustersReported)), clusters.size());
+            logger.info("Customer dedup job {} completed: {}", job.getId(), job.snapshot());
+        } catch (Exception ex) {
+            job.failed(ex.getMessage());
+            logger.error("Customer dedup job {} failed: {}", job.getId(), ex.getMessage(), ex);
+        }
+    }
+
+    private static int keyType(String key) {
+        return switch (key.charAt(0)) {
+            case 'e' -> CustomerMatcher.EMAIL_KEY;
+            case 'p' -> CustomerMatcher.PHONE_KEY;
+            default -> CustomerMatcher.NAME_KEY;
+        };
+    }
+
+    /**
+     * Union-find over the matched pairs; returns clusters ordered by score, highest first.
+     */
+    private static List<DuplicateCluster> cluster(List<CustomerMatchFields> rows, List<Match> matches) {
+        int[] parent = new int[rows.size()];
+        Arrays.fill(parent, -1);
+        for (Match match : matches) {
+            int rootA = find(parent, match.a());
+            int rootB = find(parent, match.b());
+            if (rootA != rootB) {
+                parent[rootA] = rootB;
+            }
+        }
+
+        // Per root: member ids, best pair score and number of matched pairs
+        Map<Integer, List<UUID>> members = new HashMap<>();
+        Map<Integer, double[]> scores = new HashMap<>();
+        for (Match match : matches) {
+            double[] clusterScore = scores.computeIfAbsent(find(parent, match.a()), root -> new double[2]);
+            clusterScore[0] = Math.max(clusterScore[0], match.score());
+            clusterScore[1]++;
+        }
+        for (int row = 0; row < parent.length; row++) {
+            if (parent[row] != -1) {
+                members.computeIfAbsent(find(parent, row), root -> new ArrayList<>()).add(rows.get(row).id());
+            }
+        }
+
+        List<DuplicateCluster> clusters = new ArrayList<>(members.size());
+        members.forEach((root, ids) -> {
+            double[] clusterScore = scores.get(root);
+            clusters.add(new DuplicateCluster(ids, clusterScore[0], (int) clusterScore[1]));
+        });
+        clusters.sort(Comparator.comparingDouble(DuplicateCluster::getScore).reversed()
+                .thenComparing(Comparator.comparingInt(DuplicateCluster::getMatchedPairs).reversed()));
+        return clusters;
+    }
+
+    /**
+     * Root of {@code row}'s set; -1 marks rows not yet in any set, a root points to itself.
+     */
+    private static int find(int[] parent, int row) {
+        if (parent[row] == -1) {
+            parent[row] = row;
+            return row;
+        }
+        int root = row;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Path compression
+        while (parent[row] != root) {
+            int next = parent[row];
+            parent[row] = root;
+            row = next;
+        }
+        return root;
+    }
+
+    private record Block(int keyType, int[] rows) {
+    }
+
+    private record Match(int a, int b, double score) {
+    }
+
+    /**
+     * Compares all pairs inside a range of blocks, splitting the range until it is small enough.
+     */
+    private final class CompareBlocks extends RecursiveAction {
+
+        private final CustomerDedupJob job;
+        private final List<CustomerMatchFields> rows;
+        private final int[] blockOf;
+        private final List<Block> blocks;
+        private final int from;
+        private final int to;
+        private final List<Match> matches;
+
+        CompareBlocks(CustomerDedupJob job, List<CustomerMatchFields> rows, int[] blockOf, List<Block> blocks,
+                      int from, int to, List<Match> matches) {
+            this.job = job;
+            this.rows = rows;
+            this.blockOf = blockOf;
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+            this.matches = matches;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BLOCKS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CompareBlocks(job, rows, blockOf, blocks, from, middle, matches),
+                        new CompareBlocks(job, rows, blockOf, blocks, middle, to, matches));
+                return;
+            }
+            List<Match> found = new ArrayList<>();
+            long comparisons = 0;
+            for (int b = from; b < to; b++) {
+                Block block = blocks.get(b);
+                int[] members = block.rows();
+                for (int i = 0; i < members.length; i++) {
+                    for (int j = i + 1; j < members.length; j++) {
+                        if (comparedInEarlierBlock(members[i], members[j], block.keyType())) {
+                            continue;
+                        }
+                        comparisons++;
+                        double score = CustomerMatcher.score(rows.get(members[i]), rows.get(members[j]));
+                        if (score >= matchThreshold) {
+                            found.add(new Match(members[i], members[j], score));
+                        }
+                    }
+                }
+            }
+            job.compared(comparisons);
+            job.matched(found.size());
+            synchronized (matches) {
+                matches.addAll(found);
+            }
+        }
+
+        /**
+         * True when both rows also share a compared block of a lower key type, where this pair
+         * has already been (or will be) scored.
+         */
+        private boolean comparedInEarlierBlock(int a, int b, int keyType) {
+            for (int type = 0; type < keyType; type++) {
+                int block = blockOf[a * CustomerMatcher.KEY_TYPES + type];
+                if (block != 0 && block == blockOf[b * CustomerMatcher.KEY_TYPES + type]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Growable {@code int} array, avoiding a boxed Integer per block member.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[2];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.customer.management.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.customer.management.dto.ExportStats;
+
+/**
+ * Counters describing export throughput, kept separately from the export itself so they can
+ * be read while an export is running.
+ */
+@Component
+public class CustomerExportMetrics {
+
+    private final AtomicLong exportsStarted = new AtomicLong();
+    private final AtomicLong exportsCompleted = new AtomicLong();
+    private final AtomicLong exportsFailed = new AtomicLong();
+    private final AtomicLong rowsExported = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    private volatile long lastExportRows;
+    private volatile long lastExportBytes;
+    private volatile double lastExportRowsPerSecond;
+
+    void exportStarted() {
+        exportsStarted.incrementAndGet();
+    }
+
+    void rowsWritten(long rows) {
+        rowsExported.addAndGet(rows);
+    }
+
+    void bytesWritten(long bytes) {
+        bytesWritten.addAndGet(bytes);
+    }
+
+    void exportFinished(long rows, long bytes, long elapsedNanos) {
+        exportsCompleted.incrementAndGet();
+        lastExportRows = rows;
+        lastExportBytes = bytes;
+        lastExportRowsPerSecond = elapsedNanos > 0 ? rows * 1_000_000_000d / elapsedNanos : 0d;
+    }
+
+    void exportFailed() {
+        exportsFailed.incrementAndGet();
+    }
+
+    public ExportStats snapshot() {
+        long started = exportsStarted.get();
+        long completed = exportsCompleted.get();
+        long failed = exportsFailed.get();
+        return new ExportStats(started, completed, failed, started - completed - failed, rowsExported.get(),
+                bytesWritten.get(), lastExportRows, lastExportBytes, lastExportRowsPerSecond);
+    }
+}
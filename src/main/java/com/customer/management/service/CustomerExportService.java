@@ -0,0 +1,134 @@
+package com.customer.management.service;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class CustomerExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerExportService.class);
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerExportMetrics exportMetrics;
+
+    /**
+     * Writes every customer to {@code responseStream} as newline-delimited JSON. Rows are read
+     * through a database cursor and detached once written, so heap usage does not grow with the
+     * table size. The caller owns {@code responseStream}; it is flushed but not closed.
+     *
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportCustomers(OutputStream responseStream, boolean gzip) throws IOException {
+        logger.info("Starting customer export (gzip={}).", gzip);
+        long startNanos = System.nanoTime();
+        exportMetrics.exportStarted();
+
+        CountingOutputStream counted = new CountingOutputStream(responseStream);
+        OutputStream target = gzip ? new GZIPOutputStream(counted, BUFFER_SIZE) : new BufferedOutputStream(counted, BUFFER_SIZE);
+        ObjectWriter ndjsonWriter = objectMapper.writerFor(Customer.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long rows = 0;
+        long reportedRows = 0;
+        long reportedBytes = 0;
+        try {
+            try (Stream<Customer> customers = customerRepository.streamAll();
+                 SequenceWriter writer = ndjsonWriter.writeValues(target)) {
+                Iterator<Customer> iterator = customers.iterator();
+                while (iterator.hasNext()) {
+                    Customer customer = iterator.next();
+                    writer.write(customer);
+                    entityManager.detach(customer);
+                    if (++rows % PROGRESS_INTERVAL == 0) {
+                        exportMetrics.rowsWritten(rows - reportedRows);
+                        exportMetrics.bytesWritten(counted.getCount() - reportedBytes);
+                        reportedRows = rows;
+                        reportedBytes = counted.getCount();
+                    }
+                }
+            }
+            if (rows > 0) {
+                target.write('\n');
+            }
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            target.flush();
+        } catch (IOException | RuntimeException ex) {
+            exportMetrics.exportFailed();
+            logger.error("Customer export failed after {} rows: {}", rows, ex.getMessage());
+            throw ex;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        exportMetrics.rowsWritten(rows - reportedRows);
+        exportMetrics.bytesWritten(counted.getCount() - reportedBytes);
+        exportMetrics.exportFinished(rows, counted.getCount(), elapsedNanos);
+        logger.info("Customer export finished: rows={}, bytes={}, elapsedMs={}", rows, counted.getCount(), elapsedNanos / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Counts bytes actually handed to the response, i.e. after compression.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
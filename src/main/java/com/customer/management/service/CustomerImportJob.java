@@ -0,0 +1,122 @@
+package com.customer.management.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.customer.management.dto.ImportJobStatus;
+import com.customer.management.dto.ImportRejection;
+import com.customer.management.dto.JobState;
+
+/**
+ * Mutable, thread-safe progress of one import. Updated concurrently by the pipeline stages and
+ * read through {@link #snapshot()}.
+ */
+public class CustomerImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final String source;
+    private final Instant createdAt = Instant.now();
+    private final int maxRejections;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsValid = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong chunksCommitted = new AtomicLong();
+    private final List<ImportRejection> rejections = new ArrayList<>();
+
+    private volatile JobState state = JobState.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    CustomerImportJob(String source, int maxRejections) {
+        this.source = source;
+        this.maxRejections = maxRejections;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public JobState getState() {
+        return state;
+    }
+
+    public boolean isFinished() {
+        return state == JobState.COMPLETED || state == JobState.FAILED;
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        state = JobState.RUNNING;
+    }
+
+    void completed() {
+        finishedAt = Instant.now();
+        state = JobState.COMPLETED;
+    }
+
+    synchronized void failed(String message) {
+        if (state == JobState.FAILED) {
+            // Keep the first failure; later ones are usually consequences of the abort
+            return;
+        }
+        error = message;
+        finishedAt = Instant.now();
+        state = JobState.FAILED;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void rowValid() {
+        rowsValid.incrementAndGet();
+    }
+
+    void rowsImported(int count) {
+        rowsImported.addAndGet(count);
+    }
+
+    void chunkCommitted() {
+        chunksCommitted.incrementAndGet();
+    }
+
+    void reject(long lineNumber, List<String> errors) {
+        rowsRejected.incrementAndGet();
+        synchronized (rejections) {
+            // The count stays exact; only the detailed report is bounded
+            if (rejections.size() < maxRejections) {
+                rejections.add(new ImportRejection(lineNumber, errors));
+            }
+        }
+    }
+
+    public List<ImportRejection> getRejections() {
+        synchronized (rejections) {
+            return new ArrayList<>(rejections);
+        }
+    }
+
+    public ImportJobStatus snapshot() {
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long imported = rowsImported.get();
+        double rowsPerSecond = 0d;
+        if (start != null) {
+            long elapsedMillis = Math.max(1, Duration.between(start, end).toMillis());
+            rowsPerSecond = imported * 1000d / elapsedMillis;
+        }
+        return new ImportJobStatus(id, state, source, rowsRead.get(), rowsValid.get(), imported, rowsRejected.get(),
+                chunksCommitted.get(), rowsPerSecond, createdAt, startedAt, finishedAt, error);
+    }
+}
@@ -0,0 +1,339 @@
+package com.customer.management.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.customer.management.dto.JobState;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.repository.CustomerRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk CSV import. Each job runs a three-stage pipeline connected by bounded queues, so a slow
+ * stage blocks the one before it and memory stays bounded regardless of file size:
+ * <ol>
+ * <li>a reader parses the file line by line,</li>
+ * <li>a pool of workers runs Bean Validation on the parsed rows,</li>
+ * <li>a writer inserts valid rows in fixed-size chunks, one transaction per chunk.</li>
+ * </ol>
+ * If a chunk fails in the database its rows are retried one by one so only the offending rows
+ * are rejected. At most {@code customer.import.max-concurrent-jobs} jobs run at a time; later
+ * jobs stay {@link JobState#QUEUED} until one finishes, so the thread count is fixed.
+ */
+@Service
+public class CustomerImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerImportService.class);
+
+    private static final ImportRow END_OF_INPUT = new ImportRow(-1, null);
+    private static final long QUEUE_POLL_MILLIS = 100;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${customer.import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${customer.import.validation-workers:4}")
+    private int validationWorkers = 4;
+
+    @Value("${customer.import.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${customer.import.max-rejections-reported:10000}")
+    private int maxRejectionsReported = 10000;
+
+    @Value("${customer.import.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs = 2;
+
+    @Value("${customer.import.max-retained-jobs:100}")
+    private int maxRetainedJobs = 100;
+
+    @Value("${customer.import.local-directory:}")
+    private String localDirectory = "";
+
+    private final Map<UUID, CustomerImportJob> jobs = new ConcurrentHashMap<>();
+    // At most maxConcurrentJobs jobs run at once, each reading on a job thread and using
+    // validationWorkers + 1 stage threads; further jobs wait in the job executor's queue
+    private ExecutorService jobExecutor;
+    private ExecutorService stageExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jobExecutor = Executors.newFixedThreadPool(maxConcurrentJobs, new CustomizableThreadFactory("customer-import-job-"));
+        stageExecutor = Executors.newFixedThreadPool(maxConcurrentJobs * (validationWorkers + 1),
+                new CustomizableThreadFactory("customer-import-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        stageExecutor.shutdownNow();
+    }
+
+    public CustomerImportJob importUpload(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Uploaded CSV file is empty.");
+        }
+        // The request body is gone once the request completes, so spool it for the background job
+        Path spooled = Files.createTempFile("customer-import-", ".csv");
+        file.transferTo(spooled);
+        String source = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload";
+        return submit(source, spooled, true);
+    }
+
+    public CustomerImportJob importLocalFile(String relativePath) {
+        if (localDirectory == null || localDirectory.isBlank()) {
+            throw new IllegalArgumentException("Local file imports are disabled; set customer.import.local-directory.");
+        }
+        Path baseDirectory = Paths.get(localDirectory).toAbsolutePath().normalize();
+        Path file = baseDirectory.resolve(relativePath).normalize();
+        if (!file.startsWith(baseDirectory)) {
+            throw new IllegalArgumentException("File must be inside the configured import directory.");
+        }
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new IllegalArgumentException("File not found or not readable: " + relativePath);
+        }
+        return submit(relativePath, file, false);
+    }
+
+    public Optional<CustomerImportJob> getJob(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private CustomerImportJob submit(String source, Path file, boolean deleteWhenDone) {
+        evictFinishedJobs();
+        CustomerImportJob job = new CustomerImportJob(source, maxRejectionsReported);
+        jobs.put(job.getId(), job);
+        logger.info("Queued customer import job {} for source {}", job.getId(), source);
+        jobExecutor.submit(() -> run(job, file, deleteWhenDone));
+        return job;
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < maxRetainedJobs) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(CustomerImportJob::isFinished)
+                .sorted(Comparator.comparing(CustomerImportJob::getCreatedAt))
+                .limit(jobs.size() - maxRetainedJobs + 1L)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    private void run(CustomerImportJob job, Path file, boolean deleteWhenDone) {
+        job.started();
+        logger.info("Customer import job {} started.", job.getId());
+
+        BlockingQueue<ImportRow> parsedRows = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<ImportRow> validRows = new ArrayBlockingQueue<>(queueCapacity);
+        List<Future<?>> stages = new ArrayList<>();
+        try {
+            AtomicInteger runningValidators = new AtomicInteger(validationWorkers);
+            for (int i = 0; i < validationWorkers; i++) {
+                stages.add(stageExecutor.submit(() -> stage(job, () -> {
+                    validate(job, parsedRows, validRows);
+                    if (runningValidators.decrementAndGet() == 0) {
+                        put(job, validRows, END_OF_INPUT);
+                    }
+                })));
+            }
+            stages.add(stageExecutor.submit(() -> stage(job, () -> write(job, validRows))));
+
+            read(job, file, parsedRows);
+            for (int i = 0; i < validationWorkers; i++) {
+                put(job, parsedRows, END_OF_INPUT);
+            }
+            for (Future<?> stage : stages) {
+                stage.get();
+            }
+            job.completed();
+            logger.info("Customer import job {} completed: {}", job.getId(), job.snapshot());
+        } catch (Exception ex) {
+            stages.forEach(stage -> stage.cancel(true));
+            String message = ex.getCause() != null && ex.getCause() != ex ? ex.getCause().getMessage() : ex.getMessage();
+            job.failed(message);
+            logger.error("Customer import job {} failed: {}", job.getId(), message);
+        } finally {
+            if (deleteWhenDone) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ex) {
+                    logger.warn("Could not delete spooled import file {}: {}", file, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void read(CustomerImportJob job, Path file, BlockingQueue<ImportRow> parsedRows) throws IOException, InterruptedException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CustomerCsvParser parser = new CustomerCsvParser(reader.readLine());
+            long lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                job.rowRead();
+                try {
+                    put(job, parsedRows, new ImportRow(lineNumber, parser.parse(line)));
+                } catch (IllegalArgumentException ex) {
+                    job.reject(lineNumber, Collections.singletonList(ex.getMessage()));
+                }
+            }
+        }
+    }
+
+    private void validate(CustomerImportJob job, BlockingQueue<ImportRow> parsedRows, BlockingQueue<ImportRow> validRows) throws InterruptedException {
+        while (true) {
+            ImportRow row = parsedRows.take();
+            if (row == END_OF_INPUT) {
+                return;
+            }
+            List<String> errors = new ArrayList<>();
+            for (ConstraintViolation<Customer> violation : validator.validate(row.customer())) {
+                errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            if (errors.isEmpty()) {
+                job.rowValid();
+                put(job, validRows, row);
+            } else {
+                job.reject(row.lineNumber(), errors);
+            }
+        }
+    }
+
+    private void write(CustomerImportJob job, BlockingQueue<ImportRow> validRows) throws InterruptedException {
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        while (true) {
+            ImportRow row = validRows.take();
+            if (row == END_OF_INPUT) {
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writeChunk(job, chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(job, chunk);
+        }
+    }
+
+    private void writeChunk(CustomerImportJob job, List<ImportRow> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Customer> saved = customerRepository.saveAll(customers(chunk));
+                customerRepository.flush();
+                saved.forEach(customer -> eventPublisher.publishEvent(CustomerChangedEvent.created(customer)));
+            });
+            job.rowsImported(chunk.size());
+        } catch (DataAccessException ex) {
+            logger.warn("Import job {}: chunk of {} rows failed ({}), retrying rows individually.",
+                    job.getId(), chunk.size(), ex.getMostSpecificCause().getMessage());
+            for (ImportRow row : chunk) {
+                row.customer().setId(null);
+                row.customer().setVersion(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(
+                            CustomerChangedEvent.created(customerRepository.saveAndFlush(row.customer()))));
+                    job.rowsImported(1);
+                } catch (DataAccessException rowEx) {
+                    job.reject(row.lineNumber(), Collections.singletonList("Rejected by database: " + rowEx.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+        job.chunkCommitted();
+    }
+
+    private static List<Customer> customers(Collection<ImportRow> rows) {
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            customers.add(row.customer());
+        }
+        return customers;
+    }
+
+    /**
+     * Runs a pipeline stage, failing the whole job if the stage fails so that the other stages
+     * stop instead of blocking on a queue nobody drains any more.
+     */
+    private static Void stage(CustomerImportJob job, PipelineStage body) throws Exception {
+        try {
+            body.run();
+            return null;
+        } catch (Exception ex) {
+            job.failed(ex.getMessage());
+            throw ex;
+        }
+    }
+
+    /**
+     * Blocking put that gives the producing stage backpressure, but gives up once the job failed.
+     */
+    private static void put(CustomerImportJob job, BlockingQueue<ImportRow> queue, ImportRow row) throws InterruptedException {
+        while (!queue.offer(row, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (job.getState() == JobState.FAILED) {
+                throw new IllegalStateException("Import aborted.");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface PipelineStage {
+        void run() throws Exception;
+    }
+
+    private record ImportRow(long lineNumber, Customer customer) {
+    }
+}
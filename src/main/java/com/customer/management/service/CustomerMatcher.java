@@ -0,0 +1,203 @@
+package com.customer.management.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import com.customer.management.dto.CustomerMatchFields;
+
+/**
+ * Blocking keys and pairwise scoring for duplicate detection.
+ * <p>
+ * Blocking puts every customer into at most {@value #KEY_TYPES} blocks, one per key type, and
+ * only customers sharing a block are ever compared. The key types are ordered; a pair that
+ * shares several keys is compared only in the block of its lowest shared key type.
+ */
+public final class CustomerMatcher {
+
+    public static final int KEY_TYPES = 3;
+    public static final int EMAIL_KEY = 0;
+    public static final int PHONE_KEY = 1;
+    public static final int NAME_KEY = 2;
+
+    private static final int PHONE_SUFFIX_LENGTH = 7;
+    private static final int MIN_LOCAL_PART_LENGTH = 3;
+
+    private static final double SAME_EMAIL = 0.6;
+    private static final double SAME_EMAIL_LOCAL_PART = 0.35;
+    private static final double SAME_PHONE = 0.4;
+    private static final double SAME_PHONE_SUFFIX = 0.2;
+    private static final double SAME_LAST_NAME = 0.2;
+    private static final double SIMILAR_LAST_NAME = 0.1;
+    private static final double SAME_FIRST_NAME = 0.15;
+    private static final double SIMILAR_FIRST_NAME = 0.1;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+
+    // Soundex digit for 'a'..'z'; '0' marks letters that are not coded
+    private static final String SOUNDEX_CODES = "01230120022455012623010202";
+
+    private CustomerMatcher() {
+    }
+
+    /**
+     * Returns the blocking keys of a customer indexed by key type; absent keys are {@code null}.
+     * Keys are prefixed with their type so keys of different types never collide.
+     */
+    public static String[] blockingKeys(CustomerMatchFields customer) {
+        String[] keys = new String[KEY_TYPES];
+        String localPart = emailLocalPart(customer.emailAddress());
+        if (localPart != null && localPart.length() >= MIN_LOCAL_PART_LENGTH) {
+            keys[EMAIL_KEY] = "e:" + localPart;
+        }
+        String phone = phoneDigits(customer.phoneNumber());
+        if (phone != null && phone.length() >= PHONE_SUFFIX_LENGTH) {
+            keys[PHONE_KEY] = "p:" + phone.substring(phone.length() - PHONE_SUFFIX_LENGTH);
+        }
+        String lastName = soundex(customer.lastName());
+        String firstName = normalizeName(customer.firstName());
+        if (lastName != null && !firstName.isEmpty()) {
+            keys[NAME_KEY] = "n:" + lastName + firstName.charAt(0);
+        }
+        return keys;
+    }
+
+    /**
+     * Scores how likely two customers are the same person, from 0 (nothing in common) to 1.
+     */
+    public static double score(CustomerMatchFields a, CustomerMatchFields b) {
+        double score = 0;
+
+        String emailA = CustomerContactIndex.normalizeEmail(a.emailAddress());
+        String emailB = CustomerContactIndex.normalizeEmail(b.emailAddress());
+        if (emailA != null && emailA.equals(emailB)) {
+            score += SAME_EMAIL;
+        } else {
+            String localPartA = emailLocalPart(a.emailAddress());
+            if (localPartA != null && localPartA.length() >= MIN_LOCAL_PART_LENGTH
+                    && localPartA.equals(emailLocalPart(b.emailAddress()))) {
+                score += SAME_EMAIL_LOCAL_PART;
+            }
+        }
+
+        String phoneA = phoneDigits(a.phoneNumber());
+        String phoneB = phoneDigits(b.phoneNumber());
+        if (phoneA != null && phoneA.equals(phoneB)) {
+            score += SAME_PHONE;
+        } else if (phoneA != null && phoneB != null && phoneA.length() >= PHONE_SUFFIX_LENGTH
+                && phoneB.length() >= PHONE_SUFFIX_LENGTH
+                && phoneA.regionMatches(phoneA.length() - PHONE_SUFFIX_LENGTH, phoneB,
+                        phoneB.length() - PHONE_SUFFIX_LENGTH, PHONE_SUFFIX_LENGTH)) {
+            score += SAME_PHONE_SUFFIX;
+        }
+
+        String lastNameA = normalizeName(a.lastName());
+        String lastNameB = normalizeName(b.lastName());
+        if (!lastNameA.isEmpty() && lastNameA.equals(lastNameB)) {
+            score += SAME_LAST_NAME;
+        } else if (soundex(lastNameA) != null && soundex(lastNameA).equals(soundex(lastNameB))) {
+            score += SIMILAR_LAST_NAME;
+        }
+
+        String firstNameA = normalizeName(a.firstName());
+        String firstNameB = normalizeName(b.firstName());
+        if (!firstNameA.isEmpty() && firstNameA.equals(firstNameB)) {
+            score += SAME_FIRST_NAME;
+        } else if (isNickname(firstNameA, firstNameB)
+                || (soundex(firstNameA) != null && soundex(firstNameA).equals(soundex(firstNameB)))) {
+            score += SIMILAR_FIRST_NAME;
+        }
+
+        return Math.min(1d, score);
+    }
+
+    /**
+     * Short forms such as "Jon"/"Jonathan" or "Liz"/"Elizabeth" are not detected in general; a
+     * name that is a prefix of the other (of at least 3 letters) is.
+     */
+    private static boolean isNickname(String a, String b) {
+        if (a.length() < 3 || b.length() < 3) {
+            return false;
+        }
+        return a.length() < b.length() ? b.startsWith(a) : a.startsWith(b);
+    }
+
+    /**
+     * Lower-cased local part with dots and any {@code +tag} removed, e.g. "John.Doe+shop" becomes
+     * "johndoe".
+     */
+    static String emailLocalPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        String normalized = CustomerContactIndex.normalizeEmail(email);
+        int at = normalized.indexOf('@');
+        String localPart = at < 0 ? normalized : normalized.substring(0, at);
+        int tag = localPart.indexOf('+');
+        if (tag >= 0) {
+            localPart = localPart.substring(0, tag);
+        }
+        return localPart.replace(".", "");
+    }
+
+    /**
+     * Digits only, so "+49 151 ..." and "049151..." compare by their trailing digits.
+     */
+    static String phoneDigits(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.length() == 0 ? null : digits.toString();
+    }
+
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String withoutMarks = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_LETTERS.matcher(withoutMarks).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * American Soundex of the ASCII letters of {@code name}, e.g. "Robert" and "Rupert" are both
+     * R163. Returns {@code null} when there is no ASCII letter.
+     */
+    public static String soundex(String name) {
+        if (name == null) {
+            return null;
+        }
+        StringBuilder code = new StringBuilder(4);
+        char previous = 0;
+        for (int i = 0; i < name.length() && code.length() < 4; i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char digit = SOUNDEX_CODES.charAt(c - 'a');
+            if (code.length() == 0) {
+                code.append(Character.toUpperCase(c));
+            } else if (digit != '0' && digit != previous) {
+                code.append(digit);
+            }
+            // 'h' and 'w' do not separate letters with the same code; vowels do
+            if (c != 'h' && c != 'w') {
+                previous = digit;
+            }
+        }
+        if (code.length() == 0) {
+            return null;
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+}
@@ -0,0 +1,256 @@
+package com.customer.management.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.customer.management.dto.CustomerName;
+import com.customer.management.dto.NameIndexStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.event.CustomerInvalidationEvent;
+import com.customer.management.repository.CustomerRepository;
+
+/**
+ * In-memory prefix index over customers' first and last names for typeahead search. Names are
+ * split into tokens, normalized (lower case, accents removed) and stored in a {@link NameTrie}.
+ * <p>
+ * The index is loaded by a streaming scan once the application is ready and then maintained
+ * from committed {@link CustomerChangedEvent}s and from {@link CustomerInvalidationEvent}s for
+ * rows changed by other replicas. Searches take a shared read lock, writes an exclusive one.
+ */
+@Component
+public class CustomerNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerNameIndex.class);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final String[] NO_TOKENS = new String[0];
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${customer.name-index.enabled:true}")
+    private boolean enabled = true;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NameTrie trie = new NameTrie();
+    private final Map<UUID, String[]> tokensById = new HashMap<>();
+    private final Set<UUID> removedWhileLoading = new HashSet<>();
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong searchNanos = new AtomicLong();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long count = new TransactionTemplate(transactionManager).execute(status -> {
+            long rows = 0;
+            try (Stream<CustomerName> names = customerRepository.streamNames()) {
+                for (CustomerName name : (Iterable<CustomerName>) names::iterator) {
+                    lock.writeLock().lock();
+                    try {
+                        // Changes applied while loading, deletes included, are newer than the streamed row
+                        if (!tokensById.containsKey(name.id()) && !removedWhileLoading.contains(name.id())) {
+                            index(name.id(), tokenize(name.firstName(), name.lastName()));
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    rows++;
+                }
+            }
+            return rows;
+        });
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            removedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Customer name index loaded {} customers ({} trie nodes) in {} ms.", count, trie.nodeCount(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Returns up to {@code limit} ids of customers that have, for every query term, a name token
+     * starting with that term. Customers whose token equals a term, or is a shorter completion of
+     * it, are returned first.
+     */
+    public List<UUID> search(String query, int limit) {
+        long startNanos = System.nanoTime();
+        String[] terms = tokenize(query);
+        if (terms.length == 0) {
+            return List.of();
+        }
+        Set<UUID> results = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            // Walk the trie for the most selective term and filter its matches by the others
+            int driver = 0;
+            if (terms.length > 1) {
+                int smallest = Integer.MAX_VALUE;
+                for (int i = 0; i < terms.length; i++) {
+                    int count = trie.count(terms[i]);
+                    if (count < smallest) {
+                        smallest = count;
+                        driver = i;
+                    }
+                }
+            }
+            int driverIndex = driver;
+            Predicate<UUID> matchesOtherTerms = id -> {
+                String[] tokens = tokensById.get(id);
+                for (int i = 0; i < terms.length; i++) {
+                    if (i != driverIndex && !anyStartsWith(tokens, terms[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+            trie.collect(terms[driver], limit, terms.length == 1 ? id -> true : matchesOtherTerms, results);
+        } finally {
+            lock.readLock().unlock();
+        }
+        searches.incrementAndGet();
+        searchNanos.addAndGet(System.nanoTime() - startNanos);
+        return new ArrayList<>(results);
+    }
+
+    private static boolean anyStartsWith(String[] tokens, String prefix) {
+        if (tokens != null) {
+            for (String token : tokens) {
+                if (token.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits names into distinct normalized tokens: lower case, accents removed, separated at
+     * anything that is not a letter or digit.
+     */
+    public static String[] tokenize(String... names) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("")
+                    .toLowerCase(Locale.ROOT);
+            for (String token : TOKEN_SEPARATORS.split(normalized)) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens.isEmpty() ? NO_TOKENS : tokens.toArray(NO_TOKENS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Customer customer = event.customer();
+        update(event.customerId(), customer == null ? null : tokenize(customer.getFirstName(), customer.getLastName()));
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CustomerInvalidationEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> missing = new HashSet<>(event.customerIds());
+        for (Customer customer : customerRepository.findAllById(event.customerIds())) {
+            missing.remove(customer.getId());
+            update(customer.getId(), tokenize(customer.getFirstName(), customer.getLastName()));
+        }
+        missing.forEach(id -> update(id, null));
+    }
+
+    /**
+     * Replaces the tokens indexed for {@code id}; {@code null} removes the customer.
+     */
+    void update(UUID id, String[] tokens) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = tokensById.remove(id);
+            if (previous != null) {
+                for (String token : previous) {
+                    trie.remove(token, id);
+                }
+            }
+            if (tokens != null) {
+                index(id, tokens);
+            } else if (!ready) {
+                // The startup scan may still return this row
+                removedWhileLoading.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(UUID id, String[] tokens) {
+        tokensById.put(id, tokens);
+        for (String token : tokens) {
+            trie.add(token, id);
+        }
+    }
+
+    public NameIndexStats stats() {
+        long customerCount;
+        long nodeCount;
+        lock.readLock().lock();
+        try {
+            customerCount = tokensById.size();
+            nodeCount = trie.nodeCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+        long searchCount = searches.get();
+        return new NameIndexStats(enabled, ready, customerCount, nodeCount, searchCount,
+                searchCount == 0 ? 0 : searchNanos.get() / 1_000d / searchCount);
+    }
+}
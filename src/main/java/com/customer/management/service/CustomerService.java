@@ -3,75 +3,512 @@ package com.customer.management.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.customer.management.dto.CustomerField;
+import com.customer.management.dto.CustomerFields;
+import com.customer.management.dto.CustomerFieldsPage;
+import com.customer.management.dto.CustomerPage;
+import com.customer.management.dto.CustomerSortOrder;
 import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.exception.PreconditionFailedException;
 import com.customer.management.exception.ResourceNotFoundException;
 import com.customer.management.repository.CustomerRepository;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
+@Timed(value = "customer.service", description = "CustomerService method latency", histogram = true)
 public class CustomerService {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomerService.class);
 
+    private static final Set<String> PATCHABLE_ATTRIBUTES =
+            Set.of("firstName", "middleName", "lastName", "emailAddress", "phoneNumber");
+
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private CustomerCache customerCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CustomerContactIndex contactIndex;
+
+    @Autowired
+    private CustomerNameIndex nameIndex;
+
+    @Autowired
+    private CustomerColumnStore columnStore;
+
+    @Value("${customer.listing.max-results:1000}")
+    private int maxListingResults = 1000;
+
+    @Value("${customer.pagination.default-limit:50}")
+    private int defaultPageLimit = 50;
+
+    @Value("${customer.pagination.max-limit:500}")
+    private int maxPageLimit = 500;
+
+    @Value("${customer.search.default-limit:10}")
+    private int defaultSearchLimit = 10;
+
+    @Value("${customer.search.max-limit:100}")
+    private int maxSearchLimit = 100;
+
+    @Transactional
     public Customer createCustomer(Customer customer) {
-        logger.info("Attempting to create a new customer with details: {}", customer);
+        logger.debug("Attempting to create a new customer.");
 
         if (customer.getFirstName() == null || customer.getLastName() == null) {
-            logger.error("Customer creation failed due to missing required fields: {}", customer);
+            logger.error("Customer creation failed due to missing first or last name.");
             throw new IllegalArgumentException("First name and last name are required.");
         }
 
+        contactIndex.checkEmailAvailable(customer.getEmailAddress(), null);
         Customer savedCustomer = customerRepository.save(customer);
-        logger.info("Customer created successfully with ID: {}", savedCustomer.getId());
+        eventPublisher.publishEvent(CustomerChangedEvent.created(savedCustomer));
+        logger.debug("Customer created successfully with ID: {}", savedCustomer.getId());
         return savedCustomer;
     }
 
+    /**
+     * Legacy unpaged listing, capped at {@code customer.listing.max-results} rows ordered by id.
+     * Use {@link #getCustomerPage(Integer, String, CustomerSortOrder)} to walk the full table.
+     */
     public List<Customer> getAllCustomers() {
-        logger.info("Fetching all customers.");
-        List<Customer> customers = customerRepository.findAll();
-        logger.info("Retrieved {} customers from the database.", customers.size());
+        logger.debug("Fetching all customers (capped at {}).", maxListingResults);
+        if (columnStore.isReady()) {
+            return columnStore.firstById(maxListingResults);
+        }
+        List<Customer> customers = customerRepository.findAllByOrderByIdAsc(PageRequest.of(0, maxListingResults));
+        logger.debug("Retrieved {} customers from the database.", customers.size());
         return customers;
     }
 
+    /**
+     * Returns one page of customers using keyset pagination: the cursor holds the sort key of
+     * the previous page's last row, so every page is a bounded index range scan regardless of
+     * how deep into the table it is. Served from {@link CustomerColumnStore} once it is loaded.
+     */
+    public CustomerPage getCustomerPage(Integer limit, String after, CustomerSortOrder sortOrder) {
+        int pageSize = resolvePageLimit(limit);
+        logger.debug("Fetching customer page: limit={}, sort={}, hasCursor={}", pageSize, sortOrder, after != null);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Customer> rows;
+        if (columnStore.isReady()) {
+            rows = pageFromColumnStore(pageSize + 1, after, sortOrder);
+        } else if (after == null || after.isBlank()) {
+            rows = sortOrder == CustomerSortOrder.NAME
+                    ? customerRepository.findFirstPageOrderByName(pageable)
+                    : customerRepository.findAllByOrderByIdAsc(pageable);
+        } else {
+            CustomerCursor cursor = CustomerCursor.decode(after, sortOrder);
+            rows = sortOrder == CustomerSortOrder.NAME
+                    ? customerRepository.findNextPageOrderByName(cursor.getLastName(), cursor.getFirstName(), cursor.getId(), pageable)
+                    : customerRepository.findByIdGreaterThanOrderByIdAsc(cursor.getId(), pageable);
+        }
+
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            next = CustomerCursor.after(rows.get(pageSize - 1), sortOrder).encode();
+        }
+        return new CustomerPage(rows, next);
+    }
+
+    /**
+     * {@link #getAllCustomers()} limited to the selected fields. Without the column store the
+     * rows come from a projection that reads only those columns.
+     */
+    public List<Map<String, Object>> getAllCustomerFields(Set<CustomerField> fields) {
+        logger.debug("Fetching fields {} of all customers (capped at {}).", fields, maxListingResults);
+        if (columnStore.isReady()) {
+            return project(columnStore.firstById(maxListingResults), fields);
+        }
+        return customerRepository.findFieldsOrderById(fields, null, maxListingResults);
+    }
+
+    /**
+     * {@link #getCustomerPage} limited to the selected fields. The sort key columns are read as
+     * well, to build the cursor, and dropped from the items unless selected.
+     */
+    public CustomerFieldsPage getCustomerFieldsPage(Integer limit, String after, CustomerSortOrder sortOrder,
+                                                    Set<CustomerField> fields) {
+        int pageSize = resolvePageLimit(limit);
+        logger.debug("Fetching customer fields page: limit={}, sort={}, fields={}, hasCursor={}", pageSize, sortOrder,
+                fields, after != null);
+
+        Set<CustomerField> selected = EnumSet.copyOf(fields);
+        selected.add(CustomerField.ID);
+        if (sortOrder == CustomerSortOrder.NAME) {
+            selected.add(CustomerField.LAST_NAME);
+            selected.add(CustomerField.FIRST_NAME);
+        }
+        CustomerCursor cursor = after == null || after.isBlank() ? null : CustomerCursor.decode(after, sortOrder);
+        List<Map<String, Object>> rows;
+        if (columnStore.isReady()) {
+            rows = project(pageFromColumnStore(pageSize + 1, after, sortOrder), selected);
+        } else if (sortOrder == CustomerSortOrder.NAME) {
+            rows = cursor == null
+                    ? customerRepository.findFieldsOrderByName(selected, null, null, null, pageSize + 1)
+                    : customerRepository.findFieldsOrderByName(selected, cursor.getLastName(), cursor.getFirstName(),
+                            cursor.getId(), pageSize + 1);
+        } else {
+            rows = customerRepository.findFieldsOrderById(selected, cursor == null ? null : cursor.getId(), pageSize + 1);
+        }
+
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Map<String, Object> last = rows.get(pageSize - 1);
+            next = CustomerCursor.after((UUID) last.get("id"), (String) last.get("lastName"),
+                    (String) last.get("firstName"), sortOrder).encode();
+        }
+        if (selected.size() > fields.size()) {
+            Set<String> attributes = attributes(fields);
+            rows.forEach(row -> row.keySet().retainAll(attributes));
+        }
+        return new CustomerFieldsPage(rows, next);
+    }
+
+    private List<Customer> pageFromColumnStore(int limit, String after, CustomerSortOrder sortOrder) {
+        if (after == null || after.isBlank()) {
+            return sortOrder == CustomerSortOrder.NAME ? columnStore.firstByName(limit) : columnStore.firstById(limit);
+        }
+        CustomerCursor cursor = CustomerCursor.decode(after, sortOrder);
+        return sortOrder == CustomerSortOrder.NAME
+                ? columnStore.afterName(cursor.getLastName(), cursor.getFirstName(), cursor.getId(), limit)
+                : columnStore.afterId(cursor.getId(), limit);
+    }
+
+    private int resolvePageLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageLimit;
+        }
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + maxPageLimit + ".");
+        }
+        return limit;
+    }
+
+    /**
+     * The selected fields of a customer, plus its version for the ETag. Served from the column
+     * store or the cache when they hold the customer; otherwise read with a projection that
+     * selects only those columns and the version, without loading the entity.
+     */
+    public CustomerFields getCustomerFields(UUID id, Set<CustomerField> fields) {
+        logger.debug("Fetching fields {} of customer with ID: {}", fields, id);
+
+        Set<CustomerField> selected = EnumSet.copyOf(fields);
+        selected.add(CustomerField.VERSION);
+        Customer customer = columnStore.isReady() ? columnStore.get(id) : null;
+        if (customer == null) {
+            customer = customerCache.getIfPresent(id);
+        }
+        Map<String, Object> values = customer != null
+                ? CustomerField.project(customer, selected)
+                : customerRepository.findFieldsById(id, selected).orElseThrow(() -> notFound(id));
+        Long version = (Long) (fields.contains(CustomerField.VERSION)
+                ? values.get(CustomerField.VERSION.getAttribute())
+                : values.remove(CustomerField.VERSION.getAttribute()));
+        return new CustomerFields(version, values);
+    }
+
+    private static List<Map<String, Object>> project(List<Customer> customers, Set<CustomerField> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            rows.add(CustomerField.project(customer, fields));
+        }
+        return rows;
+    }
+
+    private static Set<String> attributes(Set<CustomerField> fields) {
+        Set<String> attributes = new HashSet<>();
+        for (CustomerField field : fields) {
+            attributes.add(field.getAttribute());
+        }
+        return attributes;
+    }
+
+    /**
+     * Read-through lookup: served from {@link CustomerColumnStore} or {@link CustomerCache} when
+     * possible, falling back to the repository on a miss in either. The returned instance may be
+     * shared with other callers and must not be modified.
+     */
     public Customer getCustomerById(UUID id) {
-        logger.info("Fetching customer with ID: {}", id);
+        logger.debug("Fetching customer with ID: {}", id);
 
-        return customerRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("Customer not found with ID: {}", id);
-                    return new ResourceNotFoundException("Customer not found with ID: " + id);
-                });
+        if (columnStore.isReady()) {
+            Customer replicated = columnStore.get(id);
+            if (replicated != null) {
+                return replicated;
+            }
+        }
+        Customer customer = customerCache.get(id, key -> customerRepository.findById(key).orElse(null));
+        if (customer == null) {
+            throw notFound(id);
+        }
+        return customer;
+    }
+
+    /**
+     * Finds a customer by email address. The in-memory contact index resolves the id, which is
+     * then read through the cache; on an index miss the email index in the database is used.
+     */
+    public Customer getCustomerByEmail(String email) {
+        logger.debug("Fetching customer by email address.");
+
+        UUID id = contactIndex.findByEmail(email);
+        if (id != null) {
+            Customer customer = customerCache.get(id, key -> customerRepository.findById(key).orElse(null));
+            if (customer != null && CustomerContactIndex.normalizeEmail(email).equals(
+                    CustomerContactIndex.normalizeEmail(customer.getEmailAddress()))) {
+                return customer;
+            }
+        }
+        return customerRepository.findByEmailAddressIgnoreCase(email.trim())
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with the given email address."));
     }
 
+    /**
+     * Finds the customers sharing a phone number, resolved like {@link #getCustomerByEmail(String)}.
+     */
+    public List<Customer> getCustomersByPhone(String phone) {
+        logger.debug("Fetching customers by phone number.");
+
+        String normalized = CustomerContactIndex.normalizePhone(phone);
+        Set<UUID> ids = contactIndex.findByPhone(phone);
+        if (!ids.isEmpty()) {
+            List<Customer> customers = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                Customer customer = customerCache.get(id, key -> customerRepository.findById(key).orElse(null));
+                if (customer != null && normalized.equals(CustomerContactIndex.normalizePhone(customer.getPhoneNumber()))) {
+                    customers.add(customer);
+                }
+            }
+            if (!customers.isEmpty()) {
+                return customers;
+            }
+        }
+        return customerRepository.findByPhoneNumber(normalized);
+    }
+
+    /**
+     * Typeahead search by first and last name: every term of {@code query} must be a prefix of
+     * one of the customer's names. Served from the in-memory name index; while it is loading the
+     * first term is matched with a SQL LIKE instead.
+     */
+    public List<Customer> searchCustomersByName(String query, Integer limit) {
+        int maxResults = limit == null ? defaultSearchLimit : limit;
+        if (maxResults < 1 || maxResults > maxSearchLimit) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + maxSearchLimit + ".");
+        }
+        if (!nameIndex.isReady()) {
+            String[] terms = CustomerNameIndex.tokenize(query);
+            return terms.length == 0 ? List.of()
+                    : customerRepository.findByNameLike(terms[0] + "%", PageRequest.of(0, maxResults));
+        }
+
+        List<UUID> ids = nameIndex.search(query, maxResults);
+        Map<UUID, Customer> customers = new LinkedHashMap<>();
+        List<UUID> uncached = new ArrayList<>();
+        for (UUID id : ids) {
+            Customer cached = customerCache.getIfPresent(id);
+            customers.put(id, cached);
+            if (cached == null) {
+                uncached.add(id);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            // One query for everything the cache could not answer
+            for (Customer customer : customerRepository.findAllById(uncached)) {
+                customers.put(customer.getId(), customer);
+            }
+        }
+        List<Customer> results = new ArrayList<>(customers.size());
+        for (Customer customer : customers.values()) {
+            if (customer != null) {
+                results.add(customer);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the current version of a customer, used as its ETag. Answered from the cache when
+     * the customer is cached, otherwise with a single-column query instead of loading the row.
+     */
+    public Long getCustomerVersion(UUID id) {
+        Customer cached = customerCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return customerRepository.findVersionById(id).orElseThrow(() -> notFound(id));
+    }
+
+    @Transactional
     public Customer updateCustomer(UUID id, Customer updatedCustomer) {
-        logger.info("Attempting to update customer with ID: {}", id);
+        return updateCustomer(id, updatedCustomer, null);
+    }
 
-        Customer existingCustomer = getCustomerById(id);
-        logger.debug("Existing customer details: {}", existingCustomer);
+    /**
+     * Replaces a customer's fields with a single {@code UPDATE}. When {@code expectedVersion} is
+     * given it is {@code ... WHERE id = ? AND version = ?} and only succeeds if the stored row
+     * still has that version; otherwise {@code ... WHERE id = ?} and the last writer wins.
+     */
+    @Transactional
+    public Customer updateCustomer(UUID id, Customer updatedCustomer, Long expectedVersion) {
+        logger.debug("Attempting to update customer with ID: {}", id);
 
-        existingCustomer.setFirstName(updatedCustomer.getFirstName());
-        existingCustomer.setLastName(updatedCustomer.getLastName());
-        existingCustomer.setEmailAddress(updatedCustomer.getEmailAddress());
-        existingCustomer.setPhoneNumber(updatedCustomer.getPhoneNumber());
+        contactIndex.checkEmailAvailable(updatedCustomer.getEmailAddress(), id);
+        long newVersion;
+        if (expectedVersion == null) {
+            newVersion = customerRepository.updateById(id, updatedCustomer).orElseThrow(() -> notFound(id));
+        } else {
+            if (customerRepository.updateByIdAndVersion(id, expectedVersion, updatedCustomer) == 0) {
+                Long currentVersion = customerRepository.findVersionById(id).orElseThrow(() -> notFound(id));
+                throw versionMismatch(id, expectedVersion, currentVersion);
+            }
+            newVersion = expectedVersion + 1;
+        }
+
+        Customer savedCustomer = new Customer();
+        savedCustomer.setId(id);
+        savedCustomer.setVersion(newVersion);
+        savedCustomer.setFirstName(updatedCustomer.getFirstName());
+        savedCustomer.setMiddleName(updatedCustomer.getMiddleName());
+        savedCustomer.setLastName(updatedCustomer.getLastName());
+        savedCustomer.setEmailAddress(updatedCustomer.getEmailAddress());
+        savedCustomer.setPhoneNumber(updatedCustomer.getPhoneNumber());
 
-        Customer savedCustomer = customerRepository.save(existingCustomer);
-        logger.info("Customer with ID: {} updated successfully.", id);
+        eventPublisher.publishEvent(CustomerChangedEvent.updated(savedCustomer));
+        logger.debug("Customer with ID: {} updated successfully.", id);
         return savedCustomer;
     }
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7396). Only the supplied attributes are validated and only
+     * their columns appear in the generated {@code UPDATE}; {@code null} clears an attribute.
+     */
+    @Transactional
+    public Customer patchCustomer(UUID id, JsonNode patch, Long expectedVersion) {
+        logger.debug("Attempting to patch customer with ID: {}", id);
+
+        Map<String, Object> changes = toChanges(patch);
+        if (changes.isEmpty()) {
+            Customer customer = customerRepository.findById(id).orElseThrow(() -> notFound(id));
+            if (expectedVersion != null && !expectedVersion.equals(customer.getVersion())) {
+                throw versionMismatch(id, expectedVersion, customer.getVersion());
+            }
+            return customer;
+        }
+
+        if (changes.get("emailAddress") instanceof String email) {
+            contactIndex.checkEmailAvailable(email, id);
+        }
+        if (customerRepository.patchById(id, expectedVersion, changes) == 0) {
+            Long currentVersion = expectedVersion == null ? null : customerRepository.findVersionById(id).orElse(null);
+            if (currentVersion == null) {
+                throw notFound(id);
+            }
+            throw versionMismatch(id, expectedVersion, currentVersion);
+        }
+
+        Customer patchedCustomer = customerRepository.findById(id).orElseThrow(() -> notFound(id));
+        eventPublisher.publishEvent(CustomerChangedEvent.updated(patchedCustomer));
+        logger.debug("Customer with ID: {} patched successfully; changed attributes: {}", id, changes.keySet());
+        return patchedCustomer;
+    }
+
+    private Map<String, Object> toChanges(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object.");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Set<ConstraintViolation<Customer>> violations = new LinkedHashSet<>();
+        patch.fields().forEachRemaining(field -> {
+            String attribute = field.getKey();
+            JsonNode value = field.getValue();
+            if (!PATCHABLE_ATTRIBUTES.contains(attribute)) {
+                throw new IllegalArgumentException("Attribute '" + attribute + "' cannot be patched.");
+            }
+            if (!value.isNull() && !value.isTextual()) {
+                throw new IllegalArgumentException("Attribute '" + attribute + "' must be a string or null.");
+            }
+            String text = value.isNull() ? null : value.textValue();
+            violations.addAll(validator.validateValue(Customer.class, attribute, text));
+            changes.put(attribute, text);
+        });
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return changes;
+    }
+
+    @Transactional
     public void deleteCustomer(UUID id) {
-        logger.info("Attempting to delete customer with ID: {}", id);
+        deleteCustomer(id, null);
+    }
 
-        Customer customer = getCustomerById(id);
-        customerRepository.delete(customer);
+    /**
+     * Deletes a customer with a single {@code DELETE ... WHERE id = ?}, additionally matching
+     * {@code expectedVersion} when it is given.
+     */
+    @Transactional
+    public void deleteCustomer(UUID id, Long expectedVersion) {
+        logger.debug("Attempting to delete customer with ID: {}", id);
+
+        if (expectedVersion == null) {
+            if (customerRepository.deleteCustomerById(id) == 0) {
+                throw notFound(id);
+            }
+        } else if (customerRepository.deleteByIdAndVersion(id, expectedVersion) == 0) {
+            Long currentVersion = customerRepository.findVersionById(id).orElseThrow(() -> notFound(id));
+            throw versionMismatch(id, expectedVersion, currentVersion);
+        }
+        eventPublisher.publishEvent(CustomerChangedEvent.deleted(id, expectedVersion));
+
+        logger.debug("Customer with ID: {} deleted successfully.", id);
+    }
+
+    private static PreconditionFailedException versionMismatch(UUID id, Long expectedVersion, Long currentVersion) {
+        logger.warn("Version mismatch for customer {}: expected={}, actual={}", id, expectedVersion, currentVersion);
+        return new PreconditionFailedException("Customer " + id + " has been modified; current version is "
+                + currentVersion + ".");
+    }
 
-        logger.info("Customer with ID: {} deleted successfully.", id);
+    private static ResourceNotFoundException notFound(UUID id) {
+        logger.error("Customer not found with ID: {}", id);
+        return new ResourceNotFoundException("Customer not found with ID: " + id);
     }
 }
@@ -0,0 +1,361 @@
+package com.customer.management.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.customer.management.dto.AsyncCreateStatus;
+import com.customer.management.dto.CreateState;
+import com.customer.management.dto.WriteBehindStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.exception.DuplicateCustomerException;
+import com.customer.management.exception.WriteQueueFullException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind path for customer creation. Accepted customers get their id immediately and wait
+ * in a bounded queue; a single writer thread drains the queue into multi-row INSERT statements
+ * and commits each group once. A group is closed when it reaches {@code max-batch-size} rows or
+ * when {@code linger} has passed since its first row, whichever comes first, so a burst costs
+ * one commit per group instead of one per customer while a lone request waits at most the
+ * linger time.
+ * <p>
+ * Accepted customers are held in memory only: if the process dies before their group commits
+ * they are lost, and their status lookups return 404 afterwards.
+ */
+@Service
+public class CustomerWriteBehindService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerWriteBehindService.class);
+
+    private static final String INSERT_PREFIX = "insert into customer"
+            + " (id, first_name, middle_name, last_name, email_address, phone_number, version) values ";
+    private static final String ROW_VALUES = "(?, ?, ?, ?, ?, ?, 0)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CustomerContactIndex contactIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${customer.write-behind.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${customer.write-behind.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${customer.write-behind.max-batch-size:500}")
+    private int maxBatchSize = 500;
+
+    @Value("${customer.write-behind.linger:5ms}")
+    private Duration linger = Duration.ofMillis(5);
+
+    @Value("${customer.write-behind.status-retention:10m}")
+    private Duration statusRetention = Duration.ofMinutes(10);
+
+    // Queued customers get their id here, so it has to come from the same generator as the entity's
+    @Value("${customer.id.version:v7}")
+    private String idVersionProperty = "v7";
+
+    private BlockingQueue<PendingCreate> queue;
+    private Thread writer;
+    private volatile boolean running;
+    private TransactionTemplate transactionTemplate;
+    private CustomerIdVersion idVersion;
+
+    private final Map<UUID, AsyncCreateStatus> pending = new ConcurrentHashMap<>();
+    // Normalized email addresses of queued customers, rejected again until their group commits
+    private final Set<String> pendingEmails = ConcurrentHashMap.newKeySet();
+    private Cache<UUID, AsyncCreateStatus> outcomes;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejectedQueueFull = new AtomicLong();
+    private final AtomicLong committed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong committedRows = new AtomicLong();
+    private final AtomicLong commitNanos = new AtomicLong();
+    private volatile long maxCommitNanos;
+    private volatile int lastBatchSize;
+    private volatile int maxBatchSizeSeen;
+    private Timer commitTimer;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    void start() {
+        idVersion = CustomerIdVersion.fromProperty(idVersionProperty);
+        commitTimer = Timer.builder("customer.write.behind.commit")
+                .description("Time to insert and commit one write-behind group")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("customer.write.behind.batch.size")
+                .description("Customers per committed write-behind group")
+                .baseUnit("customers")
+                .publishPercentileHistogram()
+                .maximumExpectedValue((double) maxBatchSize)
+                .register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        outcomes = Caffeine.newBuilder().expireAfterWrite(statusRetention).build();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writer = new CustomizableThreadFactory("customer-write-behind-").newThread(this::drain);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting customers and waits for the writer to commit what is already queued.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (writer.isAlive()) {
+            logger.warn("Write-behind writer did not finish within 30 s; {} queued customers are lost.", queue.size());
+            writer.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Assigns an id to {@code customer} and queues it for insertion. The email address is
+     * checked against existing and queued customers first, so a duplicate is rejected here
+     * rather than failing its whole group later.
+     *
+     * @throws WriteQueueFullException when the queue is at capacity
+     */
+    public AsyncCreateStatus enqueue(Customer customer) {
+        if (!enabled || !running) {
+            throw new IllegalStateException("Asynchronous customer creation is disabled.");
+        }
+        if (customer.getFirstName() == null || customer.getLastName() == null) {
+            throw new IllegalArgumentException("First name and last name are required.");
+        }
+        contactIndex.checkEmailAvailable(customer.getEmailAddress(), null);
+        String email = CustomerContactIndex.normalizeEmail(customer.getEmailAddress());
+        if (email != null && !pendingEmails.add(email)) {
+            throw new DuplicateCustomerException("A customer with email address " + customer.getEmailAddress() + " already exists.");
+        }
+
+        customer.setId(idVersion.generate());
+        customer.setVersion(0L);
+        AsyncCreateStatus status = new AsyncCreateStatus(customer.getId(), CreateState.PENDING, Instant.now(), null, null);
+        pending.put(customer.getId(), status);
+        if (!queue.offer(new PendingCreate(customer, status))) {
+            pending.remove(customer.getId());
+            if (email != null) {
+                pendingEmails.remove(email);
+            }
+            rejectedQueueFull.incrementAndGet();
+            throw new WriteQueueFullException("The create queue is full.");
+        }
+        accepted.incrementAndGet();
+        logger.debug("Queued customer {} for write-behind insertion.", customer.getId());
+        return copy(status);
+    }
+
+    public Optional<AsyncCreateStatus> getStatus(UUID customerId) {
+        AsyncCreateStatus status = pending.get(customerId);
+        if (status == null && outcomes != null) {
+            status = outcomes.getIfPresent(customerId);
+        }
+        return Optional.ofNullable(status).map(CustomerWriteBehindService::copy);
+    }
+
+    private void drain() {
+        List<PendingCreate> group = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (group.size() < maxBatchSize) {
+                    queue.drainTo(group, maxBatchSize - group.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (group.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                write(group);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                // Keep the writer alive; the group's customers are already marked failed
+                logger.error("Write-behind group of {} customers failed: {}", group.size(), ex.getMessage(), ex);
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingCreate> group) {
+        long startNanos = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insert(group);
+                group.forEach(create -> eventPublisher.publishEvent(CustomerChangedEvent.created(create.customer())));
+            });
+            recordCommit(group.size(), System.nanoTime() - startNanos);
+            group.forEach(create -> completed(create, null));
+        } catch (DataAccessException ex) {
+            logger.warn("Write-behind group of {} customers failed ({}), retrying rows individually.",
+                    group.size(), ex.getMostSpecificCause().getMessage());
+            for (PendingCreate create : group) {
+                long rowStartNanos = System.nanoTime();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        insert(List.of(create));
+                        eventPublisher.publishEvent(CustomerChangedEvent.created(create.customer()));
+                    });
+                    recordCommit(1, System.nanoTime() - rowStartNanos);
+                    completed(create, null);
+                } catch (DataAccessException rowEx) {
+                    completed(create, "Rejected by database: " + rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        } catch (RuntimeException ex) {
+            group.forEach(create -> completed(create, "Write failed: " + ex.getMessage()));
+            throw ex;
+        }
+    }
+
+    /**
+     * One multi-row INSERT for the whole group.
+     */
+    private void insert(List<PendingCreate> group) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + group.size() * (ROW_VALUES.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[group.size() * 6];
+        int arg = 0;
+        for (int i = 0; i < group.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_VALUES);
+            Customer customer = group.get(i).customer();
+            args[arg++] = customer.getId();
+            args[arg++] = customer.getFirstName();
+            args[arg++] = customer.getMiddleName();
+            args[arg++] = customer.getLastName();
+            args[arg++] = customer.getEmailAddress();
+            args[arg++] = customer.getPhoneNumber();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private void completed(PendingCreate create, String error) {
+        AsyncCreateStatus status = create.status();
+        synchronized (status) {
+            if (error == null) {
+                status.setState(CreateState.DURABLE);
+                status.setCommittedAt(Instant.now());
+            } else {
+                status.setState(CreateState.FAILED);
+                status.setError(error);
+            }
+        }
+        if (error == null) {
+            committed.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+            logger.warn("Write-behind insertion of customer {} failed: {}", create.customer().getId(), error);
+        }
+        // Record the outcome before leaving the pending map so a lookup never finds neither
+        outcomes.put(create.customer().getId(), status);
+        pending.remove(create.customer().getId());
+        if (create.customer().getEmailAddress() != null) {
+            pendingEmails.remove(CustomerContactIndex.normalizeEmail(create.customer().getEmailAddress()));
+        }
+    }
+
+    private void recordCommit(int rows, long elapsedNanos) {
+        commits.incrementAndGet();
+        committedRows.addAndGet(rows);
+        commitNanos.addAndGet(elapsedNanos);
+        commitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        batchSizes.record(rows);
+        lastBatchSize = rows;
+        // Only the writer thread updates these
+        if (rows > maxBatchSizeSeen) {
+            maxBatchSizeSeen = rows;
+        }
+        if (elapsedNanos > maxCommitNanos) {
+            maxCommitNanos = elapsedNanos;
+        }
+    }
+
+    public WriteBehindStats stats() {
+        long commitCount = commits.get();
+        return new WriteBehindStats(enabled, queueCapacity, queue == null ? 0 : queue.size(), accepted.get(),
+                rejectedQueueFull.get(), committed.get(), failed.get(), commitCount, lastBatchSize, maxBatchSizeSeen,
+                commitCount == 0 ? 0 : (double) committedRows.get() / commitCount,
+                commitCount == 0 ? 0 : commitNanos.get() / 1_000_000d / commitCount, maxCommitNanos / 1_000_000d);
+    }
+
+    private static AsyncCreateStatus copy(AsyncCreateStatus status) {
+        synchronized (status) {
+            return new AsyncCreateStatus(status.getCustomerId(), status.getState(), status.getAcceptedAt(),
+                    status.getCommittedAt(), status.getError());
+        }
+    }
+
+    private record PendingCreate(Customer customer, AsyncCreateStatus status) {
+    }
+}
@@ -0,0 +1,253 @@
+package com.customer.management.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Radix (compressed) trie from name tokens to customer ids. Every edge carries a whole
+ * substring, so a chain of single-child nodes collapses into one node, and the ids under a node
+ * are kept as pairs of {@code long}s rather than {@link UUID} objects.
+ * <p>
+ * Not thread-safe; {@link CustomerNameIndex} guards it with a read/write lock.
+ */
+final class NameTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+    private int nodeCount = 1;
+
+    /**
+     * Adds {@code id} under {@code token}; the pair must not already be present.
+     */
+    void add(String token, UUID id) {
+        Node node = root;
+        String rest = token;
+        while (!rest.isEmpty()) {
+            node.total++;
+            int index = node.childIndex(rest.charAt(0));
+            if (index < 0) {
+                Node leaf = new Node(rest);
+                node.insertChild(-index - 1, leaf);
+                nodeCount++;
+                node = leaf;
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, rest);
+            if (common < child.label.length()) {
+                // Split the edge: node -> middle(common prefix) -> child(remaining label)
+                Node middle = new Node(child.label.substring(0, common));
+                middle.total = child.total;
+                child.label = child.label.substring(common);
+                middle.children = new Node[] {child};
+                node.children[index] = middle;
+                nodeCount++;
+                child = middle;
+            }
+            node = child;
+            rest = rest.substring(common);
+        }
+        node.total++;
+        node.addPosting(id);
+    }
+
+    void remove(String token, UUID id) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        String rest = token;
+        while (!rest.isEmpty()) {
+            int index = node.childIndex(rest.charAt(0));
+            if (index < 0 || !rest.startsWith(node.children[index].label)) {
+                return;
+            }
+            path.push(node);
+            node = node.children[index];
+            rest = rest.substring(node.label.length());
+        }
+        if (!node.removePosting(id)) {
+            return;
+        }
+        node.total--;
+        for (Node ancestor : path) {
+            ancestor.total--;
+        }
+
+        // Restore the compressed shape bottom-up: drop empty leaves and merge a node without
+        // postings into its only child
+        while (!path.isEmpty() && node.size == 0 && node.children.length <= 1) {
+            Node parent = path.pop();
+            int index = parent.childIndex(node.label.charAt(0));
+            if (node.children.length == 0) {
+                parent.removeChild(index);
+            } else {
+                Node child = node.children[0];
+                child.label = node.label + child.label;
+                parent.children[index] = child;
+            }
+            nodeCount--;
+            node = parent;
+        }
+    }
+
+    /**
+     * Collects up to {@code limit} distinct ids whose token starts with {@code prefix} and that
+     * satisfy {@code filter}. Nodes are visited breadth-first, so exact and shorter matches come
+     * before longer completions.
+     */
+    void collect(String prefix, int limit, Predicate<UUID> filter, Set<UUID> results) {
+        Node start = findPrefixNode(prefix);
+        if (start == null) {
+            return;
+        }
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty() && results.size() < limit) {
+            Node node = queue.poll();
+            for (int i = 0; i < node.size && results.size() < limit; i++) {
+                UUID id = new UUID(node.postings[2 * i], node.postings[2 * i + 1]);
+                if (filter.test(id)) {
+                    results.add(id);
+                }
+            }
+            queue.addAll(Arrays.asList(node.children));
+        }
+    }
+
+    /**
+     * Returns the number of (token, id) pairs whose token starts with {@code prefix}.
+     */
+    int count(String prefix) {
+        Node node = findPrefixNode(prefix);
+        return node == null ? 0 : node.total;
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            int index = node.childIndex(rest.charAt(0));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, rest);
+            if (common == rest.length()) {
+                // The prefix ends inside or at the end of this edge
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            rest = rest.substring(common);
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        // Ids as (mostSignificantBits, leastSignificantBits) pairs
+        private long[] postings;
+        private int size;
+        // Postings in this node and all its descendants
+        private int total;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Binary search by the first character of the child labels; returns
+         * {@code -(insertionPoint + 1)} when there is no such child.
+         */
+        int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        void removeChild(int index) {
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        // Callers never add the same (token, id) twice, so no duplicate check is needed here
+        void addPosting(UUID id) {
+            if (postings == null) {
+                postings = new long[2];
+            } else if (postings.length == 2 * size) {
+                postings = Arrays.copyOf(postings, postings.length * 2);
+            }
+            postings[2 * size] = id.getMostSignificantBits();
+            postings[2 * size + 1] = id.getLeastSignificantBits();
+            size++;
+        }
+
+        boolean removePosting(UUID id) {
+            int index = indexOf(id);
+            if (index < 0) {
+                return false;
+            }
+            // Swap-remove: order within a node carries no meaning
+            size--;
+            postings[2 * index] = postings[2 * size];
+            postings[2 * index + 1] = postings[2 * size + 1];
+            if (size == 0) {
+                postings = null;
+            }
+            return true;
+        }
+
+        private int indexOf(UUID id) {
+            long msb = id.getMostSignificantBits();
+            long lsb = id.getLeastSignificantBits();
+            for (int i = 0; i < size; i++) {
+                if (postings[2 * i] == msb && postings[2 * i + 1] == lsb) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.customer.management.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.customer.management.dto.CustomerPage;
+import com.customer.management.dto.CustomerSortOrder;
+import com.customer.management.entity.Customer;
+import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.repository.ReactiveCustomerRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the read operations in {@link CustomerService}, backed by
+ * {@link ReactiveCustomerRepository}. Pages use the same limits and cursors as the MVC API, so a
+ * cursor issued by one API is accepted by the other.
+ */
+@Service
+@ConditionalOnProperty(name = "customer.reactive.enabled", havingValue = "true")
+public class ReactiveCustomerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCustomerService.class);
+
+    @Autowired
+    private ReactiveCustomerRepository reactiveCustomerRepository;
+
+    @Autowired
+    private CustomerCache customerCache;
+
+    @Value("${customer.pagination.default-limit:50}")
+    private int defaultPageLimit = 50;
+
+    @Value("${customer.pagination.max-limit:500}")
+    private int maxPageLimit = 500;
+
+    @Value("${customer.reactive.stream-prefetch:256}")
+    private int streamPrefetch = 256;
+
+    /**
+     * Served from {@link CustomerCache} when the customer is already cached; a miss is read
+     * reactively and not added to the cache, which is populated by the MVC read path only.
+     */
+    public Mono<Customer> getCustomerById(UUID id) {
+        Customer cached = customerCache.getIfPresent(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return reactiveCustomerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Customer not found with ID: " + id)));
+    }
+
+    public Mono<CustomerPage> getCustomerPage(Integer limit, String after, CustomerSortOrder sortOrder) {
+        int pageSize = resolvePageLimit(limit);
+        logger.debug("Fetching reactive customer page: limit={}, sort={}, hasCursor={}", pageSize, sortOrder, after != null);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        Flux<Customer> rows;
+        if (after == null || after.isBlank()) {
+            rows = sortOrder == CustomerSortOrder.NAME
+                    ? reactiveCustomerRepository.findFirstPageOrderByName(pageSize + 1)
+                    : reactiveCustomerRepository.findAllByOrderByIdAsc(firstRows(pageSize + 1));
+        } else {
+            CustomerCursor cursor = CustomerCursor.decode(after, sortOrder);
+            rows = sortOrder == CustomerSortOrder.NAME
+                    ? reactiveCustomerRepository.findNextPageOrderByName(cursor.getLastName(), cursor.getFirstName(),
+                            cursor.getId(), pageSize + 1)
+                    : reactiveCustomerRepository.findByIdGreaterThanOrderByIdAsc(cursor.getId(), firstRows(pageSize + 1));
+        }
+        return rows.collectList().map(list -> toPage(list, pageSize, sortOrder));
+    }
+
+    /**
+     * Streams all customers ordered by id. At most {@code customer.reactive.stream-prefetch}
+     * rows are requested from the database ahead of what the client has consumed, so a slow
+     * client holds back the query instead of buffering the table in memory.
+     */
+    public Flux<Customer> streamCustomers() {
+        return reactiveCustomerRepository.streamAllOrderById().limitRate(streamPrefetch);
+    }
+
+    private static CustomerPage toPage(List<Customer> rows, int pageSize, CustomerSortOrder sortOrder) {
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            next = CustomerCursor.after(rows.get(pageSize - 1), sortOrder).encode();
+        }
+        return new CustomerPage(rows, next);
+    }
+
+    private static Pageable firstRows(int count) {
+        return PageRequest.of(0, count);
+    }
+
+    private int resolvePageLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageLimit;
+        }
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + maxPageLimit + ".");
+        }
+        return limit;
+    }
+}
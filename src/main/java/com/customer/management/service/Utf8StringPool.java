@@ -0,0 +1,209 @@
+package com.customer.management.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Deduplicated strings stored as UTF-8 in one growing byte arena, addressed by int ids. Each
+ * distinct value is stored once and reference counted; an open-addressing table of ids finds
+ * the existing copy when a value is interned again. Released bytes are reclaimed by
+ * {@link #compact()}. Not thread-safe; {@link CustomerColumnStore} guards it.
+ */
+final class Utf8StringPool {
+
+    static final int NULL = -1;
+
+    private byte[] arena = new byte[1 << 12];
+    private int arenaUsed;
+    private int garbageBytes;
+
+    // Per string id
+    private int[] offsets = new int[64];
+    private int[] lengths = new int[64];
+    private int[] hashes = new int[64];
+    private int[] refCounts = new int[64];
+    private int idCount;
+    private int[] freeIds = new int[16];
+    private int freeCount;
+
+    // Open addressing with linear probing; holds id + 1, 0 marks an empty bucket
+    private int[] table = new int[128];
+    private int live;
+
+    /** Returns the id of {@code value}, adding it or a reference to the existing copy. */
+    int intern(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(utf8, 0, utf8.length);
+        int mask = table.length - 1;
+        for (int bucket = hash & mask; ; bucket = (bucket + 1) & mask) {
+            int entry = table[bucket];
+            if (entry == 0) {
+                break;
+            }
+            int id = entry - 1;
+            if (hashes[id] == hash && equals(id, utf8)) {
+                refCounts[id]++;
+                return id;
+            }
+        }
+        int id = allocateId();
+        if (arenaUsed + utf8.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length + (arena.length >> 1), arenaUsed + utf8.length));
+        }
+        System.arraycopy(utf8, 0, arena, arenaUsed, utf8.length);
+        offsets[id] = arenaUsed;
+        lengths[id] = utf8.length;
+        hashes[id] = hash;
+        refCounts[id] = 1;
+        arenaUsed += utf8.length;
+        if (++live * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        insert(id);
+        return id;
+    }
+
+    /** Drops one reference to {@code id}; the bytes become garbage once none are left. */
+    void release(int id) {
+        if (id == NULL || --refCounts[id] > 0) {
+            return;
+        }
+        remove(id);
+        live--;
+        garbageBytes += lengths[id];
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    String get(int id) {
+        return id == NULL ? null : new String(arena, offsets[id], lengths[id], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares two ids by their UTF-8 bytes, which orders by code point; {@code NULL} first.
+     */
+    int compare(int a, int b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == NULL || b == NULL) {
+            return a == NULL ? -1 : 1;
+        }
+        return Arrays.compareUnsigned(arena, offsets[a], offsets[a] + lengths[a], arena, offsets[b], offsets[b] + lengths[b]);
+    }
+
+    /** Compares the value of {@code id} with UTF-8 bytes, in the order of {@link #compare}. */
+    int compare(int id, byte[] utf8) {
+        if (id == NULL || utf8 == null) {
+            return id == NULL ? (utf8 == null ? 0 : -1) : 1;
+        }
+        return Arrays.compareUnsigned(arena, offsets[id], offsets[id] + lengths[id], utf8, 0, utf8.length);
+    }
+
+    boolean needsCompaction() {
+        return garbageBytes > (1 << 16) && garbageBytes > arenaUsed / 2;
+    }
+
+    /**
+     * Rewrites the arena without released strings. Ids stay the same, so the columns that
+     * refer to them need no change.
+     */
+    void compact() {
+        byte[] compacted = new byte[Math.max(arenaUsed - garbageBytes, 16)];
+        int used = 0;
+        boolean[] free = new boolean[idCount];
+        for (int i = 0; i < freeCount; i++) {
+            free[freeIds[i]] = true;
+        }
+        for (int id = 0; id < idCount; id++) {
+            if (!free[id]) {
+                System.arraycopy(arena, offsets[id], compacted, used, lengths[id]);
+                offsets[id] = used;
+                used += lengths[id];
+            }
+        }
+        arena = compacted;
+        arenaUsed = used;
+        garbageBytes = 0;
+    }
+
+    int size() {
+        return live;
+    }
+
+    /** Bytes held by the arena and the per-string arrays. */
+    long heapBytes() {
+        return arena.length + 4L * (offsets.length + lengths.length + hashes.length + refCounts.length
+                + freeIds.length + table.length);
+    }
+
+    private boolean equals(int id, byte[] utf8) {
+        return lengths[id] == utf8.length
+                && Arrays.equals(arena, offsets[id], offsets[id] + lengths[id], utf8, 0, utf8.length);
+    }
+
+    private int allocateId() {
+        if (freeCount > 0) {
+            return freeIds[--freeCount];
+        }
+        if (idCount == offsets.length) {
+            int capacity = idCount * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            refCounts = Arrays.copyOf(refCounts, capacity);
+        }
+        return idCount++;
+    }
+
+    private void insert(int id) {
+        int mask = table.length - 1;
+        int bucket = hashes[id] & mask;
+        while (table[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        table[bucket] = id + 1;
+    }
+
+    private void remove(int id) {
+        int mask = table.length - 1;
+        int bucket = hashes[id] & mask;
+        while (table[bucket] != id + 1) {
+            bucket = (bucket + 1) & mask;
+        }
+        // Backward-shift deletion keeps every probe sequence unbroken without tombstones
+        int hole = bucket;
+        for (int next = (hole + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = hashes[table[next] - 1] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = table;
+        table = new int[capacity];
+        for (int entry : old) {
+            if (entry != 0) {
+                insert(entry - 1);
+            }
+        }
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = 0x811c9dc5;
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        // Spread the low bits, which pick the bucket
+        return hash ^ (hash >>> 16);
+    }
+}
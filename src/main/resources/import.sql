@@ -0,0 +1,4 @@
+-- Run by Hibernate after it creates the schema (ddl-auto create or create-drop).
+-- Email addresses are unique regardless of case, matching CustomerContactIndex.normalizeEmail.
+alter table customer add column email_key varchar(255) generated always as (lower(trim(email_address)));
+create unique index uk_customer_email_key on customer(email_key);
@@ -0,0 +1,141 @@
+package com.customer.management.test.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Full customers versus the sparse fieldset {@code fields=id,emailAddress}, for a page of
+ * {@code benchmark.page} customers and for a single customer. The column store and the cache
+ * are off, so every request reads the database. Reports per request the column bytes fetched
+ * (UUID 16, version 8, strings as UTF-8), the heap allocated by the request thread and the
+ * response size. Excluded from the default build; run with
+ * {@code mvn test -P benchmark -Dtest=CustomerFieldsBenchmarkTest}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fields-benchmark;DB_CLOSE_DELAY=-1",
+        "customer.coherence.enabled=false",
+        "customer.column-store.enabled=false",
+        "customer.cache.enabled=false"
+})
+@AutoConfigureMockMvc
+public class CustomerFieldsBenchmarkTest {
+
+    private static final String SPARSE = "id,emailAddress";
+
+    private final int rows = Integer.getInteger("benchmark.rows", 20_000);
+    private final int pageSize = Integer.getInteger("benchmark.page", 500);
+    private final int requests = Integer.getInteger("benchmark.requests", 2_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private UUID firstId;
+
+    @BeforeAll
+    void populate() {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {UUID.randomUUID(), "First" + i, i % 3 == 0 ? "Middle" + i : null, "Last" + i,
+                    "customer" + i + "@example.com", String.format("+4915%09d", i)});
+            if (batch.size() == 5_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("insert into customer (id, first_name, middle_name, last_name, email_address,"
+                        + " phone_number, version) values (?, ?, ?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+        firstId = jdbcTemplate.queryForObject("select id from customer order by id fetch first 1 rows only", UUID.class);
+    }
+
+    @Test
+    void compareFullAndSparseReads() throws Exception {
+        JsonNode page = objectMapper.readTree(body(get("/v1/customers/page").param("limit", String.valueOf(pageSize))))
+                .get("items");
+        JsonNode single = objectMapper.readTree(body(get("/v1/customers/" + firstId)));
+        List<JsonNode> customers = new ArrayList<>();
+        page.forEach(customers::add);
+
+        System.out.printf("%,d customers; %,d requests per case%n", rows, requests);
+        System.out.printf("%-22s %14s %14s %14s %10s%n", "case", "column bytes", "allocated", "response", "us/req");
+        run("page " + pageSize + ", full", fullColumnBytes(customers),
+                get("/v1/customers/page").param("limit", String.valueOf(pageSize)));
+        run("page " + pageSize + ", " + SPARSE, sparseColumnBytes(customers),
+                get("/v1/customers/page").param("limit", String.valueOf(pageSize)).param("fields", SPARSE));
+        run("by id, full", fullColumnBytes(List.of(single)), get("/v1/customers/" + firstId));
+        run("by id, " + SPARSE, sparseColumnBytes(List.of(single)),
+                get("/v1/customers/" + firstId).param("fields", SPARSE));
+    }
+
+    private void run(String name, long columnBytes, RequestBuilder request) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            body(request);
+        }
+        long thread = Thread.currentThread().getId();
+        long responseBytes = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            responseBytes += body(request).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        System.out.printf("%-22s %,14d %,14d %,14d %10.1f%n", name, columnBytes, allocated / requests,
+                responseBytes / requests, elapsed / 1e3 / requests);
+        assertTrue(responseBytes > 0);
+    }
+
+    private byte[] body(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private static long fullColumnBytes(List<JsonNode> customers) {
+        long bytes = 0;
+        for (JsonNode customer : customers) {
+            bytes += 16 + 8 + utf8(customer, "firstName") + utf8(customer, "middleName") + utf8(customer, "lastName")
+                    + utf8(customer, "emailAddress") + utf8(customer, "phoneNumber");
+        }
+        return bytes;
+    }
+
+    private static long sparseColumnBytes(List<JsonNode> customers) {
+        long bytes = 0;
+        for (JsonNode customer : customers) {
+            bytes += 16 + utf8(customer, "emailAddress");
+        }
+        return bytes;
+    }
+
+    private static int utf8(JsonNode customer, String field) {
+        JsonNode value = customer.get(field);
+        return value == null || value.isNull() ? 0 : value.asText().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
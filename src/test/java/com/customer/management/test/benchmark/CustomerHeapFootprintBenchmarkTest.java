@@ -0,0 +1,78 @@
+package com.customer.management.test.benchmark;
+
+import com.customer.management.dto.ColumnStoreStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.service.CustomerColumnStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Retained heap of {@code benchmark.rows} customers held as entities in a
+ * {@code HashMap<UUID, Customer>}, the shape of the near cache, versus the same customers in
+ * {@link CustomerColumnStore}. Sizes are measured by walking each object graph with JOL, which
+ * also prints a class histogram of both. First and last names are drawn from
+ * {@code benchmark.names} values each, as real names repeat. Excluded from the default build;
+ * run with {@code mvn test -P benchmark -Dtest=CustomerHeapFootprintBenchmarkTest}.
+ */
+@Tag("benchmark")
+public class CustomerHeapFootprintBenchmarkTest {
+
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+    private final int distinctNames = Integer.getInteger("benchmark.names", 2_000);
+
+    @Test
+    void compareEntityMapWithColumnStore() {
+        Random random = new Random(42);
+        Map<UUID, Customer> entities = new HashMap<>();
+        CustomerColumnStore store = new CustomerColumnStore();
+        ReflectionTestUtils.setField(store, "ordered", true);
+        ReflectionTestUtils.setField(store, "ready", true);
+        for (int row = 0; row < rows; row++) {
+            Customer customer = customer(row, random);
+            entities.put(customer.getId(), customer);
+            store.onCustomerChanged(CustomerChangedEvent.created(customer));
+        }
+
+        GraphLayout entityLayout = GraphLayout.parseInstance(entities);
+        GraphLayout storeLayout = GraphLayout.parseInstance(store);
+        System.out.println(entityLayout.toFootprint());
+        System.out.println(storeLayout.toFootprint());
+
+        double entityBytes = entityLayout.totalSize() / (double) rows;
+        double storeBytes = storeLayout.totalSize() / (double) rows;
+        ColumnStoreStats stats = store.stats();
+        System.out.printf("%,d customers, %,d distinct names%n", rows, stats.getDistinctNameCount());
+        System.out.printf("%-28s %,14d bytes %8.1f per customer%n", "HashMap<UUID, Customer>",
+                entityLayout.totalSize(), entityBytes);
+        System.out.printf("%-28s %,14d bytes %8.1f per customer%n", "CustomerColumnStore",
+                storeLayout.totalSize(), storeBytes);
+        System.out.printf("%-28s %,14d bytes %8.1f per customer%n", "  as estimated by stats()",
+                stats.getHeapBytes(), stats.getBytesPerCustomer());
+        System.out.printf("reduction %.1fx%n", entityBytes / storeBytes);
+
+        assertEquals(rows, stats.getCustomerCount());
+        assertTrue(storeBytes < entityBytes);
+    }
+
+    private Customer customer(int row, Random random) {
+        Customer customer = new Customer();
+        customer.setId(CustomerIdVersion.V7.generate());
+        customer.setVersion(0L);
+        customer.setFirstName("First" + random.nextInt(distinctNames));
+        customer.setLastName("Last" + random.nextInt(distinctNames));
+        customer.setEmailAddress("customer" + row + "@example.com");
+        customer.setPhoneNumber("+1415555" + String.format("%04d", row % 10_000));
+        return customer;
+    }
+}
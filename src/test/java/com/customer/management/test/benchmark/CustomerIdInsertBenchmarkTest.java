@@ -0,0 +1,99 @@
+package com.customer.management.test.benchmark;
+
+import com.customer.management.entity.CustomerIdVersion;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Insert throughput into a customer table keyed by random UUIDv4 versus time-ordered UUIDv7
+ * ids. Rows are inserted over JDBC in batches of {@code benchmark.batch-size}, each batch its
+ * own transaction, into an H2 file database with H2's default page cache, so that the cost of
+ * inserting into random pages of a primary key index that outgrows the cache shows up. The
+ * throughput of each tenth of the rows is printed to show how it develops as the table grows.
+ * Excluded from the default build; run with
+ * {@code mvn test -P benchmark -Dtest=CustomerIdInsertBenchmarkTest -Dbenchmark.rows=1000000,10000000}.
+ */
+@Tag("benchmark")
+public class CustomerIdInsertBenchmarkTest {
+
+    private final long[] rowCounts = Arrays.stream(System.getProperty("benchmark.rows", "1000000").split(","))
+            .mapToLong(count -> Long.parseLong(count.trim())).toArray();
+    private final int batchSize = Integer.getInteger("benchmark.batch-size", 1_000);
+
+    @Test
+    void compareRandomAndTimeOrderedIds() throws Exception {
+        for (long rows : rowCounts) {
+            System.out.printf("Inserting %,d customers in batches of %d:%n", rows, batchSize);
+            for (CustomerIdVersion version : CustomerIdVersion.values()) {
+                Path directory = Files.createTempDirectory("customer-id-benchmark");
+                try {
+                    run(version, rows, directory);
+                } finally {
+                    try (var files = Files.walk(directory)) {
+                        files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+                    }
+                }
+            }
+        }
+    }
+
+    private void run(CustomerIdVersion version, long rows, Path directory) throws Exception {
+        String url = "jdbc:h2:file:" + directory.resolve("customers");
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table customer (id uuid primary key, firstName varchar(255) not null, "
+                        + "lastName varchar(255) not null, emailAddress varchar(255) not null, phoneNumber varchar(50), "
+                        + "version bigint not null)");
+            }
+            connection.setAutoCommit(false);
+            long tenth = Math.max(rows / 10, 1);
+            double[] tenthsPerSecond = new double[10];
+            long start = System.nanoTime();
+            long tenthStart = start;
+            try (PreparedStatement insert = connection.prepareStatement("insert into customer "
+                    + "(id, firstName, lastName, emailAddress, phoneNumber, version) values (?, ?, ?, ?, ?, 0)")) {
+                for (long row = 1; row <= rows; row++) {
+                    insert.setObject(1, version.generate());
+                    insert.setString(2, "First" + row);
+                    insert.setString(3, "Last" + row);
+                    insert.setString(4, "customer" + row + "@example.com");
+                    insert.setString(5, "+1415555" + (row % 10_000));
+                    insert.addBatch();
+                    if (row % batchSize == 0 || row == rows) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                    if (row % tenth == 0 && row / tenth <= 10) {
+                        long now = System.nanoTime();
+                        tenthsPerSecond[(int) (row / tenth) - 1] = tenth * 1e9 / (now - tenthStart);
+                        tenthStart = now;
+                    }
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long fileBytes = Files.size(directory.resolve("customers.mv.db"));
+            System.out.printf("  %s  %,9.0f rows/s overall  %6.1f s  file %,d MB%n", version, rows / seconds, seconds,
+                    fileBytes / (1024 * 1024));
+            StringBuilder tenths = new StringBuilder("       rows/s per tenth:");
+            for (double perSecond : tenthsPerSecond) {
+                tenths.append(String.format(" %,.0f", perSecond));
+            }
+            System.out.println(tenths);
+            try (Statement statement = connection.createStatement();
+                 var count = statement.executeQuery("select count(*) from customer")) {
+                count.next();
+                assertEquals(rows, count.getLong(1));
+            }
+        }
+    }
+}
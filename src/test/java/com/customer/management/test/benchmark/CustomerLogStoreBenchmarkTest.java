@@ -0,0 +1,243 @@
+package com.customer.management.test.benchmark;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.repository.CustomerLogStore;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Point reads and single-customer inserts on {@link CustomerLogStore} versus the H2 table the
+ * JPA repository uses, without Spring or Hibernate on either side. Both start from
+ * {@code benchmark.rows} customers. Reads fetch random existing ids; inserts run for
+ * {@code benchmark.seconds} on 1 and {@code benchmark.threads} threads, each insert its own
+ * commit as a POST would be. H2 is measured in memory (the default configuration) and as a
+ * file database, which with H2's defaults does not force the disk on commit; the log store
+ * is measured with and without {@code fsync}. Excluded from the default build; run with
+ * {@code mvn test -P benchmark -Dtest=CustomerLogStoreBenchmarkTest}.
+ */
+@Tag("benchmark")
+public class CustomerLogStoreBenchmarkTest {
+
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+    private final int reads = Integer.getInteger("benchmark.reads", 200_000);
+    private final int seconds = Integer.getInteger("benchmark.seconds", 5);
+    private final int threads = Integer.getInteger("benchmark.threads", 8);
+
+    @Test
+    void compareWithH2() throws Exception {
+        System.out.printf("%,d customers preloaded; %,d point reads; inserts for %d s%n", rows, reads, seconds);
+        System.out.printf("%-16s %12s %9s %9s %14s %14s%n", "engine", "reads/s", "read p50", "read p99",
+                "inserts/s (1)", "inserts/s (" + threads + ")");
+        for (String url : new String[] {"jdbc:h2:mem:", "jdbc:h2:file:"}) {
+            Path directory = Files.createTempDirectory("customer-h2-benchmark");
+            try {
+                runH2(url.equals("jdbc:h2:mem:") ? "h2 mem" : "h2 file",
+                        url + (url.equals("jdbc:h2:mem:") ? "benchmark;DB_CLOSE_DELAY=-1" : directory.resolve("customers")));
+            } finally {
+                delete(directory);
+            }
+        }
+        for (boolean fsync : new boolean[] {false, true}) {
+            Path directory = Files.createTempDirectory("customer-log-benchmark");
+            try {
+                runLog(fsync ? "log fsync" : "log no fsync", directory, fsync);
+            } finally {
+                delete(directory);
+            }
+        }
+    }
+
+    private void runH2(String name, String url) throws Exception {
+        List<UUID> ids = new ArrayList<>(rows);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table customer (id uuid primary key, firstName varchar(255) not null, "
+                        + "middleName varchar(255), lastName varchar(255) not null, "
+                        + "emailAddress varchar(255) not null unique, phoneNumber varchar(50), version bigint not null)");
+            }
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                for (int row = 0; row < rows; row++) {
+                    ids.add(bind(insert, customer(row)));
+                    insert.addBatch();
+                    if (row % 1_000 == 999) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            }
+            connection.setAutoCommit(true);
+
+            Histogram latency = new Histogram(3);
+            long start = System.nanoTime();
+            try (PreparedStatement select = connection.prepareStatement("select id, firstName, middleName, lastName, "
+                    + "emailAddress, phoneNumber, version from customer where id = ?")) {
+                for (int i = 0; i < reads; i++) {
+                    long began = System.nanoTime();
+                    select.setObject(1, ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+                    try (ResultSet result = select.executeQuery()) {
+                        assertTrue(result.next());
+                        result.getString(2);
+                    }
+                    latency.recordValue(System.nanoTime() - began);
+                }
+            }
+            double readsPerSecond = reads * 1e9 / (System.nanoTime() - start);
+
+            AtomicLong next = new AtomicLong(rows);
+            List<Connection> opened = new ArrayList<>();
+            InserterFactory inserters = () -> {
+                Connection own = DriverManager.getConnection(url, "sa", "");
+                opened.add(own);
+                PreparedStatement insert = own.prepareStatement(INSERT_SQL);
+                return () -> {
+                    bind(insert, customer(next.getAndIncrement()));
+                    insert.executeUpdate();
+                };
+            };
+            double single = inserts(1, inserters);
+            double concurrent = inserts(threads, inserters);
+            for (Connection own : opened) {
+                own.close();
+            }
+            print(name, readsPerSecond, latency, single, concurrent);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table customer");
+            }
+        }
+    }
+
+    private void runLog(String name, Path directory, boolean fsync) throws Exception {
+        List<UUID> ids = new ArrayList<>(rows);
+        try (CustomerLogStore store = new CustomerLogStore(directory, fsync, Long.MAX_VALUE, Duration.ZERO)) {
+            List<CustomerLogStore.Change> batch = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                Customer customer = customer(row);
+                ids.add(customer.getId());
+                batch.add(new CustomerLogStore.Insert(customer));
+                if (batch.size() == 1_000) {
+                    store.apply(batch);
+                    batch.clear();
+                }
+            }
+            store.apply(batch);
+            // Reads come from the snapshot, as they would after the first compaction
+            store.compact();
+
+            Histogram latency = new Histogram(3);
+            long start = System.nanoTime();
+            for (int i = 0; i < reads; i++) {
+                long began = System.nanoTime();
+                assertNotNull(store.get(ids.get(ThreadLocalRandom.current().nextInt(ids.size()))));
+                latency.recordValue(System.nanoTime() - began);
+            }
+            double readsPerSecond = reads * 1e9 / (System.nanoTime() - start);
+
+            AtomicLong next = new AtomicLong(rows);
+            long syncsBefore = store.getSyncCount();
+            long writesBefore = store.getWriteCount();
+            double single = inserts(1, () -> () -> store.apply(List.of(
+                    new CustomerLogStore.Insert(customer(next.getAndIncrement())))));
+            double concurrent = inserts(threads, () -> () -> store.apply(List.of(
+                    new CustomerLogStore.Insert(customer(next.getAndIncrement())))));
+            print(name, readsPerSecond, latency, single, concurrent);
+            if (fsync) {
+                System.out.printf("%-16s %,d inserts shared %,d fsyncs%n", "",
+                        store.getWriteCount() - writesBefore, store.getSyncCount() - syncsBefore);
+            }
+        }
+    }
+
+    private double inserts(int threadCount, InserterFactory factory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<CompletableFuture<Long>> workers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Inserter inserter = factory.create();
+            workers.add(CompletableFuture.supplyAsync(() -> {
+                long count = 0;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        inserter.insert();
+                        count++;
+                    }
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return count;
+            }, executor));
+        }
+        long total = 0;
+        for (CompletableFuture<Long> worker : workers) {
+            total += worker.join();
+        }
+        executor.shutdown();
+        return total / (double) seconds;
+    }
+
+    private static void print(String name, double readsPerSecond, Histogram latency, double single, double concurrent) {
+        System.out.printf("%-16s %,12.0f %7.1fus %7.1fus %,14.0f %,14.0f%n", name, readsPerSecond,
+                latency.getValueAtPercentile(50) / 1e3, latency.getValueAtPercentile(99) / 1e3, single, concurrent);
+    }
+
+    private static final String INSERT_SQL = "insert into customer (id, firstName, middleName, lastName, emailAddress, "
+            + "phoneNumber, version) values (?, ?, ?, ?, ?, ?, 0)";
+
+    private static UUID bind(PreparedStatement insert, Customer customer) throws Exception {
+        insert.setObject(1, customer.getId());
+        insert.setString(2, customer.getFirstName());
+        insert.setString(3, customer.getMiddleName());
+        insert.setString(4, customer.getLastName());
+        insert.setString(5, customer.getEmailAddress());
+        insert.setString(6, customer.getPhoneNumber());
+        return customer.getId();
+    }
+
+    private static Customer customer(long row) {
+        Customer customer = new Customer();
+        customer.setId(CustomerIdVersion.V7.generate());
+        customer.setFirstName("First" + row);
+        customer.setLastName("Last" + row);
+        customer.setEmailAddress("customer" + row + "@example.com");
+        customer.setPhoneNumber("+1415555" + (row % 10_000));
+        return customer;
+    }
+
+    private static void delete(Path directory) throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private interface Inserter {
+        void insert() throws Exception;
+    }
+
+    private interface InserterFactory {
+        Inserter create() throws Exception;
+    }
+}
@@ -0,0 +1,116 @@
+package com.customer.management.test.benchmark;
+
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerNameIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares typeahead latency of the in-memory name index with SQL LIKE queries over the same
+ * rows. Excluded from the default build; run with {@code mvn test -P benchmark}, optionally
+ * with {@code -Dbenchmark.rows=...}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:name-search-benchmark;DB_CLOSE_DELAY=-1",
+        "customer.coherence.enabled=false"
+})
+public class CustomerNameSearchBenchmarkTest {
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+            "Linda", "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen", "José", "Zoë", "Annabelle", "Ann", "Björn"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Müller", "Schmidt", "Schneider", "Fischer", "Weber"};
+    private static final String[] QUERIES = {"j", "jo", "mar", "smi", "schm", "garc", "ann", "an sm", "will jo", "zo"};
+
+    private static final int LIMIT = 10;
+    // In-memory searches are cheap, so they get enough warm-up rounds for the JIT to settle
+    private static final int INDEX_WARMUP_ROUNDS = 50_000;
+    private static final int SQL_WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerNameIndex nameIndex;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+    @BeforeAll
+    void populate() {
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            // Suffix some names so the trie has deeper branches than the base vocabulary
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + (i % 7 == 0 ? "e" + (i % 97) : "");
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)] + (i % 5 == 0 ? "son" + (i % 89) : "");
+            batch.add(new Object[] {UUID.randomUUID(), firstName, lastName, "bench" + i + "@example.com"});
+            if (batch.size() == 5_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("insert into customer (id, first_name, last_name, email_address, version)"
+                        + " values (?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+        long start = System.nanoTime();
+        nameIndex.load();
+        System.out.printf("Name index build over %d rows: %d ms%n", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Test
+    void compareIndexWithSqlLike() {
+        long[] index = measure(INDEX_WARMUP_ROUNDS, query -> nameIndex.search(query, LIMIT));
+        long[] likePrefix = measure(SQL_WARMUP_ROUNDS, query -> customerRepository.findByNameLike(
+                CustomerNameIndex.tokenize(query)[0] + "%", PageRequest.of(0, LIMIT)));
+        long[] likeContains = measure(SQL_WARMUP_ROUNDS, query -> customerRepository.findByNameLike(
+                "%" + CustomerNameIndex.tokenize(query)[0] + "%", PageRequest.of(0, LIMIT)));
+
+        System.out.printf("Name search over %d rows, top-%d, %d queries (micros):%n", rows, LIMIT, MEASURED_ROUNDS);
+        report("trie index", index);
+        report("LIKE 'x%'", likePrefix);
+        report("LIKE '%x%'", likeContains);
+
+        assertFalse(nameIndex.search("smi", LIMIT).isEmpty());
+    }
+
+    private static long[] measure(int warmupRounds, Consumer<String> search) {
+        for (int i = 0; i < warmupRounds; i++) {
+            search.accept(QUERIES[i % QUERIES.length]);
+        }
+        long[] micros = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            search.accept(QUERIES[i % QUERIES.length]);
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static void report(String name, long[] sortedMicros) {
+        System.out.printf("  %-12s p50=%6d  p90=%6d  p99=%6d  max=%6d%n", name,
+                sortedMicros[sortedMicros.length / 2], sortedMicros[sortedMicros.length * 9 / 10],
+                sortedMicros[sortedMicros.length * 99 / 100], sortedMicros[sortedMicros.length - 1]);
+    }
+}
@@ -0,0 +1,128 @@
+package com.customer.management.test.benchmark;
+
+import com.customer.management.client.CustomerApiClient;
+import com.customer.management.client.HedgingStats;
+import com.sun.net.httpserver.HttpServer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures what hedging does to the tail latency of {@link CustomerApiClient#getCustomer} over
+ * two replicas that usually answer in about a millisecond but stall on a small share of
+ * requests, as a replica does during a GC pause or a slow disk read. Stub servers stand in for
+ * the replicas so that only the stalls differ between runs. Excluded from the default build; run
+ * with {@code mvn test -P benchmark -Dtest=HedgedRequestBenchmarkTest}.
+ */
+@Tag("benchmark")
+public class HedgedRequestBenchmarkTest {
+
+    private static final String CUSTOMER_JSON = "{\"id\":\"%s\",\"firstName\":\"Ada\",\"lastName\":\"Lovelace\","
+            + "\"emailAddress\":\"ada@example.com\",\"phoneNumber\":\"+14155550123\",\"version\":0}";
+
+    static {
+        // Without it the stub's separate header and body writes meet delayed ACKs: 40 ms per request
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final int requests = Integer.getInteger("benchmark.requests", 4_000);
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 8);
+    private final double stallProbability = Double.parseDouble(System.getProperty("benchmark.stall-probability", "0.02"));
+    private final long stallMillis = Long.getLong("benchmark.stall-ms", 100);
+
+    @Test
+    void compareUnhedgedAndHedgedGets() throws Exception {
+        List<HttpServer> replicas = List.of(startReplica(), startReplica());
+        try {
+            String[] baseUrls = replicas.stream()
+                    .map(replica -> "http://localhost:" + replica.getAddress().getPort())
+                    .toArray(String[]::new);
+            System.out.printf("GET /v1/customers/{id} over 2 replicas, %.1f%% of requests stall %d ms, "
+                    + "%d requests from %d concurrent callers:%n", stallProbability * 100, stallMillis, requests, concurrency);
+            Histogram unhedged = null;
+            Histogram hedged = null;
+            for (boolean hedging : new boolean[] {false, true}) {
+                try (CustomerApiClient client = CustomerApiClient.builder().baseUrls(baseUrls).hedging(hedging).build()) {
+                    run(client, requests / 4);
+                    Histogram latencies = run(client, requests);
+                    HedgingStats stats = client.hedgingStats();
+                    System.out.printf("  hedging=%-5s p50=%6.2f ms  p99=%7.2f ms  p99.9=%7.2f ms  max=%7.2f ms"
+                            + "  hedged=%4.1f%%  hedge delay=%.2f ms%n", hedging, millis(latencies, 50),
+                            millis(latencies, 99), millis(latencies, 99.9), latencies.getMaxValue() / 1000.0,
+                            100.0 * stats.hedgesSent() / stats.requests(), stats.hedgeDelayMillis());
+                    if (hedging) {
+                        hedged = latencies;
+                    } else {
+                        unhedged = latencies;
+                    }
+                }
+            }
+            assertTrue(hedged.getValueAtPercentile(99) < unhedged.getValueAtPercentile(99));
+        } finally {
+            replicas.forEach(replica -> replica.stop(0));
+        }
+    }
+
+    // Closed loop: each caller sends its next GET when the previous one is answered
+    private Histogram run(CustomerApiClient client, int count) {
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicInteger remaining = new AtomicInteger(count);
+        ExecutorService callerThreads = Executors.newFixedThreadPool(concurrency);
+        List<CompletableFuture<Void>> callers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            callers.add(CompletableFuture.runAsync(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    long start = System.nanoTime();
+                    client.getCustomer(UUID.randomUUID()).join();
+                    latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                }
+            }, callerThreads));
+        }
+        callers.forEach(CompletableFuture::join);
+        callerThreads.shutdown();
+        return latencies;
+    }
+
+    private HttpServer startReplica() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/customers/", exchange -> {
+            try {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Thread.sleep(random.nextDouble() < stallProbability ? stallMillis : 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = CUSTOMER_JSON.formatted(path.substring(path.lastIndexOf('/') + 1))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
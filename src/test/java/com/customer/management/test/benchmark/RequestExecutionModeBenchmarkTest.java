@@ -0,0 +1,230 @@
+package com.customer.management.test.benchmark;
+
+import com.customer.management.CustomermanagementApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the platform and virtual request execution modes under 1k and 5k concurrent
+ * closed-loop clients reading a page of customers. Every query is delayed by
+ * {@code benchmark.db-latency-ms} to stand in for a networked database, since the in-memory H2
+ * answers in microseconds. Excluded from the default build; run on Java 21 with
+ * {@code mvn test -P benchmark -Dtest=RequestExecutionModeBenchmarkTest}.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class RequestExecutionModeBenchmarkTest {
+
+    private static final int ROWS = 1_000;
+
+    private final int[] clientCounts = Arrays.stream(System.getProperty("benchmark.clients", "1000,5000").split(","))
+            .mapToInt(count -> Integer.parseInt(count.trim())).toArray();
+    private final long dbLatencyMillis = Long.getLong("benchmark.db-latency-ms", 5);
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+    private final Duration measured = Duration.ofSeconds(Long.getLong("benchmark.seconds", 15));
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        System.out.printf("GET /v1/customers/page?limit=20, %d ms per query, %s measured per run:%n",
+                dbLatencyMillis, measured);
+        for (String mode : new String[] {"platform", "virtual"}) {
+            try (ConfigurableApplicationContext context = start(mode)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                for (int clients : clientCounts) {
+                    run(port, clients, warmup);
+                    Result result = run(port, clients, measured);
+                    System.out.printf("  %-8s clients=%5d  throughput=%7.0f req/s  p50=%5d ms  p99=%5d ms"
+                            + "  max=%5d ms  errors=%d%n", mode, clients, result.throughput(), result.percentile(50),
+                            result.percentile(99), result.percentile(100), result.errors());
+                    assertTrue(result.completed() > 0);
+                }
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(String mode) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CustomermanagementApplication.class,
+                LatencyConfig.class)
+                .properties(
+                        "server.port=0",
+                        "customer.execution.mode=" + mode,
+                        "spring.datasource.url=jdbc:h2:mem:execution-benchmark-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "benchmark.db-latency-ms=" + dbLatencyMillis,
+                        "customer.coherence.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] {UUID.randomUUID(), "First" + i, "Last" + i, "load" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("insert into customer (id, first_name, last_name, email_address, version)"
+                + " values (?, ?, ?, ?, 0)", rows);
+        return context;
+    }
+
+    private static Result run(int port, int clients, Duration duration) {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/customers/page?limit=20"))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            loops[i] = loop(httpClient, request, deadline, recorder);
+        }
+        CompletableFuture.allOf(loops).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return recorder.result(seconds);
+    }
+
+    // One closed-loop client: sends the next request as soon as the previous one completes
+    private static CompletableFuture<Void> loop(HttpClient httpClient, HttpRequest request, long deadline,
+                                                LatencyRecorder recorder) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long sent = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    recorder.record((System.nanoTime() - sent) / 1_000_000, failure == null && response.statusCode() == 200);
+                    return null;
+                })
+                .thenCompose(ignored -> loop(httpClient, request, deadline, recorder));
+    }
+
+    private static final class LatencyRecorder {
+
+        private final List<long[]> chunks = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+        private long[] current = new long[1 << 16];
+        private int size;
+
+        synchronized void record(long millis, boolean success) {
+            if (!success) {
+                errors.incrementAndGet();
+                return;
+            }
+            if (size == current.length) {
+                chunks.add(current);
+                current = new long[current.length];
+                size = 0;
+            }
+            current[size++] = millis;
+        }
+
+        synchronized Result result(double seconds) {
+            long[] all = new long[chunks.size() * current.length + size];
+            int offset = 0;
+            for (long[] chunk : chunks) {
+                System.arraycopy(chunk, 0, all, offset, chunk.length);
+                offset += chunk.length;
+            }
+            System.arraycopy(current, 0, all, offset, size);
+            Arrays.sort(all);
+            return new Result(all, all.length / seconds, errors.get());
+        }
+    }
+
+    private record Result(long[] sortedMillis, double throughput, long errors) {
+
+        long completed() {
+            return sortedMillis.length;
+        }
+
+        long percentile(int percentile) {
+            if (sortedMillis.length == 0) {
+                return 0;
+            }
+            return sortedMillis[Math.min(sortedMillis.length - 1, sortedMillis.length * percentile / 100)];
+        }
+    }
+
+    /**
+     * Delays every query executed on a pooled connection, so the connection is held as long as
+     * it would be against a remote database. Registered as an application source only, so
+     * component scanning in other tests never picks it up.
+     */
+    static class LatencyConfig {
+
+        @Bean
+        static BeanPostProcessor queryLatencyPostProcessor(org.springframework.core.env.Environment environment) {
+            long latencyMillis = environment.getProperty("benchmark.db-latency-ms", Long.class, 0L);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || latencyMillis == 0) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return delayed(super.getConnection(), latencyMillis);
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection delayed(Connection connection, long latencyMillis) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return delayed(statement, latencyMillis);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement delayed(PreparedStatement statement, long latencyMillis) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            Thread.sleep(latencyMillis);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.customer.management.test.controller;
 
 import com.customer.management.controller.CustomerController;
+import com.customer.management.dto.CustomerField;
+import com.customer.management.dto.CustomerFields;
+import com.customer.management.dto.CustomerPage;
+import com.customer.management.dto.CustomerSortOrder;
 import com.customer.management.entity.Customer;
 import com.customer.management.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +16,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -73,16 +80,60 @@ class CustomerControllerTest {
         assertEquals("Email", response.getBody().get(0).getLastName());
     }
 
+    @Test
+    public void testGetCustomerPage() {
+        when(customerService.getCustomerPage(10, null, CustomerSortOrder.NAME))
+                .thenReturn(new CustomerPage(Collections.singletonList(mockCustomer), "cursor"));
+
+        ResponseEntity<CustomerPage> response = customerController.getCustomerPage(10, null, "name");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CustomerPage page = response.getBody();
+        assertEquals(1, page.getItems().size());
+        assertEquals("cursor", page.getNext());
+    }
+
     @Test
     public void testGetCustomerById() {
         when(customerService.getCustomerById(mockCustomer.getId())).thenReturn(mockCustomer);
 
-        ResponseEntity<Customer> response = customerController.getCustomerById(mockCustomer.getId());
+        ResponseEntity<Customer> response = customerController.getCustomerById(mockCustomer.getId(), null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals("Test", response.getBody().getFirstName());
-        assertEquals("Email", response.getBody().getLastName());
+        Customer customer = response.getBody();
+        assertNotNull(customer);
+        assertEquals("Test", customer.getFirstName());
+        assertEquals("Email", customer.getLastName());
+    }
+
+    @Test
+    public void testGetCustomerById_WithFields_ReturnsOnlyTheSelectedFields() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", mockCustomer.getId());
+        values.put("emailAddress", "testEmail@test.com");
+        when(customerService.getCustomerFields(mockCustomer.getId(),
+                EnumSet.of(CustomerField.ID, CustomerField.EMAIL_ADDRESS))).thenReturn(new CustomerFields(4L, values));
+
+        ResponseEntity<Map<String, Object>> response =
+                customerController.getCustomerFieldsById(mockCustomer.getId(), null, null, "emailAddress, id");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        assertSame(values, response.getBody());
+        verify(customerService, never()).getCustomerById(any(UUID.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> customerController.getCustomerFieldsById(mockCustomer.getId(), null, null, "id,password"));
+    }
+
+    @Test
+    public void testGetCustomerById_NotModified() {
+        when(customerService.getCustomerVersion(mockCustomer.getId())).thenReturn(2L);
+
+        ResponseEntity<Customer> response = customerController.getCustomerById(mockCustomer.getId(), "W/\"2\"", null);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"2\"", response.getHeaders().getETag());
+        verify(customerService, never()).getCustomerById(any(UUID.class));
     }
     
     @Test
@@ -91,9 +142,9 @@ class CustomerControllerTest {
         updatedCustomer.setFirstName("Test");
         updatedCustomer.setLastName("Email");
 
-        when(customerService.updateCustomer(any(UUID.class), any(Customer.class))).thenReturn(updatedCustomer);
+        when(customerService.updateCustomer(any(UUID.class), any(Customer.class), eq(3L))).thenReturn(updatedCustomer);
 
-        ResponseEntity<Customer> response = customerController.updateCustomer(mockCustomer.getId(), updatedCustomer);
+        ResponseEntity<Customer> response = customerController.updateCustomer(mockCustomer.getId(), updatedCustomer, "\"3\"");
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Test", response.getBody().getFirstName());
@@ -102,12 +153,12 @@ class CustomerControllerTest {
 
     @Test
     public void testDeleteCustomer() {
-        doNothing().when(customerService).deleteCustomer(mockCustomer.getId());
+        doNothing().when(customerService).deleteCustomer(mockCustomer.getId(), null);
 
-        ResponseEntity<Void> response = customerController.deleteCustomer(mockCustomer.getId());
+        ResponseEntity<Void> response = customerController.deleteCustomer(mockCustomer.getId(), null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
-        verify(customerService, times(1)).deleteCustomer(mockCustomer.getId());
+        verify(customerService, times(1)).deleteCustomer(mockCustomer.getId(), null);
     }
 }
 
@@ -0,0 +1,173 @@
+package com.customer.management.test.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import com.customer.management.config.DroppingAsyncAppender;
+import com.customer.management.config.RequestLoggingFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLoggingFilterTest {
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private RequestLoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        events.start();
+        filterLogger.addAppender(events);
+        filter = new RequestLoggingFilter();
+        ReflectionTestUtils.setField(filter, "defaultSampleRate", 1.0);
+        ReflectionTestUtils.setField(filter, "endpointSampleRates", "GET /v1/customers/{id}=0, GET /v1/customers/page=1");
+        ReflectionTestUtils.invokeMethod(filter, "parseSampleRates");
+    }
+
+    @AfterEach
+    void tearDown() {
+        filterLogger.detachAppender(events);
+    }
+
+    @Test
+    void successes_AreSampledPerEndpoint() throws Exception {
+        perform("GET", "/v1/customers/{id}", 200);
+        perform("GET", "/v1/customers/page", 200);
+
+        assertEquals(1, events.list.size());
+        Map<String, Object> line = keyValues(events.list.get(0));
+        assertEquals("/v1/customers/page", line.get("route"));
+        assertEquals(200, line.get("status"));
+        assertEquals(1.0, line.get("sampleRate"));
+    }
+
+    @Test
+    void errors_AreAlwaysLoggedWithoutTheQueryString() throws Exception {
+        perform("GET", "/v1/customers/{id}", 404);
+        perform("GET", "/v1/customers/{id}", 503);
+
+        assertEquals(List.of(Level.INFO, Level.WARN), events.list.stream().map(ILoggingEvent::getLevel).toList());
+        assertEquals(404, keyValues(events.list.get(0)).get("status"));
+        assertTrue(events.list.stream().flatMap(event -> keyValues(event).values().stream())
+                .noneMatch(value -> value.toString().contains("ada@example.com")));
+    }
+
+    @Test
+    void asyncTimeoutAndError_AreLoggedOnceAsWarnings() throws Exception {
+        for (boolean timeout : new boolean[] {true, false}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/customers/export");
+            request.setAsyncSupported(true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, (req, res) -> {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/customers/export");
+                req.startAsync(req, res);
+            });
+            MockAsyncContext context = (MockAsyncContext) request.getAsyncContext();
+            AsyncEvent event = new AsyncEvent(context, request, response);
+            for (AsyncListener listener : context.getListeners()) {
+                if (timeout) {
+                    listener.onTimeout(event);
+                } else {
+                    listener.onError(event);
+                }
+            }
+            // The container completes the request afterwards
+            context.complete();
+        }
+
+        assertEquals(List.of(Level.WARN, Level.WARN), events.list.stream().map(ILoggingEvent::getLevel).toList());
+        assertEquals(503, keyValues(events.list.get(0)).get("status"));
+        assertEquals(500, keyValues(events.list.get(1)).get("status"));
+    }
+
+    @Test
+    void asyncAppender_CountsDroppedInfoEventsButQueuesWarnings() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingAppender delegate = new BlockingAppender(release);
+        DroppingAsyncAppender async = new DroppingAsyncAppender();
+        LoggerContext context = filterLogger.getLoggerContext();
+        delegate.setContext(context);
+        delegate.start();
+        async.setContext(context);
+        async.setQueueSize(4);
+        async.setDropThreshold(2);
+        async.addAppender(delegate);
+        async.start();
+        try {
+            for (int i = 0; i < 10; i++) {
+                async.doAppend(event(Level.INFO, "info " + i));
+            }
+            long dropped = async.getDroppedCount();
+            assertTrue(dropped > 0, "Nothing dropped");
+
+            async.doAppend(event(Level.WARN, "warning"));
+            assertEquals(dropped, async.getDroppedCount());
+        } finally {
+            release.countDown();
+            async.stop();
+        }
+        assertTrue(delegate.messages.contains("warning"), delegate.messages.toString());
+    }
+
+    private void perform(String method, String route, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/v1/customers/by-email");
+        request.setQueryString("email=ada@example.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+            ((MockHttpServletResponse) res).setStatus(status);
+        });
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream().collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(getClass().getName(), filterLogger, level, message, null, null);
+    }
+
+    // Holds the async appender's worker on the first event so its queue fills up
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch release;
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        BlockingAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.CustomermanagementApplication;
+import com.customer.management.client.CustomerApiClient;
+import com.customer.management.client.CustomerApiException;
+import com.customer.management.client.HedgingStats;
+import com.customer.management.client.dto.Customer;
+import com.customer.management.client.dto.CustomerPage;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link CustomerApiClient} against this test's server and a second instance on the same
+ * in-memory database, plus a stub replica that stalls, to check replica spreading, hedging and
+ * failover.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CustomerApiClientIntegrationTest {
+
+    private ConfigurableApplicationContext secondInstance;
+    private HttpServer stallingReplica;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    void startReplicas() throws Exception {
+        // Runs after this test's context created the schema; the second instance must not drop it on shutdown
+        secondInstance = new SpringApplicationBuilder(CustomermanagementApplication.class)
+                .run("--server.port=0", "--spring.jpa.hibernate.ddl-auto=none", "--spring.sql.init.mode=never");
+        stallingReplica = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stallingReplica.createContext("/", exchange -> {
+            try {
+                Thread.sleep(3_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        stallingReplica.setExecutor(Executors.newCachedThreadPool());
+        stallingReplica.start();
+    }
+
+    @AfterAll
+    void stopReplicas() {
+        stallingReplica.stop(0);
+        secondInstance.close();
+    }
+
+    @Test
+    void crud_RoundTripsTypedCustomersWithVersions() {
+        try (CustomerApiClient client = CustomerApiClient.builder().baseUrls(url(port)).build()) {
+            Customer created = client.createCustomer(customer("Ada", "ada.client@example.com")).join();
+            assertEquals(7, created.getId().version());
+            assertEquals(0L, created.getVersion());
+
+            Customer read = client.getCustomer(created.getId()).join();
+            assertEquals("ada.client@example.com", read.getEmailAddress());
+            assertEquals(0L, read.getVersion());
+
+            read.setFirstName("Augusta");
+            Customer updated = client.updateCustomer(created.getId(), read).join();
+            assertEquals("Augusta", updated.getFirstName());
+            assertEquals(1L, updated.getVersion());
+
+            // The version read before the update is stale now
+            CustomerApiException stale = apiError(client.updateCustomer(created.getId(), read));
+            assertEquals(412, stale.getStatus());
+            assertNotNull(stale.getErrorResponse());
+
+            client.deleteCustomer(created.getId(), updated.getVersion()).join();
+            CustomerApiException missing = apiError(client.getCustomer(created.getId()));
+            assertEquals(404, missing.getStatus());
+            assertEquals("Resource Not Found", missing.getErrorResponse().getError());
+        }
+    }
+
+    @Test
+    void create_ReportsFieldErrors() {
+        try (CustomerApiClient client = CustomerApiClient.builder().baseUrls(url(port)).build()) {
+            CustomerApiException invalid = apiError(client.createCustomer(customer("Bad", "not-an-email")));
+
+            assertEquals(400, invalid.getStatus());
+            assertTrue(invalid.getFieldErrors().containsKey("emailAddress"), invalid.getFieldErrors().toString());
+        }
+    }
+
+    @Test
+    void requests_AreSpreadOverBothInstances() {
+        try (CustomerApiClient client = CustomerApiClient.builder()
+                .baseUrls(url(port), url(((WebServerApplicationContext) secondInstance).getWebServer().getPort()))
+                .build()) {
+            List<CompletableFuture<Customer>> creates = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                creates.add(client.createCustomer(customer("Replica" + i, "replica" + i + ".client@example.com")));
+            }
+            for (CompletableFuture<Customer> create : creates) {
+                UUID id = create.join().getId();
+                assertEquals(id, client.getCustomer(id).join().getId());
+            }
+            CustomerPage page = client.getCustomerPage(2, null).join();
+            assertEquals(2, page.getItems().size());
+            assertEquals(7, client.hedgingStats().requests());
+        }
+    }
+
+    @Test
+    void get_IsHedgedToTheOtherReplicaWhenTheFirstStalls() {
+        try (CustomerApiClient client = CustomerApiClient.builder()
+                .baseUrls(url(stallingReplica.getAddress().getPort()), url(port))
+                .initialHedgeDelay(Duration.ofMillis(50))
+                .build()) {
+            Customer created = client.createCustomer(customer("Hedge", "hedge.client@example.com"))
+                    .exceptionally(error -> null).join();
+            // The create went to the stalling replica and failed; writes are never retried
+            assertNull(created);
+
+            Customer stored = client.createCustomer(customer("Hedge", "hedge.client@example.com")).join();
+            long start = System.nanoTime();
+            // Round robin starts the read on the stalling replica again
+            Customer read = client.getCustomer(stored.getId()).join();
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(stored.getId(), read.getId());
+            assertTrue(millis < 2_000, "Hedged GET took " + millis + " ms");
+            HedgingStats stats = client.hedgingStats();
+            assertEquals(1, stats.hedgesSent());
+            assertEquals(1, stats.hedgesWon());
+        }
+    }
+
+    @Test
+    void get_FailsOverAtOnceWhenAReplicaIsDown() throws Exception {
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+        try (CustomerApiClient client = CustomerApiClient.builder()
+                .baseUrls(url(deadPort), url(port))
+                .initialHedgeDelay(Duration.ofSeconds(5))
+                .build()) {
+            CustomerPage page = client.getCustomerPage(1, null).join();
+
+            assertNotNull(page.getItems());
+            assertEquals(1, client.hedgingStats().hedgesWon());
+        }
+    }
+
+    private static String url(int port) {
+        return "http://localhost:" + port;
+    }
+
+    private static Customer customer(String firstName, String email) {
+        Customer customer = new Customer();
+        customer.setFirstName(firstName);
+        customer.setLastName("Client");
+        customer.setEmailAddress(email);
+        customer.setPhoneNumber("+14155550123");
+        return customer;
+    }
+
+    private static CustomerApiException apiError(CompletableFuture<?> call) {
+        CompletionException error = assertThrows(CompletionException.class, call::join);
+        return assertInstanceOf(CustomerApiException.class, error.getCause());
+    }
+}
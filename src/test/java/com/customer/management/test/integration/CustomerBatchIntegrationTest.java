@@ -0,0 +1,116 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.dto.BatchOperationType;
+import com.customer.management.dto.CustomerBatchOperation;
+import com.customer.management.dto.CustomerBatchRequest;
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CustomerBatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Customer existing;
+    private Customer toDelete;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+        existing = customerRepository.save(customer("existing", "existing@test.com"));
+        toDelete = customerRepository.save(customer("doomed", "doomed@test.com"));
+    }
+
+    @Test
+    void applyBatch_ReportsPerItemResults() throws Exception {
+        CustomerBatchRequest request = new CustomerBatchRequest(Arrays.asList(
+                new CustomerBatchOperation(BatchOperationType.CREATE, null, customer("created", "created@test.com")),
+                new CustomerBatchOperation(BatchOperationType.UPDATE, existing.getId(), customer("renamed", "existing@test.com")),
+                new CustomerBatchOperation(BatchOperationType.DELETE, toDelete.getId(), null),
+                new CustomerBatchOperation(BatchOperationType.CREATE, null, customer("invalid", "not-an-email")),
+                new CustomerBatchOperation(BatchOperationType.DELETE, UUID.randomUUID(), null)));
+
+        mockMvc.perform(post("/v1/customers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(3))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].id").isNotEmpty())
+                .andExpect(jsonPath("$.results[1].status").value(200))
+                .andExpect(jsonPath("$.results[2].status").value(204))
+                .andExpect(jsonPath("$.results[3].status").value(400))
+                .andExpect(jsonPath("$.results[3].errors[0]").value("emailAddress: Email should be valid."))
+                .andExpect(jsonPath("$.results[4].status").value(404));
+
+        assertEquals(2, customerRepository.count());
+        assertEquals("renamed", customerRepository.findById(existing.getId()).orElseThrow().getFirstName());
+        assertFalse(customerRepository.existsById(toDelete.getId()));
+    }
+
+    @Test
+    void applyBatch_EmailClaimedEarlierInBatch_ConflictsPerItem() throws Exception {
+        CustomerBatchRequest request = new CustomerBatchRequest(Arrays.asList(
+                new CustomerBatchOperation(BatchOperationType.CREATE, null, customer("first", "shared@test.com")),
+                new CustomerBatchOperation(BatchOperationType.CREATE, null, customer("second", "Shared@Test.com")),
+                new CustomerBatchOperation(BatchOperationType.UPDATE, existing.getId(), customer("moved", "shared@test.com")),
+                new CustomerBatchOperation(BatchOperationType.CREATE, null, customer("other", "other@test.com"))));
+
+        mockMvc.perform(post("/v1/customers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].status").value(409))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("Email address Shared@Test.com is already used by operation 0 in this batch."))
+                .andExpect(jsonPath("$.results[2].status").value(409))
+                .andExpect(jsonPath("$.results[3].status").value(201));
+
+        assertEquals(4, customerRepository.count());
+        assertEquals("existing@test.com", customerRepository.findById(existing.getId()).orElseThrow().getEmailAddress());
+    }
+
+    @Test
+    void applyBatch_EmptyBatch_BadRequest() throws Exception {
+        mockMvc.perform(post("/v1/customers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CustomerBatchRequest(Collections.emptyList()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Customer customer(String firstName, String email) {
+        Customer customer = new Customer();
+        customer.setFirstName(firstName);
+        customer.setLastName("batch");
+        customer.setEmailAddress(email);
+        return customer;
+    }
+}
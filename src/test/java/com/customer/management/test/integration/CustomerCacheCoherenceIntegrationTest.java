@@ -0,0 +1,80 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.CustomermanagementApplication;
+import com.customer.management.dto.CoherenceStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.service.CustomerChangeLogPoller;
+import com.customer.management.service.CustomerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application contexts sharing one database stand in for two replicas.
+ */
+public class CustomerCacheCoherenceIntegrationTest {
+
+    private ConfigurableApplicationContext replicaA;
+    private ConfigurableApplicationContext replicaB;
+
+    @BeforeEach
+    void startReplicas() {
+        String url = "jdbc:h2:mem:coherence-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        replicaA = startReplica(url, "create-drop");
+        replicaB = startReplica(url, "none");
+    }
+
+    @AfterEach
+    void stopReplicas() {
+        replicaB.close();
+        replicaA.close();
+    }
+
+    @Test
+    void updateOnOneReplica_InvalidatesCacheOnTheOther() throws Exception {
+        CustomerService serviceA = replicaA.getBean(CustomerService.class);
+        CustomerService serviceB = replicaB.getBean(CustomerService.class);
+
+        Customer customer = new Customer();
+        customer.setFirstName("before");
+        customer.setLastName("coherence");
+        customer.setEmailAddress("coherence@test.com");
+        UUID id = serviceA.createCustomer(customer).getId();
+
+        assertEquals("before", serviceB.getCustomerById(id).getFirstName());
+
+        Customer update = new Customer();
+        update.setFirstName("after");
+        update.setLastName("coherence");
+        update.setEmailAddress("coherence@test.com");
+        serviceA.updateCustomer(id, update);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"after".equals(serviceB.getCustomerById(id).getFirstName())) {
+            assertTrue(System.currentTimeMillis() < deadline, "replica B still serves a stale customer");
+            Thread.sleep(20);
+        }
+
+        CoherenceStats statsB = replicaB.getBean(CustomerChangeLogPoller.class).stats();
+        assertTrue(statsB.getRemoteChangesApplied() >= 1);
+        assertTrue(statsB.getMaxLagMillis() < 5000);
+        assertEquals(0, replicaA.getBean(CustomerChangeLogPoller.class).stats().getRemoteChangesApplied());
+    }
+
+    private static ConfigurableApplicationContext startReplica(String url, String ddlAuto) {
+        // Arguments rather than default properties, which application.properties would override
+        return new SpringApplicationBuilder(CustomermanagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--customer.coherence.enabled=true",
+                        "--customer.coherence.poll-interval-ms=50");
+    }
+}
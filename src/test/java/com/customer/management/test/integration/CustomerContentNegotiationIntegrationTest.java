@@ -0,0 +1,176 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Smile and CBOR bodies on the customer API, and the hand-written serializers behind all formats.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CustomerContentNegotiationIntegrationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    // Plain Jackson, as a client without this application's serializers would use
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void smileAndCbor_AreNegotiatedPerRequest() throws Exception {
+        Customer customer = customer("smile@negotiation.test");
+        byte[] created = mockMvc.perform(post("/v1/customers")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(customer)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+        Customer saved = smileMapper.readValue(created, Customer.class);
+        assertNotNull(saved.getId());
+        assertEquals("Ada", saved.getFirstName());
+
+        byte[] cbor = mockMvc.perform(get("/v1/customers/" + saved.getId()).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(saved, cborMapper.readValue(cbor, Customer.class));
+
+        byte[] byEmail = mockMvc.perform(get("/v1/customers/by-email").param("email", "smile@negotiation.test").accept(SMILE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(saved.getId(), smileMapper.readValue(byEmail, Customer.class).getId());
+
+        // JSON stays the default
+        mockMvc.perform(get("/v1/customers/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.firstName").value("Ada"));
+
+        byte[] error = mockMvc.perform(get("/v1/customers/" + UUID.randomUUID()).accept(CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertTrue(cborMapper.readValue(error, ErrorResponse.class).getMessage().startsWith("Customer not found"));
+
+        mockMvc.perform(post("/v1/customers")
+                        .contentType(CBOR)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .content(cborMapper.writeValueAsBytes(customer("not-an-email"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void eachFormat_HasItsOwnETag_AndResponsesVaryByAccept() throws Exception {
+        byte[] created = mockMvc.perform(post("/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(CBOR)
+                        .content(objectMapper.writeValueAsBytes(customer("etag@negotiation.test"))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        UUID id = cborMapper.readValue(created, Customer.class).getId();
+
+        mockMvc.perform(get("/v1/customers/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+        mockMvc.perform(get("/v1/customers/" + id).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-smile\""));
+        mockMvc.perform(get("/v1/customers/" + id).header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                .andExpect(content().contentType(CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-cbor\""));
+
+        // A tag only revalidates the encoding it was issued for
+        mockMvc.perform(get("/v1/customers/" + id).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR));
+        mockMvc.perform(get("/v1/customers/" + id).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, "\"0-cbor\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-cbor\""));
+        mockMvc.perform(get("/v1/customers/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"0-cbor\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        // If-Match takes the tag of any format
+        Customer update = customer("etag@negotiation.test");
+        update.setFirstName("Grace");
+        mockMvc.perform(put("/v1/customers/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(SMILE)
+                        .header(HttpHeaders.IF_MATCH, "\"0-cbor\"")
+                        .content(objectMapper.writeValueAsBytes(update)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-smile\""));
+    }
+
+    @Test
+    void handWrittenSerializers_MatchJacksonsBeanSerializers() throws Exception {
+        Customer customer = customer("match@negotiation.test");
+        customer.setId(UUID.randomUUID());
+        customer.setVersion(3L);
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.of(2024, 5, 1, 12, 0), "Not Found",
+                "Customer not found", Arrays.asList("first", null));
+
+        for (Jackson2ObjectMapperBuilder builder : List.of(Jackson2ObjectMapperBuilder.json(),
+                Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()),
+                Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()))) {
+            ObjectMapper plain = builder.build();
+            ObjectMapper tuned = objectMapper.copyWith(plain.getFactory());
+            plain.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            String format = plain.getFactory().getFormatName();
+
+            assertArrayEquals(plain.writeValueAsBytes(customer), tuned.writeValueAsBytes(customer), format);
+            assertArrayEquals(plain.writeValueAsBytes(errorResponse), tuned.writeValueAsBytes(errorResponse), format);
+
+            Customer read = tuned.readValue(plain.writeValueAsBytes(customer), Customer.class);
+            assertEquals(customer.getId(), read.getId());
+            assertEquals(customer.getEmailAddress(), read.getEmailAddress());
+            assertNull(read.getVersion(), "version is read-only");
+            ErrorResponse readError = tuned.readValue(plain.writeValueAsBytes(errorResponse), ErrorResponse.class);
+            assertEquals(errorResponse.getTimestamp(), readError.getTimestamp());
+            assertEquals(errorResponse.getDetails(), readError.getDetails());
+        }
+    }
+
+    private static Customer customer(String email) {
+        Customer customer = new Customer();
+        customer.setFirstName("Ada");
+        customer.setLastName("Lovelace");
+        customer.setEmailAddress(email);
+        return customer;
+    }
+}
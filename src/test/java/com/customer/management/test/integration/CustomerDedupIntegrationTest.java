@@ -0,0 +1,126 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerDedupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CustomerDedupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerDedupService dedupService;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void dedupJob_ClustersNearDuplicates() throws Exception {
+        UUID jon = save("Jonathan", "Smith", "jon.smith@example.com", "+491511234567").getId();
+        UUID jonAgain = save("Jon", "Smyth", "jonsmith+news@example.org", "1511234567").getId();
+        UUID jane = save("Jane", "Doe", "jane.doe@example.com", "+15550100").getId();
+        save("Ada", "Lovelace", "ada@example.com", null);
+
+        String accepted = mockMvc.perform(post("/v1/customers/dedup-jobs"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(accepted).get("jobId").asText();
+
+        JsonNode status = awaitCompletion(jobId);
+
+        assertEquals("COMPLETED", status.get("state").asText());
+        assertEquals(4, status.get("rowsScanned").asLong());
+        assertEquals(1, status.get("clusters").asLong());
+
+        String body = mockMvc.perform(get("/v1/customers/dedup-jobs/{jobId}/clusters", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode cluster = objectMapper.readTree(body).get(0);
+        Set<String> ids = new HashSet<>();
+        cluster.get("customerIds").forEach(id -> ids.add(id.asText()));
+        assertEquals(Set.of(jon.toString(), jonAgain.toString()), ids);
+        assertFalse(ids.contains(jane.toString()));
+        assertTrue(cluster.get("score").asDouble() >= 0.6);
+    }
+
+    @Test
+    void dedupJob_MoreCustomersThanMaxRows_Fails() throws Exception {
+        save("Jonathan", "Smith", "jon.smith@example.com", null);
+        save("Jon", "Smyth", "jonsmith@example.org", null);
+        ReflectionTestUtils.setField(dedupService, "maxRows", 1);
+        try {
+            String accepted = mockMvc.perform(post("/v1/customers/dedup-jobs"))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode status = awaitCompletion(objectMapper.readTree(accepted).get("jobId").asText());
+
+            assertEquals("FAILED", status.get("state").asText());
+            assertTrue(status.get("error").asText().contains("customer.dedup.max-rows"));
+        } finally {
+            ReflectionTestUtils.setField(dedupService, "maxRows", 1_000_000);
+        }
+    }
+
+    @Test
+    void getDedupJob_UnknownJob_NotFound() throws Exception {
+        mockMvc.perform(get("/v1/customers/dedup-jobs/{jobId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private Customer save(String firstName, String lastName, String email, String phone) {
+        Customer customer = new Customer();
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        customer.setEmailAddress(email);
+        customer.setPhoneNumber(phone);
+        return customerRepository.save(customer);
+    }
+
+    private JsonNode awaitCompletion(String jobId) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/v1/customers/dedup-jobs/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode status = objectMapper.readTree(body);
+            String state = status.get("state").asText();
+            if ("COMPLETED".equals(state) || "FAILED".equals(state)) {
+                return status;
+            }
+            Thread.sleep(100);
+        }
+        fail("Dedup job did not finish in time");
+        return null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CustomerExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+
+        for (int i = 0; i < 3; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("export" + i);
+            customer.setLastName("customer");
+            customer.setEmailAddress("export" + i + "@test.com");
+            customerRepository.save(customer);
+        }
+    }
+
+    @Test
+    void exportCustomers_StreamsOneJsonObjectPerLine() throws Exception {
+        MvcResult result = mockMvc.perform(get("/v1/customers/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Only the export runs with the long timeout
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(body.endsWith("\n"));
+        for (String line : lines) {
+            Customer customer = objectMapper.readValue(line, Customer.class);
+            assertNotNull(customer.getId());
+            assertTrue(customer.getFirstName().startsWith("export"));
+        }
+    }
+
+    @Test
+    void exportCustomers_GzipWhenRequested() throws Exception {
+        MvcResult result = mockMvc.perform(get("/v1/customers/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] compressed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(3, body.split("\n").length);
+        }
+
+        mockMvc.perform(get("/v1/stats/export"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exportsCompleted").isNumber())
+                .andExpect(jsonPath("$.rowsExported").isNumber());
+    }
+}
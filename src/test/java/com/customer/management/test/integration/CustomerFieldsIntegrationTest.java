@@ -0,0 +1,127 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sparse fieldsets read through the repository projections; the column store is disabled so
+ * that every read reaches the database.
+ */
+@SpringBootTest(properties = {"customer.column-store.enabled=false", "customer.cache.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureMockMvc
+public class CustomerFieldsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getCustomerById_WithFields_SelectsOnlyThoseColumns() throws Exception {
+        String id = create("Ada", "Lovelace", "ada@fields.test");
+        statistics.clear();
+
+        mockMvc.perform(get("/v1/customers/" + id).param("fields", "id,emailAddress"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.emailAddress").value("ada@fields.test"));
+
+        assertEquals(0, customerLoads(), "no customer entity is loaded");
+
+        mockMvc.perform(get("/v1/customers/" + id).param("fields", "middleName,version"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.middleName").isEmpty())
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(get("/v1/customers/" + id).param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/customers/00000000-0000-7000-8000-000000000000").param("fields", "id"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listings_WithFields_PageThroughProjections() throws Exception {
+        create("Grace", "Hopper", "grace@page.fields.test");
+        create("Alan", "Turing", "alan@page.fields.test");
+        create("Ada", "Lovelace", "ada@page.fields.test");
+        statistics.clear();
+
+        List<String> emails = new ArrayList<>();
+        String after = null;
+        do {
+            var request = get("/v1/customers/page").param("sort", "name").param("limit", "2")
+                    .param("fields", "emailAddress");
+            if (after != null) {
+                request.param("after", after);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].length()").value(1))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> emails.add(item.get("emailAddress").asText()));
+            after = page.hasNonNull("next") ? page.get("next").asText() : null;
+        } while (after != null);
+
+        assertEquals(List.of("grace@page.fields.test", "ada@page.fields.test", "alan@page.fields.test"), emails);
+
+        mockMvc.perform(get("/v1/customers").param("fields", "lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].length()").value(1));
+        assertEquals(0, customerLoads(), "no customer entity is loaded");
+    }
+
+    // The change log poller loads its own entities in the background
+    private long customerLoads() {
+        return statistics.getEntityStatistics(Customer.class.getName()).getLoadCount();
+    }
+
+    private String create(String firstName, String lastName, String email) throws Exception {
+        String body = mockMvc.perform(post("/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + lastName
+                                + "\",\"emailAddress\":\"" + email + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asText();
+    }
+}
@@ -0,0 +1,90 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "customer.import.chunk-size=2")
+@AutoConfigureMockMvc
+public class CustomerImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void importUpload_ImportsValidRowsAndReportsRejections() throws Exception {
+        String csv = "firstName,lastName,emailAddress,phoneNumber\n"
+                + "Ada,Lovelace,ada@test.com,+4412345\n"
+                + "\"Grace, Jr\",Hopper,grace@test.com,\n"
+                + "Alan,Turing,not-an-email,\n"
+                + "Edsger,Dijkstra,edsger@test.com,\n"
+                + "Duplicate,Email,ada@test.com,\n";
+        MockMultipartFile file = new MockMultipartFile("file", "customers.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        String accepted = mockMvc.perform(multipart("/v1/customers/imports").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(accepted).get("jobId").asText();
+
+        JsonNode status = awaitCompletion(jobId);
+
+        assertEquals("COMPLETED", status.get("state").asText());
+        assertEquals(5, status.get("rowsRead").asLong());
+        assertEquals(3, status.get("rowsImported").asLong());
+        assertEquals(2, status.get("rowsRejected").asLong());
+        assertEquals(3, customerRepository.count());
+
+        mockMvc.perform(get("/v1/customers/imports/{jobId}/rejections", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void getImportJob_UnknownJob_NotFound() throws Exception {
+        mockMvc.perform(get("/v1/customers/imports/{jobId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitCompletion(String jobId) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/v1/customers/imports/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode status = objectMapper.readTree(body);
+            String state = status.get("state").asText();
+            if ("COMPLETED".equals(state) || "FAILED".equals(state)) {
+                return status;
+            }
+            Thread.sleep(100);
+        }
+        fail("Import job did not finish in time");
+        return null;
+    }
+}
@@ -2,11 +2,13 @@ package com.customer.management.test.integration;
 
 import com.customer.management.entity.Customer;
 import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -14,10 +16,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// Default configuration, column store included, on a database of its own: rows that other test
+// classes delete through the repository would otherwise stay in this context's column store.
+// Rows are seeded through the service, which publishes the change events the replicas follow.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:customer-integration;DB_CLOSE_DELAY=-1")
 @AutoConfigureMockMvc
 public class CustomerIntegrationTest {
 
@@ -27,6 +33,9 @@ public class CustomerIntegrationTest {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private CustomerService customerService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -34,14 +43,14 @@ public class CustomerIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        customerRepository.deleteAll(); 
+        customerRepository.findAll().forEach(customer -> customerService.deleteCustomer(customer.getId()));
 
         mockCustomer = new Customer();
         mockCustomer.setFirstName("test");
         mockCustomer.setLastName("email");
         mockCustomer.setEmailAddress("testemail@test.com");
         mockCustomer.setPhoneNumber("12345");
-        customerRepository.save(mockCustomer);
+        customerService.createCustomer(mockCustomer);
     }
 
     @Test
@@ -70,7 +79,41 @@ public class CustomerIntegrationTest {
                 .andExpect(jsonPath("$[0].lastName").value("email"))
                 .andExpect(jsonPath("$[0].emailAddress").value("testemail@test.com"))
                 .andExpect(jsonPath("$[0].phoneNumber").value("12345"));
-        
+        // Served by the column store replica
+        mockMvc.perform(get("/v1/stats/column-store"))
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.customerCount").value(1));
+    }
+
+    @Test
+    void getCustomerPage_WalksAllCustomersWithCursor() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("page" + i);
+            customer.setLastName("customer");
+            customer.setEmailAddress("page" + i + "@test.com");
+            customerService.createCustomer(customer);
+        }
+
+        String body = mockMvc.perform(get("/v1/customers/page").param("limit", "2").param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].firstName").value("page0"))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(body).get("next").asText();
+
+        mockMvc.perform(get("/v1/customers/page").param("limit", "2").param("sort", "name").param("after", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].lastName").value("email"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void getCustomerPage_InvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(get("/v1/customers/page").param("after", "%%%"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -103,6 +146,211 @@ public class CustomerIntegrationTest {
                 .andExpect(jsonPath("$.lastName").value("email2"));
     }
 
+    @Test
+    void updateCustomer_InvalidatesCachedCustomer() throws Exception {
+        UUID customerId = mockCustomer.getId();
+        mockMvc.perform(get("/v1/customers/{id}", customerId))
+                .andExpect(jsonPath("$.firstName").value("test"));
+
+        Customer updatedCustomer = new Customer();
+        updatedCustomer.setFirstName("fresh");
+        updatedCustomer.setLastName("email");
+        updatedCustomer.setEmailAddress("testemail@test.com");
+        mockMvc.perform(put("/v1/customers/{id}", customerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedCustomer)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/customers/{id}", customerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("fresh"));
+
+        mockMvc.perform(delete("/v1/customers/{id}", customerId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/v1/customers/{id}", customerId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void conditionalRequests_UseVersionAsETag() throws Exception {
+        UUID customerId = mockCustomer.getId();
+
+        mockMvc.perform(get("/v1/customers/{id}", customerId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+        mockMvc.perform(get("/v1/customers/{id}", customerId).header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified());
+
+        Customer updatedCustomer = new Customer();
+        updatedCustomer.setFirstName("test2");
+        updatedCustomer.setLastName("email2");
+        updatedCustomer.setEmailAddress("testemail@test.com");
+        mockMvc.perform(put("/v1/customers/{id}", customerId)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedCustomer)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // A second writer still holding version 0 loses
+        mockMvc.perform(put("/v1/customers/{id}", customerId)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedCustomer)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/v1/customers/{id}", customerId).header("If-Match", "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/v1/customers/{id}", customerId).header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("test2"));
+
+        mockMvc.perform(delete("/v1/customers/{id}", customerId).header("If-Match", "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void patchCustomer_ChangesOnlySuppliedAttributes() throws Exception {
+        UUID customerId = mockCustomer.getId();
+
+        mockMvc.perform(patch("/v1/customers/{id}", customerId)
+                .header("If-Match", "\"0\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"phoneNumber\":\"+4915112345678\",\"middleName\":\"m\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.phoneNumber").value("+4915112345678"))
+                .andExpect(jsonPath("$.middleName").value("m"))
+                .andExpect(jsonPath("$.firstName").value("test"))
+                .andExpect(jsonPath("$.emailAddress").value("testemail@test.com"));
+
+        mockMvc.perform(patch("/v1/customers/{id}", customerId)
+                .contentType("application/merge-patch+json")
+                .content("{\"middleName\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.middleName").doesNotExist())
+                .andExpect(jsonPath("$.version").value(2));
+
+        mockMvc.perform(get("/v1/customers/{id}", customerId))
+                .andExpect(jsonPath("$.phoneNumber").value("+4915112345678"))
+                .andExpect(jsonPath("$.middleName").doesNotExist());
+    }
+
+    @Test
+    void patchCustomer_InvalidPatch_BadRequest() throws Exception {
+        UUID customerId = mockCustomer.getId();
+
+        mockMvc.perform(patch("/v1/customers/{id}", customerId)
+                .contentType("application/merge-patch+json")
+                .content("{\"phoneNumber\":\"not-a-phone\",\"firstName\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.phoneNumber").exists())
+                .andExpect(jsonPath("$.firstName").value("First name is required."));
+        mockMvc.perform(patch("/v1/customers/{id}", customerId)
+                .contentType("application/merge-patch+json")
+                .content("{\"version\":\"7\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/v1/customers/{id}", customerId)
+                .header("If-Match", "\"5\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"lastName\":\"other\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/v1/customers/{id}", UUID.randomUUID())
+                .contentType("application/merge-patch+json")
+                .content("{\"lastName\":\"other\"}"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/v1/customers/{id}", customerId))
+                .andExpect(jsonPath("$.lastName").value("email"))
+                .andExpect(jsonPath("$.version").value(0));
+    }
+
+    @Test
+    void lookupByEmailAndPhone_Success() throws Exception {
+        Customer customer = createViaApi("Lookup@Test.com", "+4930123456");
+
+        mockMvc.perform(get("/v1/customers/by-email").param("email", " lookup@test.COM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(customer.getId().toString()));
+        mockMvc.perform(get("/v1/customers/by-phone").param("phone", "+49 30 123-456"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(customer.getId().toString()));
+        // Written around the service, so unknown to the contact index and resolved by the
+        // database index, which ignores case too
+        Customer stored = new Customer();
+        stored.setFirstName("stored");
+        stored.setLastName("directly");
+        stored.setEmailAddress("stored@test.com");
+        customerRepository.save(stored);
+        mockMvc.perform(get("/v1/customers/by-email").param("email", "Stored@Test.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(stored.getId().toString()));
+        mockMvc.perform(get("/v1/customers/by-email").param("email", "nobody@test.com"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/customers/by-phone").param("phone", "999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/v1/stats/contact-index"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount").isNumber());
+    }
+
+    @Test
+    void searchCustomers_MatchesNamePrefixes() throws Exception {
+        Customer customer = createViaApi("search@test.com", null);
+
+        mockMvc.perform(get("/v1/customers/search").param("q", "CUST ap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(customer.getId().toString()));
+        mockMvc.perform(get("/v1/customers/search").param("q", "zz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/v1/customers/search").param("q", "cust").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createCustomer_DuplicateEmail_Conflict() throws Exception {
+        createViaApi("unique@test.com", null);
+
+        Customer duplicate = new Customer();
+        duplicate.setFirstName("other");
+        duplicate.setLastName("customer");
+        duplicate.setEmailAddress("UNIQUE@test.com");
+
+        mockMvc.perform(post("/v1/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(duplicate)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
+    private Customer createViaApi(String email, String phone) throws Exception {
+        Customer customer = new Customer();
+        customer.setFirstName("api");
+        customer.setLastName("customer");
+        customer.setEmailAddress(email);
+        customer.setPhoneNumber(phone);
+        String body = mockMvc.perform(post("/v1/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(customer)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, Customer.class);
+    }
+
+    @Test
+    void saveCustomer_EmailDifferingOnlyInCase_RejectedByDatabase() {
+        Customer duplicate = new Customer();
+        duplicate.setFirstName("other");
+        duplicate.setLastName("customer");
+        duplicate.setEmailAddress("TESTEMAIL@test.com");
+
+        assertThrows(DataIntegrityViolationException.class, () -> customerRepository.saveAndFlush(duplicate));
+    }
+
     @Test
     void deleteCustomer_Success() throws Exception {
         UUID customerId = mockCustomer.getId();
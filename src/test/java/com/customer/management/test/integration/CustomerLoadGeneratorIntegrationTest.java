@@ -0,0 +1,61 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.client.CustomerLoadGenerator;
+import com.customer.management.client.LoadGeneratorOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class CustomerLoadGeneratorIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void run_ExercisesEveryOperationAndWritesPercentileReport() throws Exception {
+        Path reportFile = tempDir.resolve("report.txt");
+        LoadGeneratorOptions options = LoadGeneratorOptions.parse(new String[] {
+                "--base-url=http://localhost:" + port, "--rate=40", "--warmup=1", "--duration=2", "--workers=4",
+                "--seed=20", "--mix=get:4,create:2,update:2,delete:1,list:1", "--report=" + reportFile});
+
+        String report = new CustomerLoadGenerator(options).run();
+
+        assertEquals(report, Files.readString(reportFile));
+        for (String operation : new String[] {"get", "create", "update", "delete", "list", "all"}) {
+            assertTrue(row(report, operation).length > 0, () -> "No row for " + operation + " in\n" + report);
+        }
+        // operation, count, 2xx, 4xx, 5xx, errors, p50, p90, p99, p99.9, max
+        String[] all = row(report, "all");
+        assertEquals(80, Integer.parseInt(all[1]), report);
+        // A read racing a delete of the same customer may see 404, but nothing may fail on the server
+        assertEquals("0", all[4], report);
+        assertEquals("0", all[5], report);
+        assertTrue(report.contains("p99.9"));
+    }
+
+    @Test
+    void parse_RejectsUnknownOptions() {
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorOptions.parse(new String[] {"--speed=9"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadGeneratorOptions.parse(new String[] {"--mix=get:0"}));
+    }
+
+    // First table row of the operation, split into columns
+    private static String[] row(String report, String operation) {
+        return Arrays.stream(report.split("\n"))
+                .filter(line -> line.startsWith(operation + " "))
+                .findFirst()
+                .map(line -> line.trim().split("\\s+"))
+                .orElse(new String[0]);
+    }
+}
@@ -0,0 +1,152 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.dto.WriteBehindStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerWriteBehindService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// A long linger keeps customers queued long enough to observe grouping and pending duplicates
+@SpringBootTest(properties = "customer.write-behind.linger=300ms")
+@AutoConfigureMockMvc
+public class CustomerWriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerWriteBehindService writeBehindService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // Let customers queued by a previous test commit before clearing the table
+        for (int attempt = 0; attempt < 100 && !drained(writeBehindService.stats()); attempt++) {
+            Thread.sleep(50);
+        }
+        customerRepository.deleteAll();
+    }
+
+    private static boolean drained(WriteBehindStats stats) {
+        return stats.getAccepted() == stats.getCommitted() + stats.getFailed();
+    }
+
+    @Test
+    void createWithRespondAsync_AcceptsThenBecomesDurable() throws Exception {
+        String body = mockMvc.perform(post("/v1/customers")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(customerJson("async@test.com")))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.state").value("PENDING"))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(body).get("customerId").asText();
+
+        assertEquals("DURABLE", awaitOutcome(id).get("state").asText());
+        mockMvc.perform(get("/v1/customers/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.emailAddress").value("async@test.com"));
+    }
+
+    @Test
+    void burstOfCreates_IsCommittedInGroups() throws Exception {
+        WriteBehindStats before = writeBehindService.stats();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String body = mockMvc.perform(post("/v1/customers")
+                            .header("Prefer", "respond-async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(customerJson("burst" + i + "@test.com")))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+            ids.add(objectMapper.readTree(body).get("customerId").asText());
+        }
+        for (String id : ids) {
+            assertEquals("DURABLE", awaitOutcome(id).get("state").asText());
+        }
+
+        WriteBehindStats after = writeBehindService.stats();
+        assertEquals(20, after.getCommitted() - before.getCommitted());
+        assertTrue(after.getCommits() - before.getCommits() < 20, "Expected fewer commits than customers");
+        assertTrue(after.getMaxBatchSize() > 1);
+        assertEquals(20, customerRepository.count());
+    }
+
+    @Test
+    void duplicateOfQueuedEmail_Conflict() throws Exception {
+        mockMvc.perform(post("/v1/customers")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(customerJson("queued@test.com")))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(post("/v1/customers")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(customerJson("QUEUED@test.com")))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void otherPreference_CreatesSynchronously() throws Exception {
+        mockMvc.perform(post("/v1/customers")
+                        .header("Prefer", "return=minimal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(customerJson("sync@test.com")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getAsyncCreateStatus_Unknown_NotFound() throws Exception {
+        mockMvc.perform(get("/v1/customers/async-creates/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private String customerJson(String email) throws Exception {
+        Customer customer = new Customer();
+        customer.setFirstName("Async");
+        customer.setLastName("Writer");
+        customer.setEmailAddress(email);
+        return objectMapper.writeValueAsString(customer);
+    }
+
+    private JsonNode awaitOutcome(String id) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/v1/customers/async-creates/{id}", id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode status = objectMapper.readTree(body);
+            if (!"PENDING".equals(status.get("state").asText())) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        fail("Asynchronous create did not finish in time");
+        return null;
+    }
+}
@@ -0,0 +1,113 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerService;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements Hibernate sends for single-customer writes.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CustomerWriteStatementsIntegrationTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+        customer = new Customer();
+        customer.setFirstName("test");
+        customer.setLastName("email");
+        customer.setEmailAddress("statements@test.com");
+        customer = customerService.createCustomer(customer);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void conditionalUpdate_IssuesSingleStatement() {
+        Customer update = new Customer();
+        update.setFirstName("changed");
+        update.setLastName("email");
+        update.setEmailAddress("statements@test.com");
+
+        Customer updated = customerService.updateCustomer(customer.getId(), update, customer.getVersion());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(customer.getVersion() + 1, updated.getVersion());
+        assertEquals("changed", customerRepository.findById(customer.getId()).orElseThrow().getFirstName());
+    }
+
+    @Test
+    void unconditionalUpdate_IssuesSingleStatement() {
+        Customer update = new Customer();
+        update.setFirstName("changed");
+        update.setLastName("email");
+        update.setEmailAddress("statements@test.com");
+
+        Customer updated = customerService.updateCustomer(customer.getId(), update);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(customer.getVersion() + 1, updated.getVersion());
+        assertEquals("changed", customerRepository.findById(customer.getId()).orElseThrow().getFirstName());
+    }
+
+    @Test
+    void unconditionalUpdate_UnknownId_NotFound() {
+        Customer update = new Customer();
+        update.setFirstName("changed");
+        update.setLastName("email");
+        update.setEmailAddress("nobody@test.com");
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.updateCustomer(UUID.randomUUID(), update));
+    }
+
+    @Test
+    void patch_UpdatesThenReadsBackTheRow() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("phoneNumber", "+491511234567");
+
+        Customer patched = customerService.patchCustomer(customer.getId(), patch, customer.getVersion());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals("+491511234567", patched.getPhoneNumber());
+        assertEquals("test", patched.getFirstName());
+    }
+
+    @Test
+    void delete_IssuesSingleStatement() {
+        customerService.deleteCustomer(customer.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(customerRepository.existsById(customer.getId()));
+    }
+}
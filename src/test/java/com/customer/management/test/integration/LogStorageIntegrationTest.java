@@ -0,0 +1,166 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.repository.CustomerLogStore;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.repository.LogStructuredCustomerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs the REST API on the log storage engine ({@code log-storage} profile).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("log-storage")
+public class LogStorageIntegrationTest {
+
+    private static final Path directory = createDirectory();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerLogStore customerLogStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void storageDirectory(DynamicPropertyRegistry registry) {
+        registry.add("customer.storage.log.directory", directory::toString);
+    }
+
+    @AfterAll
+    static void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void customerLifecycle_IsServedFromTheLog() throws Exception {
+        assertInstanceOf(LogStructuredCustomerRepository.class, customerRepository);
+
+        String created = mockMvc.perform(post("/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Ada", "ada@log.test")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode customer = objectMapper.readTree(created);
+        String id = customer.get("id").asText();
+        assertEquals(0, customer.get("version").asLong());
+
+        mockMvc.perform(post("/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Other", "ada@log.test")))
+                .andExpect(status().isConflict());
+        assertEquals(id, customerRepository.findByEmailAddressIgnoreCase(" ADA@Log.test").orElseThrow().getId().toString());
+
+        mockMvc.perform(put("/v1/customers/" + id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Augusta", "ada@log.test")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Augusta"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(put("/v1/customers/" + id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Stale", "ada@log.test")))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/v1/customers/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Augusta"));
+
+        mockMvc.perform(delete("/v1/customers/" + id).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/v1/customers/" + id))
+                .andExpect(status().isNotFound());
+
+        assertTrue(customerLogStore.getWriteCount() >= 3);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.anyMatch(path -> path.getFileName().toString().startsWith("wal-")));
+        }
+    }
+
+    @Test
+    void pagesAndSearch_UseTheInMemoryIndexes() throws Exception {
+        for (String name : new String[] {"Hopper", "Lovelace", "Turing"}) {
+            mockMvc.perform(post("/v1/customers")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"firstName\":\"Page\",\"lastName\":\"" + name + "\",\"emailAddress\":\""
+                                    + name.toLowerCase() + "@page.log.test\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/v1/customers/page").param("sort", "name").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.lastName == 'Hopper')]").exists());
+
+        mockMvc.perform(get("/v1/customers/search").param("q", "page tur"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].lastName").value("Turing"));
+    }
+
+    @Test
+    void batch_IsAppliedOnTheLogEngine() throws Exception {
+        String created = mockMvc.perform(post("/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Grace", "grace@batch.log.test")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(created).get("id").asText();
+        long writes = customerLogStore.getWriteCount();
+
+        mockMvc.perform(post("/v1/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\":["
+                                + "{\"op\":\"CREATE\",\"customer\":" + json("Alan", "alan@batch.log.test") + "},"
+                                + "{\"op\":\"UPDATE\",\"id\":\"" + id + "\",\"customer\":"
+                                + json("Hopper", "grace@batch.log.test") + "}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2));
+
+        assertEquals(writes + 2, customerLogStore.getWriteCount());
+        mockMvc.perform(get("/v1/customers/" + id))
+                .andExpect(jsonPath("$.firstName").value("Hopper"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    private static String json(String firstName, String email) {
+        return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"Lovelace\",\"emailAddress\":\"" + email + "\"}";
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("customer-log-storage");
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
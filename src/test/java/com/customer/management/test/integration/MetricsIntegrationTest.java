@@ -0,0 +1,78 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Test contexts replace the Prometheus registry with a simple one unless observability is enabled
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void prometheusEndpoint_ExposesRequestServiceRepositoryPoolAndErrorMetrics() throws Exception {
+        String body = mockMvc.perform(post("/v1/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Ada\",\"lastName\":\"Lovelace\",\"emailAddress\":\"ada@example.com\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(body).get("id").asText();
+        mockMvc.perform(get("/v1/customers/{id}", id)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/customers/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertHasSample(scrape, "http_server_requests_seconds_bucket{", "uri=\"/v1/customers/{id}\"", "status=\"200\"");
+        assertHasSample(scrape, "customer_service_seconds_bucket{", "method=\"getCustomerById\"");
+        assertHasSample(scrape, "customer_service_seconds_count{", "method=\"createCustomer\"");
+        assertHasSample(scrape, "spring_data_repository_invocations_seconds_count{", "repository=\"CustomerRepository\"");
+        assertHasSample(scrape, "hibernate_statements_total{");
+        assertHasSample(scrape, "hibernate_flushes_total{");
+        assertHasSample(scrape, "hikaricp_connections_acquire_seconds_bucket{");
+        assertHasSample(scrape, "hikaricp_connections_usage_seconds_count{");
+        assertHasSample(scrape, "customer_api_errors_total{", "handler=\"resource_not_found\"", "status=\"404\"");
+        assertHasSample(scrape, "customer_write_behind_queue_depth{");
+        assertHasSample(scrape, "customer_cache_hits_total{");
+        assertHasSample(scrape, "logging_async_dropped_total{", "appender=\"ASYNC_CONSOLE\"");
+        assertHasSample(scrape, "logging_async_queue_depth{", "appender=\"ASYNC_CONSOLE\"");
+    }
+
+    private static void assertHasSample(String scrape, String prefix, String... labels) {
+        boolean found = Arrays.stream(scrape.split("\n"))
+                .filter(line -> line.startsWith(prefix))
+                .anyMatch(line -> Arrays.stream(labels).allMatch(line::contains));
+        assertTrue(found, () -> "No sample " + prefix + " with " + Arrays.toString(labels));
+    }
+}
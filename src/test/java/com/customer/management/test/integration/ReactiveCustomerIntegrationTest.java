@@ -0,0 +1,126 @@
+package com.customer.management.test.integration;
+
+import com.customer.management.config.ReactiveCustomerServer;
+import com.customer.management.dto.CustomerPage;
+import com.customer.management.entity.Customer;
+import com.customer.management.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"customer.reactive.enabled=true", "customer.reactive.port=0"})
+public class ReactiveCustomerIntegrationTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ReactiveCustomerServer reactiveCustomerServer;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        customerRepository.deleteAll();
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveCustomerServer.getPort() + "/reactive/v1/customers")
+                .build();
+    }
+
+    @Test
+    void getCustomerById_ReturnsCustomerWithETag() {
+        Customer saved = save(1);
+
+        client.get().uri("/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"" + saved.getVersion() + "\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(saved.getId().toString())
+                .jsonPath("$.emailAddress").isEqualTo(saved.getEmailAddress());
+    }
+
+    @Test
+    void getCustomerById_NotFoundAndMalformedId() {
+        client.get().uri("/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").isEqualTo("Resource Not Found");
+
+        client.get().uri("/not-a-uuid")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getCustomerPage_WalksAllPagesWithCursor() {
+        Set<UUID> saved = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(save(i).getId());
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        String after = null;
+        do {
+            String cursor = after;
+            CustomerPage page = client.get()
+                    .uri(uri -> uri.path("/page").queryParam("limit", 2).queryParamIfPresent("after",
+                            Optional.ofNullable(cursor)).build())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(CustomerPage.class)
+                    .returnResult().getResponseBody();
+            page.getItems().forEach(customer -> seen.add(customer.getId()));
+            after = page.getNext();
+        } while (after != null);
+
+        assertEquals(5, seen.size());
+        assertEquals(saved, new HashSet<>(seen));
+    }
+
+    @Test
+    void getCustomerPage_InvalidLimit_BadRequest() {
+        client.get().uri("/page?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamCustomers_ReturnsNdjson() {
+        for (int i = 0; i < 3; i++) {
+            save(i);
+        }
+
+        List<Customer> streamed = client.get().uri("/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Customer.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(3, streamed.size());
+    }
+
+    private Customer save(int i) {
+        Customer customer = new Customer();
+        customer.setFirstName("Reactive" + i);
+        customer.setLastName("Reader");
+        customer.setEmailAddress("reactive" + i + "@example.com");
+        return customerRepository.save(customer);
+    }
+}
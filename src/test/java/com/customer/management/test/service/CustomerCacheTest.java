@@ -0,0 +1,62 @@
+package com.customer.management.test.service;
+
+import com.customer.management.dto.NearCacheStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.service.CustomerCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerCacheTest {
+
+    private CustomerCache customerCache;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customerCache = new CustomerCache();
+        ReflectionTestUtils.invokeMethod(customerCache, "init");
+
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setFirstName("Cached");
+    }
+
+    @Test
+    void testReadThrough_LoadsOnceThenHits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        customerCache.get(customer.getId(), id -> { loads.incrementAndGet(); return customer; });
+        Customer second = customerCache.get(customer.getId(), id -> { loads.incrementAndGet(); return customer; });
+
+        assertSame(customer, second);
+        assertEquals(1, loads.get());
+        NearCacheStats stats = customerCache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void testMissingCustomer_IsNotCached() {
+        assertNull(customerCache.get(customer.getId(), id -> null));
+        assertNull(customerCache.getIfPresent(customer.getId()));
+    }
+
+    @Test
+    void testChangeEvent_InvalidatesEntry() {
+        customerCache.get(customer.getId(), id -> customer);
+
+        customerCache.onCustomerChanged(CustomerChangedEvent.updated(customer));
+
+        assertNull(customerCache.getIfPresent(customer.getId()));
+        assertEquals(1, customerCache.stats().getInvalidationCount());
+    }
+}
@@ -0,0 +1,118 @@
+package com.customer.management.test.service;
+
+import com.customer.management.dto.ColumnStoreStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.service.CustomerColumnStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerColumnStoreTest {
+
+    private CustomerColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CustomerColumnStore();
+        // Behave as if an empty table had been loaded
+        ReflectionTestUtils.setField(store, "ordered", true);
+        ReflectionTestUtils.setField(store, "ready", true);
+    }
+
+    @Test
+    void get_ReturnsACopyOfTheReplicatedState() {
+        Customer customer = customer("Ada", "Lovelace");
+        customer.setMiddleName("King");
+        store.onCustomerChanged(CustomerChangedEvent.created(customer));
+
+        Customer replicated = store.get(customer.getId());
+
+        assertEquals(customer, replicated);
+        assertNotSame(customer, replicated);
+        assertNull(store.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void pages_FollowIdAndNameOrderAcrossUpdatesAndDeletes() {
+        List<Customer> customers = new ArrayList<>();
+        for (String last : new String[] {"Turing", "Hopper", "Lovelace", "Hopper", "Knuth"}) {
+            Customer customer = customer("Name" + customers.size(), last);
+            customers.add(customer);
+            store.onCustomerChanged(CustomerChangedEvent.created(customer));
+        }
+        // Ids are time-ordered, so creation order is id order
+        assertEquals(ids(customers), ids(store.firstById(10)));
+        assertEquals(ids(customers.subList(2, 4)), ids(store.afterId(customers.get(1).getId(), 2)));
+        assertEquals(List.of("Hopper", "Hopper", "Knuth", "Lovelace", "Turing"), lastNames(store.firstByName(10)));
+
+        Customer renamed = copy(customers.get(4), "Babbage");
+        store.onCustomerChanged(CustomerChangedEvent.updated(renamed));
+        store.onCustomerChanged(CustomerChangedEvent.deleted(customers.get(0).getId(), 0L));
+
+        assertEquals(List.of("Babbage", "Hopper", "Hopper", "Lovelace"), lastNames(store.firstByName(10)));
+        Customer hopper = customers.get(1);
+        assertEquals(List.of("Hopper", "Lovelace"),
+                lastNames(store.afterName("Hopper", hopper.getFirstName(), hopper.getId(), 10)));
+        assertEquals(ids(customers.subList(1, 5)), ids(store.firstById(10)));
+        assertEquals(1L, store.get(renamed.getId()).getVersion());
+    }
+
+    @Test
+    void onCustomerChanged_IgnoresAnOlderVersionDeliveredLate() {
+        Customer customer = customer("Ada", "Lovelace");
+        Customer updated = copy(customer, "Byron");
+        store.onCustomerChanged(CustomerChangedEvent.updated(updated));
+        store.onCustomerChanged(CustomerChangedEvent.created(customer));
+
+        assertEquals("Byron", store.get(customer.getId()).getLastName());
+    }
+
+    @Test
+    void stats_CountNamesOnceAcrossCustomers() {
+        for (int i = 0; i < 100; i++) {
+            store.onCustomerChanged(CustomerChangedEvent.created(customer("Ada", "Lovelace")));
+        }
+
+        ColumnStoreStats stats = store.stats();
+
+        assertEquals(100, stats.getCustomerCount());
+        assertEquals(2, stats.getDistinctNameCount());
+        assertTrue(stats.getHeapBytes() > 0);
+    }
+
+    private static Customer customer(String firstName, String lastName) {
+        Customer customer = new Customer();
+        customer.setId(CustomerIdVersion.V7.generate());
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        customer.setEmailAddress(customer.getId() + "@example.com");
+        customer.setVersion(0L);
+        return customer;
+    }
+
+    private static Customer copy(Customer customer, String lastName) {
+        Customer copy = new Customer();
+        copy.setId(customer.getId());
+        copy.setFirstName(customer.getFirstName());
+        copy.setLastName(lastName);
+        copy.setEmailAddress(customer.getEmailAddress());
+        copy.setVersion(customer.getVersion() + 1);
+        return copy;
+    }
+
+    private static List<UUID> ids(List<Customer> customers) {
+        return customers.stream().map(Customer::getId).toList();
+    }
+
+    private static List<String> lastNames(List<Customer> customers) {
+        return customers.stream().map(Customer::getLastName).toList();
+    }
+}
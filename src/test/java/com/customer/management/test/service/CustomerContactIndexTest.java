@@ -0,0 +1,107 @@
+package com.customer.management.test.service;
+
+import com.customer.management.dto.ContactIndexStats;
+import com.customer.management.dto.CustomerContact;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.exception.DuplicateCustomerException;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerContactIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomerContactIndexTest {
+
+    @InjectMocks
+    private CustomerContactIndex contactIndex;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(contactIndex, "ready", true);
+
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setEmailAddress("Jane.Doe@Example.com");
+        customer.setPhoneNumber("+4915112345678");
+        when(customerRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+        contactIndex.onCustomerChanged(CustomerChangedEvent.created(customer));
+    }
+
+    @Test
+    void testLookups_AreNormalized() {
+        assertEquals(customer.getId(), contactIndex.findByEmail("  jane.doe@example.COM "));
+        assertEquals(Set.of(customer.getId()), contactIndex.findByPhone("+49 151-1234 5678"));
+        assertNull(contactIndex.findByEmail("someone@example.com"));
+
+        ContactIndexStats stats = contactIndex.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void testUpdateAndDelete_MoveIndexEntries() {
+        customer.setEmailAddress("jane@example.com");
+        contactIndex.onCustomerChanged(CustomerChangedEvent.updated(customer));
+
+        assertNull(contactIndex.findByEmail("jane.doe@example.com"));
+        assertEquals(customer.getId(), contactIndex.findByEmail("jane@example.com"));
+
+        contactIndex.onCustomerChanged(CustomerChangedEvent.deleted(customer.getId(), 1L));
+
+        assertNull(contactIndex.findByEmail("jane@example.com"));
+        assertTrue(contactIndex.findByPhone(customer.getPhoneNumber()).isEmpty());
+    }
+
+    @Test
+    void testCheckEmailAvailable_RejectsOtherCustomersEmail() {
+        assertThrows(DuplicateCustomerException.class,
+                () -> contactIndex.checkEmailAvailable("JANE.DOE@example.com", null));
+        assertDoesNotThrow(() -> contactIndex.checkEmailAvailable("jane.doe@example.com", customer.getId()));
+        assertEquals(1, contactIndex.stats().getDuplicatesRejected());
+    }
+
+    @Test
+    void testCheckEmailAvailable_IgnoresStaleEntry() {
+        when(customerRepository.findById(customer.getId())).thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> contactIndex.checkEmailAvailable("jane.doe@example.com", null));
+    }
+
+    @Test
+    void testLoad_SkipsCustomersDeletedWhileLoading() {
+        ReflectionTestUtils.setField(contactIndex, "ready", false);
+        contactIndex.onCustomerChanged(CustomerChangedEvent.deleted(customer.getId(), 1L));
+        CustomerContact other = new CustomerContact(UUID.randomUUID(), "other@example.com", null);
+        // The scan started before the delete committed, so it still returns the row
+        when(customerRepository.streamContacts()).thenReturn(Stream.of(
+                new CustomerContact(customer.getId(), customer.getEmailAddress(), customer.getPhoneNumber()), other));
+
+        contactIndex.load();
+
+        assertNull(contactIndex.findByEmail("jane.doe@example.com"));
+        assertEquals(other.id(), contactIndex.findByEmail("other@example.com"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.customer.management.test.service;
+
+import com.customer.management.entity.Customer;
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.repository.CustomerLogStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerLogStoreTest {
+
+    private Path directory;
+    private CustomerLogStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("customer-log-store");
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void apply_WritesAreRecoveredByReplayingTheLog() throws IOException {
+        Customer kept = insert("Ada", "ada@example.com");
+        Customer updated = insert("Grace", "grace@example.com");
+        Customer deleted = insert("Alan", "alan@example.com");
+        store.apply(List.of(new CustomerLogStore.Update(updated.getId(), 0L, c -> c.setLastName("Hopper"))));
+        store.apply(List.of(new CustomerLogStore.Delete(deleted.getId(), null)));
+
+        reopen();
+
+        assertEquals(2, store.size());
+        assertEquals(kept, store.get(kept.getId()));
+        Customer recovered = store.get(updated.getId());
+        assertEquals("Hopper", recovered.getLastName());
+        assertEquals(1L, recovered.getVersion());
+        assertNull(store.get(deleted.getId()));
+        assertEquals(updated.getId(), store.findIdByEmail("grace@example.com"));
+        assertNull(store.findIdByEmail("alan@example.com"));
+        assertEquals(List.of(kept.getId(), updated.getId()), store.findIdsByPhone("+14155550100"));
+    }
+
+    @Test
+    void apply_ReturnsNullOnVersionMismatchAndRejectsDuplicateEmailsForTheWholeBatch() {
+        Customer customer = insert("Ada", "ada@example.com");
+
+        List<Customer> stale = store.apply(List.of(new CustomerLogStore.Update(customer.getId(), 7L,
+                c -> c.setFirstName("Stale"))));
+        assertNull(stale.get(0));
+
+        Customer first = customer("Grace", "grace@example.com");
+        Customer duplicate = customer("Ada2", "ada@example.com");
+        assertThrows(DataIntegrityViolationException.class, () -> store.apply(List.of(
+                new CustomerLogStore.Insert(first), new CustomerLogStore.Insert(duplicate))));
+        assertNull(store.get(first.getId()), "nothing in a rejected batch is written");
+
+        // An email freed earlier in the same batch can be taken by a later change
+        Customer renamed = customer("Ada3", "ada@example.com");
+        store.apply(List.of(
+                new CustomerLogStore.Update(customer.getId(), 0L, c -> c.setEmailAddress("ada.old@example.com")),
+                new CustomerLogStore.Insert(renamed)));
+        assertEquals(renamed.getId(), store.findIdByEmail("ada@example.com"));
+    }
+
+    @Test
+    void applyAll_WritesNothingWhenAVersionDoesNotMatch() {
+        Customer customer = insert("Ada", "ada@example.com");
+        Customer created = customer("Grace", "grace@example.com");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> store.applyAll(List.of(
+                new CustomerLogStore.Insert(created), new CustomerLogStore.Delete(customer.getId(), 7L))));
+        assertNull(store.get(created.getId()), "nothing in a rejected batch is written");
+        assertEquals(customer, store.get(customer.getId()));
+
+        List<Customer> written = store.applyAll(List.of(
+                new CustomerLogStore.Insert(created), new CustomerLogStore.Delete(customer.getId(), 0L)));
+        assertEquals(0L, written.get(0).getVersion());
+        assertNull(store.get(customer.getId()));
+    }
+
+    @Test
+    void recovery_TruncatesATornRecordAtTheEndOfTheLog() throws IOException {
+        Customer customer = insert("Ada", "ada@example.com");
+        insert("Grace", "grace@example.com");
+        store.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.getFileName().toString().startsWith("wal-"))
+                    .filter(path -> sizeOf(path) > 8).findFirst().orElseThrow();
+        }
+        long validLength = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            // Length and checksum of a 100 byte record, followed by only part of its body
+            channel.write(ByteBuffer.allocate(20).putInt(100).putInt(12345).put(new byte[12]).flip());
+        }
+
+        store = open();
+
+        assertEquals(2, store.size());
+        assertEquals(validLength, Files.size(segment));
+        assertEquals("Ada", store.get(customer.getId()).getFirstName());
+        insert("Alan", "alan@example.com");
+        reopen();
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void compact_ReplacesTheLogWithASnapshotWhileWritesContinue() throws Exception {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            customers.add(insert("First" + i, "customer" + i + "@example.com"));
+        }
+        for (int i = 0; i < 100; i++) {
+            store.apply(List.of(new CustomerLogStore.Delete(customers.get(i).getId(), null)));
+        }
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 100; i < 300; i++) {
+                UUID id = customers.get(i).getId();
+                store.apply(List.of(new CustomerLogStore.Update(id, null, c -> c.setMiddleName("Updated"))));
+            }
+        });
+        store.compact();
+        writer.join();
+
+        List<String> names;
+        try (Stream<Path> files = Files.list(directory)) {
+            names = files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+        assertEquals(1, names.stream().filter(name -> name.startsWith("snapshot-")).count(), names.toString());
+        assertEquals(1, store.getSnapshotCount());
+        assertEquals(400, store.size());
+        assertEquals("Updated", store.get(customers.get(299).getId()).getMiddleName());
+        assertNull(store.get(customers.get(300).getId()).getMiddleName());
+
+        reopen();
+
+        assertEquals(400, store.size());
+        assertNull(store.get(customers.get(0).getId()));
+        assertEquals("Updated", store.get(customers.get(150).getId()).getMiddleName());
+        assertEquals(customers.get(499).getEmailAddress(), store.get(customers.get(499).getId()).getEmailAddress());
+    }
+
+    private Customer insert(String firstName, String email) {
+        return store.apply(List.of(new CustomerLogStore.Insert(customer(firstName, email)))).get(0);
+    }
+
+    private static Customer customer(String firstName, String email) {
+        Customer customer = new Customer();
+        customer.setId(CustomerIdVersion.V7.generate());
+        customer.setFirstName(firstName);
+        customer.setLastName("Lovelace");
+        customer.setEmailAddress(email);
+        customer.setPhoneNumber("+14155550100");
+        return customer;
+    }
+
+    private CustomerLogStore open() throws IOException {
+        return new CustomerLogStore(directory, true, Long.MAX_VALUE, Duration.ZERO);
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        store = open();
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
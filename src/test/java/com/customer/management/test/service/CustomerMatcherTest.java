@@ -0,0 +1,62 @@
+package com.customer.management.test.service;
+
+import com.customer.management.dto.CustomerMatchFields;
+import com.customer.management.service.CustomerMatcher;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerMatcherTest {
+
+    @Test
+    void testSoundex_GroupsSimilarSoundingNames() {
+        assertEquals("R163", CustomerMatcher.soundex("Robert"));
+        assertEquals("R163", CustomerMatcher.soundex("Rupert"));
+        assertEquals("A261", CustomerMatcher.soundex("Ashcraft"));
+        assertEquals("T522", CustomerMatcher.soundex("Tymczak"));
+        assertNull(CustomerMatcher.soundex("---"));
+    }
+
+    @Test
+    void testBlockingKeys_NormalizeEmailPhoneAndName() {
+        String[] keys = CustomerMatcher.blockingKeys(
+                fields("Jane", "Doe", "Jane.Doe+shop@Example.com", "+49 151 1234 5678"));
+
+        assertEquals("e:janedoe", keys[CustomerMatcher.EMAIL_KEY]);
+        assertEquals("p:2345678", keys[CustomerMatcher.PHONE_KEY]);
+        assertEquals("n:D000j", keys[CustomerMatcher.NAME_KEY]);
+    }
+
+    @Test
+    void testBlockingKeys_SkipsShortOrMissingValues() {
+        String[] keys = CustomerMatcher.blockingKeys(fields("Jo", "Li", "jo@example.com", "12345"));
+
+        assertNull(keys[CustomerMatcher.EMAIL_KEY]);
+        assertNull(keys[CustomerMatcher.PHONE_KEY]);
+        assertNotNull(keys[CustomerMatcher.NAME_KEY]);
+    }
+
+    @Test
+    void testScore_SamePersonDifferentSpelling_IsAMatch() {
+        CustomerMatchFields a = fields("Jonathan", "Smith", "jon.smith@example.com", "+49 151 1234567");
+        CustomerMatchFields b = fields("Jon", "Smyth", "JON.SMITH@example.com", "0151-1234567");
+
+        // same email 0.6, phone suffix 0.2, last name soundex 0.1, first name prefix 0.1
+        assertEquals(1.0, CustomerMatcher.score(a, b), 1e-9);
+    }
+
+    @Test
+    void testScore_SharedNameOnly_IsBelowDefaultThreshold() {
+        CustomerMatchFields a = fields("Jane", "Doe", "jane@example.com", "+1 555 0100 001");
+        CustomerMatchFields b = fields("Jane", "Doe", "jdoe@other.org", "+1 555 0199 999");
+
+        assertEquals(0.35, CustomerMatcher.score(a, b), 1e-9);
+    }
+
+    private static CustomerMatchFields fields(String firstName, String lastName, String email, String phone) {
+        return new CustomerMatchFields(UUID.randomUUID(), firstName, lastName, email, phone);
+    }
+}
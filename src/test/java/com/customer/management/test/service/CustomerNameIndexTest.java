@@ -0,0 +1,109 @@
+package com.customer.management.test.service;
+
+import com.customer.management.dto.CustomerName;
+import com.customer.management.dto.NameIndexStats;
+import com.customer.management.entity.Customer;
+import com.customer.management.event.CustomerChangedEvent;
+import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerNameIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomerNameIndexTest {
+
+    private CustomerNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        nameIndex = new CustomerNameIndex();
+        ReflectionTestUtils.setField(nameIndex, "ready", true);
+    }
+
+    private Customer add(String firstName, String lastName) {
+        Customer customer = new Customer();
+        customer.setId(UUID.randomUUID());
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        nameIndex.onCustomerChanged(CustomerChangedEvent.created(customer));
+        return customer;
+    }
+
+    @Test
+    void testSearch_MatchesPrefixesIgnoringCaseAndAccents() {
+        Customer jose = add("José", "García-Lopez");
+        add("Joanna", "Smith");
+
+        assertEquals(List.of(jose.getId()), nameIndex.search("jose", 10));
+        assertEquals(List.of(jose.getId()), nameIndex.search("LOP", 10));
+        assertEquals(2, nameIndex.search("jo", 10).size());
+        assertTrue(nameIndex.search("x", 10).isEmpty());
+    }
+
+    @Test
+    void testSearch_AllTermsMustMatch() {
+        Customer annSmith = add("Ann", "Smith");
+        add("Ann", "Jones");
+        add("Bob", "Smithers");
+
+        assertEquals(List.of(annSmith.getId()), nameIndex.search("smi an", 10));
+    }
+
+    @Test
+    void testSearch_ExactMatchesComeFirstAndLimitApplies() {
+        for (int i = 0; i < 5; i++) {
+            add("Annabelle", "Number" + i);
+        }
+        Customer ann = add("Ann", "Other");
+
+        List<UUID> results = nameIndex.search("ann", 3);
+
+        assertEquals(3, results.size());
+        assertEquals(ann.getId(), results.get(0));
+    }
+
+    @Test
+    void testUpdateAndDelete_ReplaceIndexedNames() {
+        Customer customer = add("Maria", "Schmidt");
+        customer.setLastName("Meyer");
+        nameIndex.onCustomerChanged(CustomerChangedEvent.updated(customer));
+
+        assertTrue(nameIndex.search("schm", 10).isEmpty());
+        assertEquals(List.of(customer.getId()), nameIndex.search("mey", 10));
+
+        nameIndex.onCustomerChanged(CustomerChangedEvent.deleted(customer.getId(), 1L));
+
+        assertTrue(nameIndex.search("mar", 10).isEmpty());
+        NameIndexStats stats = nameIndex.stats();
+        assertEquals(0, stats.getCustomerCount());
+        assertEquals(1, stats.getNodeCount());
+    }
+
+    @Test
+    void testLoad_SkipsCustomersDeletedWhileLoading() {
+        CustomerRepository customerRepository = mock(CustomerRepository.class);
+        ReflectionTestUtils.setField(nameIndex, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(nameIndex, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(nameIndex, "ready", false);
+        UUID deleted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        nameIndex.onCustomerChanged(CustomerChangedEvent.deleted(deleted, 1L));
+        // The scan started before the delete committed, so it still returns the row
+        when(customerRepository.streamNames()).thenReturn(Stream.of(
+                new CustomerName(deleted, "Ada", "Lovelace"), new CustomerName(kept, "Ada", "Byron")));
+
+        nameIndex.load();
+
+        assertEquals(List.of(kept), nameIndex.search("ada", 10));
+        assertEquals(1, nameIndex.stats().getCustomerCount());
+    }
+}
@@ -1,8 +1,16 @@
 package com.customer.management.test.service;
 
+import com.customer.management.dto.CustomerPage;
+import com.customer.management.dto.CustomerSortOrder;
 import com.customer.management.entity.Customer;
+import com.customer.management.exception.PreconditionFailedException;
 import com.customer.management.exception.ResourceNotFoundException;
+import com.customer.management.event.CustomerChangedEvent;
 import com.customer.management.repository.CustomerRepository;
+import com.customer.management.service.CustomerCache;
+import com.customer.management.service.CustomerColumnStore;
+import com.customer.management.service.CustomerContactIndex;
+import com.customer.management.service.CustomerNameIndex;
 import com.customer.management.service.CustomerService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,11 +18,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,11 +39,30 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CustomerContactIndex contactIndex;
+
+    @Mock
+    private CustomerNameIndex nameIndex;
+
+    @Mock
+    private CustomerColumnStore columnStore;
+
     private Customer mockCustomer;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // Behave like a cache that always misses
+        when(customerCache.get(any(UUID.class), any())).thenAnswer(invocation ->
+                ((Function<UUID, Customer>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
 
         mockCustomer = new Customer();
         mockCustomer.setId(UUID.randomUUID());
@@ -59,6 +90,7 @@ class CustomerServiceTest {
         assertEquals("testemail@test.com", result.getEmailAddress());
         assertEquals("1234567890", result.getPhoneNumber());
         verify(customerRepository, times(1)).save(newCustomer);
+        verify(eventPublisher).publishEvent(any(CustomerChangedEvent.class));
     }
 
     @Test
@@ -75,7 +107,7 @@ class CustomerServiceTest {
 
     @Test
     void testGetAllCustomers() {
-        when(customerRepository.findAll()).thenReturn(Collections.singletonList(mockCustomer));
+        when(customerRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(Collections.singletonList(mockCustomer));
 
         List<Customer> result = customerService.getAllCustomers();
 
@@ -85,7 +117,51 @@ class CustomerServiceTest {
         assertEquals("Email", result.get(0).getLastName());
         assertEquals("testemail@test.com", result.get(0).getEmailAddress());
         assertEquals("1234567890", result.get(0).getPhoneNumber());
-        verify(customerRepository, times(1)).findAll();
+        verify(customerRepository, times(1)).findAllByOrderByIdAsc(argThat(p -> p.getPageNumber() == 0 && p.getPageSize() == 1000));
+        verify(customerRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetCustomerPage_ReturnsCursorWhenMoreRowsExist() {
+        Customer second = new Customer();
+        second.setId(UUID.randomUUID());
+        Customer third = new Customer();
+        third.setId(UUID.randomUUID());
+        when(customerRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(Arrays.asList(mockCustomer, second, third));
+
+        CustomerPage page = customerService.getCustomerPage(2, null, CustomerSortOrder.ID);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNext());
+        verify(customerRepository).findAllByOrderByIdAsc(argThat(p -> p.getPageNumber() == 0 && p.getPageSize() == 3));
+
+        when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(second.getId()), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(third));
+
+        CustomerPage nextPage = customerService.getCustomerPage(2, page.getNext(), CustomerSortOrder.ID);
+
+        assertEquals(1, nextPage.getItems().size());
+        assertNull(nextPage.getNext());
+    }
+
+    @Test
+    void testGetCustomerPage_ByName_UsesNameKeyset() {
+        mockCustomer.setLastName("Smith");
+        mockCustomer.setFirstName("Anna");
+        when(customerRepository.findFirstPageOrderByName(any(Pageable.class))).thenReturn(Arrays.asList(mockCustomer, new Customer()));
+
+        CustomerPage page = customerService.getCustomerPage(1, null, CustomerSortOrder.NAME);
+        customerService.getCustomerPage(1, page.getNext(), CustomerSortOrder.NAME);
+
+        verify(customerRepository).findNextPageOrderByName(eq("Smith"), eq("Anna"), eq(mockCustomer.getId()), any(Pageable.class));
+    }
+
+    @Test
+    void testGetCustomerPage_InvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> customerService.getCustomerPage(10, "not-a-cursor", CustomerSortOrder.ID));
+        assertThrows(IllegalArgumentException.class,
+                () -> customerService.getCustomerPage(0, null, CustomerSortOrder.ID));
     }
 
     @Test
@@ -102,6 +178,41 @@ class CustomerServiceTest {
         verify(customerRepository, times(1)).findById(mockCustomer.getId());
     }
 
+    @Test
+    void testGetCustomerById_CacheHit_SkipsRepository() {
+        when(customerCache.get(eq(mockCustomer.getId()), any())).thenReturn(mockCustomer);
+
+        Customer result = customerService.getCustomerById(mockCustomer.getId());
+
+        assertSame(mockCustomer, result);
+        verify(customerRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void testGetCustomerById_ColumnStoreHit_SkipsCacheAndRepository() {
+        when(columnStore.isReady()).thenReturn(true);
+        when(columnStore.get(mockCustomer.getId())).thenReturn(mockCustomer);
+
+        assertSame(mockCustomer, customerService.getCustomerById(mockCustomer.getId()));
+
+        verify(customerCache, never()).get(any(UUID.class), any());
+        verify(customerRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void testGetCustomerPage_ColumnStoreReady_PagesFromTheReplica() {
+        Customer second = new Customer();
+        second.setId(UUID.randomUUID());
+        when(columnStore.isReady()).thenReturn(true);
+        when(columnStore.firstById(2)).thenReturn(Arrays.asList(mockCustomer, second));
+
+        CustomerPage page = customerService.getCustomerPage(1, null, CustomerSortOrder.ID);
+
+        assertEquals(1, page.getItems().size());
+        assertNotNull(page.getNext());
+        verify(customerRepository, never()).findAllByOrderByIdAsc(any(Pageable.class));
+    }
+
     @Test
     void testGetCustomerById_NotFound_ThrowsException() {
         UUID invalidId = UUID.randomUUID();
@@ -124,15 +235,31 @@ class CustomerServiceTest {
         updatedCustomer.setEmailAddress("testemail@test.com");
         updatedCustomer.setPhoneNumber("1234567890");
 
-        when(customerRepository.findById(mockCustomer.getId())).thenReturn(Optional.of(mockCustomer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(updatedCustomer);
+        when(customerRepository.updateById(mockCustomer.getId(), updatedCustomer)).thenReturn(Optional.of(3L));
 
         Customer result = customerService.updateCustomer(mockCustomer.getId(), updatedCustomer);
 
         assertNotNull(result);
+        assertEquals(mockCustomer.getId(), result.getId());
+        assertEquals(3L, result.getVersion());
         assertEquals("Test1", result.getFirstName());
         assertEquals("Email1", result.getLastName());
-        verify(customerRepository, times(1)).save(mockCustomer);
+        verify(customerRepository, never()).findVersionById(any(UUID.class));
+        verify(customerRepository, never()).findById(any(UUID.class));
+        verify(customerRepository, never()).save(any(Customer.class));
+        verify(eventPublisher).publishEvent(CustomerChangedEvent.updated(result));
+    }
+
+    @Test
+    void testUpdateCustomer_WithVersion_UsesVersionedUpdate() {
+        Customer updatedCustomer = new Customer();
+
+        when(customerRepository.updateByIdAndVersion(mockCustomer.getId(), 5L, updatedCustomer)).thenReturn(1);
+
+        Customer result = customerService.updateCustomer(mockCustomer.getId(), updatedCustomer, 5L);
+
+        assertEquals(6L, result.getVersion());
+        verify(customerRepository, never()).updateById(any(UUID.class), any(Customer.class));
     }
 
     @Test
@@ -140,38 +267,47 @@ class CustomerServiceTest {
         UUID invalidId = UUID.randomUUID();
         Customer updatedCustomer = new Customer();
 
-        when(customerRepository.findById(invalidId)).thenReturn(Optional.empty());
+        when(customerRepository.updateById(invalidId, updatedCustomer)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             customerService.updateCustomer(invalidId, updatedCustomer);
         });
 
         assertEquals("Customer not found with ID: " + invalidId, exception.getMessage());
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testUpdateCustomer_StaleVersion_ThrowsException() {
+        when(customerRepository.updateByIdAndVersion(mockCustomer.getId(), 3L, mockCustomer)).thenReturn(0);
+        when(customerRepository.findVersionById(mockCustomer.getId())).thenReturn(Optional.of(4L));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> customerService.updateCustomer(mockCustomer.getId(), mockCustomer, 3L));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void testDeleteCustomer() {
-        when(customerRepository.findById(mockCustomer.getId())).thenReturn(Optional.of(mockCustomer));
-        doNothing().when(customerRepository).delete(mockCustomer);
+        when(customerRepository.deleteCustomerById(mockCustomer.getId())).thenReturn(1);
 
         customerService.deleteCustomer(mockCustomer.getId());
 
-        verify(customerRepository, times(1)).delete(mockCustomer);
+        verify(customerRepository, never()).findById(any(UUID.class));
+        verify(eventPublisher).publishEvent(CustomerChangedEvent.deleted(mockCustomer.getId(), null));
     }
 
     @Test
     void testDeleteCustomer_NotFound_ThrowsException() {
         UUID invalidId = UUID.randomUUID();
 
-        when(customerRepository.findById(invalidId)).thenReturn(Optional.empty());
+        when(customerRepository.deleteCustomerById(invalidId)).thenReturn(0);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             customerService.deleteCustomer(invalidId);
         });
 
         assertEquals("Customer not found with ID: " + invalidId, exception.getMessage());
-        verify(customerRepository, never()).delete(any(Customer.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
-
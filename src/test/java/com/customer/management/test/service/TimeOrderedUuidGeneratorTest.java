@@ -0,0 +1,78 @@
+package com.customer.management.test.service;
+
+import com.customer.management.entity.CustomerIdVersion;
+import com.customer.management.entity.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void generate_SetsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuidGenerator.shared().generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = TimeOrderedUuidGenerator.timestampMillis(id);
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1000, "timestamp " + timestamp);
+    }
+
+    @Test
+    void generate_KeepsIncreasingWhenTheClockStepsBackOrASequenceOverflows() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-60_000);
+            }
+            UUID next = generator.generate();
+            assertTrue(next.compareTo(previous) > 0, previous + " then " + next);
+            previous = next;
+        }
+        // 4096 ids per millisecond; overflowing the sequence borrows from the next milliseconds
+        assertEquals(1_700_000_000_002L, TimeOrderedUuidGenerator.timestampMillis(previous));
+    }
+
+    @Test
+    void generate_IsUniqueAndOrderedPerThreadUnderContention() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(System::currentTimeMillis);
+        List<CompletableFuture<List<UUID>>> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(CompletableFuture.supplyAsync(() -> {
+                List<UUID> ids = new ArrayList<>();
+                for (int i = 0; i < 50_000; i++) {
+                    ids.add(generator.generate());
+                }
+                return ids;
+            }));
+        }
+        Set<UUID> all = new HashSet<>();
+        for (CompletableFuture<List<UUID>> thread : threads) {
+            List<UUID> ids = thread.join();
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+            }
+            all.addAll(ids);
+        }
+        assertEquals(200_000, all.size());
+    }
+
+    @Test
+    void fromProperty_AcceptsEitherCaseAndRejectsUnknownVersions() {
+        assertEquals(CustomerIdVersion.V4, CustomerIdVersion.fromProperty("v4"));
+        assertEquals(CustomerIdVersion.V7, CustomerIdVersion.fromProperty(" V7 "));
+        assertEquals(4, CustomerIdVersion.V4.generate().version());
+        assertThrows(IllegalArgumentException.class, () -> CustomerIdVersion.fromProperty("v1"));
+    }
+}